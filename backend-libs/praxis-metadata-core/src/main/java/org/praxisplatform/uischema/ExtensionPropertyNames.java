@@ -0,0 +1,75 @@
+package org.praxisplatform.uischema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Índice dos nomes de propriedades da extensão <code>x-ui</code> definidos em {@link FieldConfigProperties}
+ * e {@link ValidationProperties}.
+ * <p>
+ * Permite localizar o nome canônico de uma propriedade a partir do nome da constante (<code>CONTROL_TYPE</code>),
+ * do nome em camelCase (<code>controlType</code>) ou de um nome de método equivalente, sem diferenciar
+ * maiúsculas de minúsculas. O índice é montado uma única vez; cada consulta é uma busca em mapa.
+ * Em caso de conflito, {@link FieldConfigProperties} tem precedência sobre {@link ValidationProperties}.
+ */
+public final class ExtensionPropertyNames {
+
+    private static final Map<String, String> NAMES;
+
+    static {
+        Map<String, String> names = new HashMap<>();
+        for (FieldConfigProperties property : FieldConfigProperties.values()) {
+            register(names, property.name(), property.getValue());
+        }
+        for (ValidationProperties property : ValidationProperties.values()) {
+            register(names, property.name(), property.getValue());
+        }
+        NAMES = Collections.unmodifiableMap(names);
+    }
+
+    private ExtensionPropertyNames() {
+    }
+
+    /**
+     * Procura o nome canônico da propriedade.
+     *
+     * @param name nome da constante, nome camelCase ou nome de método (por exemplo, "CONTROL_TYPE" ou "controltype")
+     * @return o valor da propriedade (por exemplo, "controlType") ou vazio se não houver correspondência
+     */
+    public static Optional<String> find(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(NAMES.get(normalize(name)));
+    }
+
+    /**
+     * Retorna o nome canônico da propriedade ou o próprio nome informado, se não houver correspondência.
+     *
+     * @param name nome a ser resolvido
+     * @return o nome canônico ou {@code name}
+     */
+    public static String resolve(String name) {
+        return find(name).orElse(name);
+    }
+
+    /**
+     * @param name nome a ser verificado
+     * @return se o nome corresponde a alguma propriedade conhecida
+     */
+    public static boolean isKnown(String name) {
+        return find(name).isPresent();
+    }
+
+    private static void register(Map<String, String> names, String constantName, String value) {
+        names.putIfAbsent(normalize(constantName), value);
+        names.putIfAbsent(normalize(value), value);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
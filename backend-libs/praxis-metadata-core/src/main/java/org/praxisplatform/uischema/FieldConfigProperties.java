@@ -185,6 +185,11 @@ public enum FieldConfigProperties {
      * seja "select" ou "combobox" para formulários de inclusão/alteração.
      */
     FILTER_CONTROL_TYPE("filterControlType"),
+    /**
+     * Operação de filtro aplicada ao campo (ex.: "STARTS_WITH"), conforme {@code @Filterable(operation = ...)}.
+     * Permite que o componente de filtro indique ao usuário como o valor informado será comparado.
+     */
+    FILTER_OPERATION("filterOperation"),
 
     // ----------------------------------------------------------
     // 11. Propriedades Específicas para Input Numérico
@@ -0,0 +1,46 @@
+package org.praxisplatform.uischema.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.praxisplatform.uischema.service.base.FilterResultCache;
+
+/**
+ * Publica no Micrometer as estatísticas do {@link FilterResultCache}.
+ * <ul>
+ *     <li><code>praxis.filter.results.requests{result=hit|miss}</code>: consultas atendidas ou não pelo cache;</li>
+ *     <li><code>praxis.filter.results.hit-ratio</code>: proporção de consultas atendidas pelo cache;</li>
+ *     <li><code>praxis.filter.results.evictions</code>: resultados descartados por tamanho ou expiração;</li>
+ *     <li><code>praxis.filter.results.size</code>: quantidade de resultados em cache.</li>
+ * </ul>
+ */
+public class FilterResultCacheMetrics implements MeterBinder {
+
+    private final FilterResultCache cache;
+
+    public FilterResultCacheMetrics(FilterResultCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("praxis.filter.results.requests", cache, c -> c.getStatistics().hits())
+                .tag("result", "hit")
+                .description("Consultas /filter atendidas pelo cache de resultados")
+                .register(registry);
+        FunctionCounter.builder("praxis.filter.results.requests", cache, c -> c.getStatistics().misses())
+                .tag("result", "miss")
+                .description("Consultas /filter executadas no banco")
+                .register(registry);
+        Gauge.builder("praxis.filter.results.hit-ratio", cache, c -> c.getStatistics().hitRatio())
+                .description("Proporção de consultas /filter atendidas pelo cache de resultados")
+                .register(registry);
+        FunctionCounter.builder("praxis.filter.results.evictions", cache, c -> c.getStatistics().evictions())
+                .description("Resultados descartados do cache por tamanho ou expiração")
+                .register(registry);
+        Gauge.builder("praxis.filter.results.size", cache, c -> c.getStatistics().size())
+                .description("Quantidade de resultados de /filter em cache")
+                .register(registry);
+    }
+}
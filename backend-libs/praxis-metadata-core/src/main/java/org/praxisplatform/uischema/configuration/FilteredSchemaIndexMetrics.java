@@ -0,0 +1,42 @@
+package org.praxisplatform.uischema.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.praxisplatform.uischema.controller.docs.FilteredSchemaIndex;
+
+/**
+ * Publica no Micrometer as estatísticas do {@link FilteredSchemaIndex}.
+ * <ul>
+ *     <li><code>praxis.schemas.filtered.requests{result=hit|miss}</code>: requisições atendidas ou não pelo índice;</li>
+ *     <li><code>praxis.schemas.filtered.rebuilds</code>: reconstruções causadas por regeneração do documento;</li>
+ *     <li><code>praxis.schemas.filtered.size</code>: quantidade de entradas indexadas.</li>
+ * </ul>
+ */
+public class FilteredSchemaIndexMetrics implements MeterBinder {
+
+    private final FilteredSchemaIndex index;
+
+    public FilteredSchemaIndexMetrics(FilteredSchemaIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("praxis.schemas.filtered.requests", index, i -> i.getStatistics().hits())
+                .tag("result", "hit")
+                .description("Requisições de /schemas/filtered atendidas pelo índice")
+                .register(registry);
+        FunctionCounter.builder("praxis.schemas.filtered.requests", index, i -> i.getStatistics().misses())
+                .tag("result", "miss")
+                .description("Requisições de /schemas/filtered que precisaram calcular o schema")
+                .register(registry);
+        FunctionCounter.builder("praxis.schemas.filtered.rebuilds", index, i -> i.getStatistics().rebuilds())
+                .description("Reconstruções do índice causadas por regeneração do documento OpenAPI")
+                .register(registry);
+        Gauge.builder("praxis.schemas.filtered.size", index, i -> i.getStatistics().size())
+                .description("Quantidade de schemas filtrados indexados")
+                .register(registry);
+    }
+}
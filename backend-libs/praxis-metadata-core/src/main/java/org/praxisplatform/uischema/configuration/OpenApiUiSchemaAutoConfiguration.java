@@ -2,20 +2,57 @@ package org.praxisplatform.uischema.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.praxisplatform.uischema.controller.docs.ApiDocsController;
+import org.praxisplatform.uischema.controller.docs.FilteredSchemaIndex;
+import org.praxisplatform.uischema.controller.docs.OpenApiDocumentSource;
+import org.praxisplatform.uischema.controller.docs.OpenApiWarmup;
+import org.praxisplatform.uischema.controller.docs.SchemaRefInliner;
+import org.praxisplatform.uischema.controller.docs.SnapshotOpenApiDocumentSource;
+import org.praxisplatform.uischema.controller.docs.SpringdocOpenApiDocumentSource;
 import org.praxisplatform.uischema.extension.CustomOpenApiResolver;
+import org.praxisplatform.uischema.filter.search.DatabaseSearchStrategy;
+import org.praxisplatform.uischema.filter.search.SearchStrategy;
 import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.service.base.BaseCrudService;
+import org.praxisplatform.uischema.service.base.EntityMetadata;
+import org.praxisplatform.uischema.service.base.FilterCountCache;
+import org.praxisplatform.uischema.service.base.FilterResultCache;
 import org.praxisplatform.uischema.util.OpenApiGroupResolver;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.providers.ObjectMapperProvider;
+import org.springdoc.webmvc.api.MultipleOpenApiResource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springdoc.core.models.GroupedOpenApi;
 
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 
 @AutoConfiguration
 public class OpenApiUiSchemaAutoConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiUiSchemaAutoConfiguration.class);
+
     @Bean(name = "openApiUiSchemaRestTemplate")
     @ConditionalOnMissingBean
     public RestTemplate restTemplate() {
@@ -35,9 +72,60 @@ public class OpenApiUiSchemaAutoConfiguration {
         return new CustomOpenApiResolver(mapper);
     }
 
+    /**
+     * Construtor de Specifications dos filtros. Com <code>praxis.filter.fetch-joins=true</code>, os relacionamentos
+     * to-one usados pelos filtros são carregados com fetch join na consulta de dados.
+     */
     @Bean(name = "openApiUiSchemaSpecificationsBuilder")
-    public <E> GenericSpecificationsBuilder<E> genericSpecificationsBuilder() {
-        return new GenericSpecificationsBuilder<>();
+    public <E> GenericSpecificationsBuilder<E> genericSpecificationsBuilder(
+            @Value("${praxis.filter.fetch-joins:false}") boolean fetchJoins, SearchStrategy searchStrategy) {
+        return new GenericSpecificationsBuilder<>(fetchJoins, searchStrategy);
+    }
+
+    /**
+     * Estratégia das buscas <code>FULL_TEXT</code>: funções nativas do banco quando suportadas, LIKE nos demais casos.
+     * Declare outro bean {@link SearchStrategy} (por exemplo, um
+     * {@link org.praxisplatform.uischema.filter.search.InvertedIndexSearchStrategy}) para substituí-la.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SearchStrategy searchStrategy(ObjectProvider<DataSource> dataSource) {
+        DataSource available = dataSource.getIfAvailable();
+        String productName = null;
+        if (available != null) {
+            try {
+                productName = JdbcUtils.extractDatabaseMetaData(available, DatabaseMetaData::getDatabaseProductName);
+            } catch (MetaDataAccessException e) {
+                // Sem acesso aos metadados, a busca usa LIKE
+            }
+        }
+        return new DatabaseSearchStrategy(productName);
+    }
+
+    /**
+     * Resolve na inicialização os {@link EntityMetadata metadados} (ordenação padrão, identificador e versão) das
+     * entidades de todos os serviços CRUD, evitando a reflexão na primeira requisição de cada entidade.
+     */
+    @Bean
+    public SmartInitializingSingleton entityMetadataWarmup(ObjectProvider<BaseCrudService<?, ?, ?, ?>> services) {
+        return () -> services.orderedStream()
+                .map(BaseCrudService::getEntityClass)
+                .filter(Objects::nonNull)
+                .forEach(EntityMetadata::of);
+    }
+
+    /**
+     * Cache dos totais das consultas <code>/filter/slice</code> (<code>praxis.filter.count-cache.enabled=true</code>).
+     * <code>ttl</code> (padrão 5m) define a validade de cada total, <code>max-size</code> (padrão 10000) a quantidade
+     * de filtros mantidos e <code>threads</code> (padrão 2) quantas contagens rodam ao mesmo tempo.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "praxis.filter.count-cache", name = "enabled", havingValue = "true")
+    public FilterCountCache filterCountCache(@Value("${praxis.filter.count-cache.ttl:5m}") Duration ttl,
+                                             @Value("${praxis.filter.count-cache.max-size:10000}") int maxSize,
+                                             @Value("${praxis.filter.count-cache.threads:2}") int threads) {
+        return new FilterCountCache(ttl, maxSize, threads);
     }
 
     @Bean
@@ -45,8 +133,166 @@ public class OpenApiUiSchemaAutoConfiguration {
         return new OpenApiGroupResolver(groupedOpenApis);
     }
 
+    /**
+     * Fonte dos documentos OpenAPI: snapshots gerados em build (<code>META-INF/praxis/schemas</code>), quando
+     * <code>praxis.schemas.snapshot.enabled=true</code> e o snapshot do grupo existir, e o springdoc nos demais casos.
+     * A leitura dos snapshots é opcional porque nada garante que um arquivo no classpath (esquecido em
+     * <code>target/classes</code> ou vindo de uma dependência) corresponda ao código em execução.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OpenApiDocumentSource openApiDocumentSource(ObjectProvider<MultipleOpenApiResource> multipleOpenApiResource,
+                                                      ObjectProvider<ObjectMapperProvider> objectMapperProvider,
+                                                      @Value("${praxis.schemas.snapshot.enabled:false}") boolean snapshotEnabled) {
+        OpenApiDocumentSource springdocSource = new SpringdocOpenApiDocumentSource(multipleOpenApiResource, objectMapperProvider);
+        if (!snapshotEnabled) {
+            return springdocSource;
+        }
+        return new SnapshotOpenApiDocumentSource(ClassUtils.getDefaultClassLoader(), new ObjectMapper(), springdocSource);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FilteredSchemaIndex filteredSchemaIndex(
+            @Value("${praxis.schemas.filtered.max-inline-depth:" + SchemaRefInliner.DEFAULT_MAX_DEPTH + "}") int maxInlineDepth) {
+        return new FilteredSchemaIndex(maxInlineDepth);
+    }
+
     @Bean
     public ApiDocsController apiDocsController() {
         return new ApiDocsController();
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class FilteredSchemaIndexMetricsConfiguration {
+
+        @Bean
+        public FilteredSchemaIndexMetrics filteredSchemaIndexMetrics(FilteredSchemaIndex filteredSchemaIndex) {
+            return new FilteredSchemaIndexMetrics(filteredSchemaIndex);
+        }
+    }
+
+    /**
+     * Aquecimento opcional dos grupos OpenAPI na inicialização (<code>praxis.openapi.warmup.enabled=true</code>).
+     * <code>praxis.openapi.warmup.threads</code> limita quantos grupos são gerados ao mesmo tempo
+     * (padrão: o menor valor entre 4 e o número de processadores).
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "praxis.openapi.warmup", name = "enabled", havingValue = "true")
+    static class OpenApiWarmupConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public OpenApiWarmup openApiWarmup(OpenApiDocumentSource openApiDocumentSource,
+                                           ApiDocsController apiDocsController,
+                                           ObjectProvider<GroupedOpenApi> groupedOpenApis,
+                                           @Value("${praxis.openapi.warmup.threads:0}") int threads) {
+            List<String> groups = groupedOpenApis.orderedStream().map(GroupedOpenApi::getGroup).distinct().toList();
+            int poolSize = threads > 0 ? threads : Math.min(4, Runtime.getRuntime().availableProcessors());
+            return new OpenApiWarmup(openApiDocumentSource, apiDocsController, groups, poolSize);
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(HealthIndicator.class)
+        static class OpenApiWarmupHealthConfiguration {
+
+            @Bean
+            public OpenApiWarmupHealthIndicator openApiWarmupHealthIndicator(OpenApiWarmup openApiWarmup) {
+                return new OpenApiWarmupHealthIndicator(openApiWarmup);
+            }
+        }
+    }
+
+    /**
+     * Cache opcional dos resultados de <code>/filter</code> (<code>praxis.filter.result-cache.enabled=true</code>).
+     * <code>ttl</code> (padrão 1m) define a validade de cada resultado e <code>max-size</code> (padrão 1000) a
+     * quantidade de resultados mantidos.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "praxis.filter.result-cache", name = "enabled", havingValue = "true")
+    static class FilterResultCacheConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public FilterResultCache filterResultCache(@Value("${praxis.filter.result-cache.ttl:1m}") Duration ttl,
+                                                   @Value("${praxis.filter.result-cache.max-size:1000}") int maxSize) {
+            return new FilterResultCache(ttl, maxSize);
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(MeterRegistry.class)
+        static class FilterResultCacheMetricsConfiguration {
+
+            @Bean
+            public FilterResultCacheMetrics filterResultCacheMetrics(FilterResultCache filterResultCache) {
+                return new FilterResultCacheMetrics(filterResultCache);
+            }
+        }
+    }
+
+    /**
+     * Detector de desenvolvimento de consultas N+1 (<code>praxis.jpa.statement-count.enabled=true</code>): registra
+     * um aviso quando uma requisição executa mais de <code>threshold</code> (padrão 10) comandos SQL. Substitui o
+     * <code>hibernate.session_factory.statement_inspector</code> configurado pela aplicação.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(StatementInspector.class)
+    @ConditionalOnProperty(prefix = "praxis.jpa.statement-count", name = "enabled", havingValue = "true")
+    static class StatementCountConfiguration {
+
+        @Bean
+        public StatementCountInspector statementCountInspector() {
+            return new StatementCountInspector();
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer statementCountHibernatePropertiesCustomizer(
+                StatementCountInspector statementCountInspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountInspector);
+        }
+
+        @Bean
+        public StatementCountFilter statementCountFilter(StatementCountInspector statementCountInspector,
+                                                         @Value("${praxis.jpa.statement-count.threshold:10}") int threshold) {
+            return new StatementCountFilter(statementCountInspector, threshold);
+        }
+    }
+
+    /**
+     * Agrupamento de comandos em lotes JDBC, usado pelas operações em lote (<code>POST/PUT /batch</code>):
+     * define <code>hibernate.jdbc.batch_size</code> (<code>praxis.jpa.batch-size</code>, padrão 50),
+     * <code>hibernate.order_inserts</code> e <code>hibernate.order_updates</code>, sem sobrescrever valores já
+     * configurados pela aplicação. Desative com <code>praxis.jpa.batching.enabled=false</code>.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HibernatePropertiesCustomizer.class)
+    @ConditionalOnProperty(prefix = "praxis.jpa.batching", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class JdbcBatchingConfiguration {
+
+        @Bean
+        public HibernatePropertiesCustomizer jdbcBatchingHibernatePropertiesCustomizer(
+                @Value("${praxis.jpa.batch-size:50}") int batchSize) {
+            return properties -> {
+                properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+                properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+                properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            };
+        }
+
+        /**
+         * Avisa, na inicialização, quais entidades dos serviços CRUD usam {@code GenerationType.IDENTITY}: seus
+         * inserts não são agrupados em lotes.
+         */
+        @Bean
+        public SmartInitializingSingleton identityGenerationWarning(ObjectProvider<BaseCrudService<?, ?, ?, ?>> services) {
+            return () -> services.orderedStream()
+                    .map(BaseCrudService::getEntityClass)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .filter(entityClass -> EntityMetadata.of(entityClass).isIdentityGenerated())
+                    .forEach(entityClass -> LOGGER.info("{} usa GenerationType.IDENTITY; os inserts em lote não serão "
+                            + "agrupados pelo JDBC (use SEQUENCE para habilitar)", entityClass.getSimpleName()));
+        }
+    }
 }
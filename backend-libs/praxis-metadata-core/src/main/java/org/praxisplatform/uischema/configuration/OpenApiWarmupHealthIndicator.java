@@ -0,0 +1,36 @@
+package org.praxisplatform.uischema.configuration;
+
+import org.praxisplatform.uischema.controller.docs.OpenApiWarmup;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Health indicator do aquecimento dos documentos OpenAPI ({@link OpenApiWarmup}).
+ * <p>
+ * Fica <code>OUT_OF_SERVICE</code> até que todos os grupos tenham sido gerados e <code>UP</code> depois disso,
+ * mesmo que algum grupo tenha falhado (as falhas são listadas nos detalhes). Para condicionar o tráfego ao
+ * aquecimento, inclua-o no grupo de readiness:
+ * <code>management.endpoint.health.group.readiness.include=readinessState,openApiWarmup</code>.
+ */
+public class OpenApiWarmupHealthIndicator implements HealthIndicator {
+
+    private final OpenApiWarmup warmup;
+
+    public OpenApiWarmupHealthIndicator(OpenApiWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Health health() {
+        OpenApiWarmup.Status status = warmup.getStatus();
+        Health.Builder builder = status.completed() ? Health.up() : Health.outOfService();
+        builder.withDetail("groups", status.groups())
+                .withDetail("warmedGroups", status.warmedGroups())
+                .withDetail("schemas", status.schemas())
+                .withDetail("durationMs", status.duration().toMillis());
+        if (!status.failures().isEmpty()) {
+            builder.withDetail("failures", status.failures());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,62 @@
+package org.praxisplatform.uischema.configuration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro de desenvolvimento que registra um aviso quando uma requisição executa mais comandos SQL que o limite
+ * configurado, sintoma típico de consultas N+1 (ver {@code @FetchPlan}).
+ *
+ * <p>Conta apenas os comandos da thread da requisição até o fim do despacho inicial (ver
+ * {@link StatementCountInspector}). Em <code>GET /all/stream</code> as linhas são lidas depois, na thread do
+ * processamento assíncrono, e a contagem total de <code>/filter</code> pode ser executada no executor do
+ * <code>FilterCountCache</code>; esses comandos ficam fora do total.</p>
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final StatementCountInspector inspector;
+    private final int threshold;
+
+    /**
+     * @param inspector contador de comandos registrado no Hibernate
+     * @param threshold quantidade máxima de comandos por requisição sem aviso
+     */
+    public StatementCountFilter(StatementCountInspector inspector, int threshold) {
+        this.inspector = inspector;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        inspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = inspector.end();
+            if (count > threshold) {
+                onThresholdExceeded(request, count);
+            }
+        }
+    }
+
+    /**
+     * Chamado quando a requisição excede o limite. O padrão registra um aviso no log.
+     *
+     * @param request requisição
+     * @param count   quantidade de comandos executados
+     */
+    protected void onThresholdExceeded(HttpServletRequest request, int count) {
+        LOGGER.warn("{} {} executou {} comandos SQL (limite: {}); verifique consultas N+1 ou declare um @FetchPlan",
+                request.getMethod(), request.getRequestURI(), count, threshold);
+    }
+}
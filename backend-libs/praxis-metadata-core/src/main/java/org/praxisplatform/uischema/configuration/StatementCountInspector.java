@@ -0,0 +1,44 @@
+package org.praxisplatform.uischema.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * {@link StatementInspector} do Hibernate que conta os comandos SQL preparados pela thread atual entre
+ * {@link #begin()} e {@link #end()}. Usado pelo {@link StatementCountFilter} para detectar requisições com
+ * consultas N+1.
+ *
+ * <p>A contagem é mantida em um {@link ThreadLocal} e não é propagada para outras threads: comandos executados
+ * fora da thread que chamou {@link #begin()} (o corpo de um <code>StreamingResponseBody</code>, a contagem
+ * assíncrona do <code>FilterCountCache</code> ou qualquer outro executor) não são contados.</p>
+ */
+public class StatementCountInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> counter = new ThreadLocal<>();
+
+    /**
+     * Inicia a contagem na thread atual.
+     */
+    public void begin() {
+        counter.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem na thread atual.
+     *
+     * @return quantidade de comandos desde {@link #begin()} (0 se a contagem não foi iniciada)
+     */
+    public int end() {
+        int[] count = counter.get();
+        counter.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counter.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
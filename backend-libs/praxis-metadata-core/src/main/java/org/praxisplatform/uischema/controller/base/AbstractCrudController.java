@@ -1,27 +1,62 @@
 package org.praxisplatform.uischema.controller.base;
 
 import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.CursorPage;
+import org.praxisplatform.uischema.filter.specification.FilterSlice;
 import org.praxisplatform.uischema.rest.response.RestApiResponse;
 import org.praxisplatform.uischema.service.base.BaseCrudService;
+import org.praxisplatform.uischema.service.base.BatchItemResult;
+import org.praxisplatform.uischema.service.base.DtoProjection;
+import org.praxisplatform.uischema.service.base.EntityMetadata;
+import org.praxisplatform.uischema.service.base.TotalCountMode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Classe abstrata genérica para padronizar controllers de CRUD com HATEOAS e RestApiResponse.
@@ -52,6 +87,46 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
     // ------------------------------------------------------------------------
     public final String SCHEMAS_FILTERED_PATH = "/schemas/filtered";
 
+    // ------------------------------------------------------------------------
+    // Tamanho máximo de página na paginação por cursor.
+    // ------------------------------------------------------------------------
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    // ------------------------------------------------------------------------
+    // Cabeçalho com a quantidade de registros removidos em DELETE /batch.
+    // ------------------------------------------------------------------------
+    public static final String DELETED_COUNT_HEADER = "X-Deleted-Count";
+
+    // ------------------------------------------------------------------------
+    // Quantidade máxima de itens aceita em POST, PUT e DELETE /batch.
+    // ------------------------------------------------------------------------
+    @Value("${praxis.crud.batch.max-size:1000}")
+    private int batchMaxSize = 1000;
+
+    // ------------------------------------------------------------------------
+    // Linhas lidas do banco por vez (e intervalo de flush) em /all/stream.
+    // ------------------------------------------------------------------------
+    @Value("${praxis.crud.stream.batch-size:500}")
+    private int streamBatchSize = 500;
+
+    @Autowired
+    private ObjectProvider<ObjectMapper> objectMapperProvider;
+
+    // ------------------------------------------------------------------------
+    // Links emitidos em cada item das listagens (ALL, SELF ou NONE).
+    // ------------------------------------------------------------------------
+    @Value("${praxis.hateoas.item-links:ALL}")
+    private ItemLinksMode itemLinks = ItemLinksMode.ALL;
+
+    // ------------------------------------------------------------------------
+    // Cabeçalho Prefer (RFC 7240) aceito em PATCH /{id} (return=minimal).
+    // ------------------------------------------------------------------------
+    private static final String PREFER_HEADER = "Prefer";
+
+    private Class<D> dtoClass;
+
+    private static final String BASE_HREF_ATTRIBUTE = AbstractCrudController.class.getName() + ".baseHref.";
+
     /**
      * Retorna o serviço base (CRUD) que será usado internamente.
      */
@@ -69,7 +144,7 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
 
     /**
      * Retorna a classe concreta do controller (ex.: TipoTelefoneController.class)
-     * para uso no método methodOn(...) do HATEOAS.
+     * usada para resolver a URI base dos links HATEOAS.
      *
      * <p>Fornece uma implementação padrão baseada em {@link #getClass()},
      * mas pode ser sobrescrito caso o comportamento padrão não seja
@@ -80,6 +155,19 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         return (Class<? extends AbstractCrudController<E, D, ID, FD>>) getClass();
     }
 
+    /**
+     * Retorna a classe do DTO, usada para converter o resultado de um JSON Merge Patch. O padrão resolve o
+     * parâmetro genérico <code>D</code> da subclasse; sobrescreva se ele não puder ser resolvido.
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<D> getDtoClass() {
+        if (dtoClass == null) {
+            Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(getClass(), AbstractCrudController.class);
+            dtoClass = arguments == null ? null : (Class<D>) arguments[1];
+        }
+        return dtoClass;
+    }
+
     /**
      * Extrai o identificador (ex.: entity.getId()) para montar links e location.
      */
@@ -137,9 +225,10 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
             @RequestBody FD filterDTO,
             Pageable pageable
     ) {
-        Page<E> page = getService().filter(filterDTO, pageable);
-
-        Page<EntityModel<D>> entityModels = page.map(entity -> toEntityModel(toDto(entity)));
+        // Com projeção configurada no serviço, os DTOs são lidos diretamente das colunas, sem carregar entidades
+        Page<EntityModel<D>> entityModels = getService().isProjectionEnabled()
+                ? getService().filterProjected(filterDTO, pageable).map(this::toEntityModel)
+                : getService().filter(filterDTO, pageable).map(entity -> toEntityModel(toDto(entity)));
 
         Links links = Links.of(
                 linkToAll(),
@@ -151,6 +240,108 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Endpoint para filtrar entidades sem a contagem obrigatória de registros.
+     *
+     * @param filterDTO DTO de filtro
+     * @param total     como obter o total: <code>NONE</code> (padrão), <code>PARALLEL</code> ou <code>ESTIMATED</code>
+     * @param pageable  Informações de paginação
+     * @return Fatia de entidades filtradas, com o total quando solicitado e disponível
+     */
+    @PostMapping("/filter/slice")
+    @Operation(
+            summary = "Filtrar registros sem contagem",
+            description = "Aplica filtros aos registros e retorna apenas a página solicitada e se há próxima página. " +
+                    "Com total=PARALLEL o total é calculado em paralelo e mantido em cache por filtro; com " +
+                    "total=ESTIMATED é retornado apenas o total já em cache (possivelmente defasado).",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Fatia de registros filtrados retornada com sucesso.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = RestApiResponse.class)
+                            )
+                    )
+            }
+    )
+    public ResponseEntity<RestApiResponse<FilterSlice<EntityModel<D>>>> filterSlice(
+            @RequestBody FD filterDTO,
+            @RequestParam(defaultValue = "NONE") TotalCountMode total,
+            Pageable pageable
+    ) {
+        FilterSlice<E> slice = getService().filterSlice(filterDTO, pageable, total);
+
+        FilterSlice<EntityModel<D>> entityModels = slice.map(entity -> toEntityModel(toDto(entity)));
+
+        Links links = Links.of(
+                linkToAll(),
+                linkToUiSchema("/filter/slice", "post", "request"),
+                linkToUiSchema("/filter/slice", "post", "response")
+        );
+
+        var response = RestApiResponse.success(entityModels, links);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint para filtrar entidades com paginação por cursor (keyset).
+     *
+     * @param filterDTO DTO de filtro
+     * @param cursor    token da próxima página retornado pela chamada anterior (ausente na primeira página)
+     * @param size      quantidade de registros por página (máximo {@value #MAX_CURSOR_PAGE_SIZE})
+     * @param sort      ordenação; se ausente, usa a ordenação padrão da entidade
+     * @return Página de entidades filtradas e o token da próxima página
+     */
+    @PostMapping("/filter/cursor")
+    @Operation(
+            summary = "Filtrar registros por cursor",
+            description = "Aplica filtros aos registros e pagina por chave: cada resposta traz em 'next' o token " +
+                    "opaco da próxima página, a ser enviado no parâmetro 'cursor'. Não calcula o total de registros.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Página de registros filtrados retornada com sucesso.",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = RestApiResponse.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Cursor inválido para a ordenação informada ou tamanho de página inválido."
+                    )
+            }
+    )
+    public ResponseEntity<RestApiResponse<CursorPage<EntityModel<D>>>> filterByCursor(
+            @RequestBody FD filterDTO,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort
+    ) {
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CursorPage<E> page;
+        try {
+            page = getService().filterByCursor(filterDTO, sort, cursor, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CursorPage<EntityModel<D>> entityModels = page.map(entity -> toEntityModel(toDto(entity)));
+
+        Links links = Links.of(
+                linkToAll(),
+                linkToUiSchema("/filter/cursor", "post", "request"),
+                linkToUiSchema("/filter/cursor", "post", "response")
+        );
+
+        var response = RestApiResponse.success(entityModels, links);
+        return ResponseEntity.ok(response);
+    }
+
     // -------------------------------------------------------------------------
     // Métodos de CRUD
     // -------------------------------------------------------------------------
@@ -158,10 +349,11 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
     @GetMapping("/all")
     @Operation(summary = "Listar todos os registros", description = "Retorna todos os registros.")
     public ResponseEntity<RestApiResponse<List<EntityModel<D>>>> getAll() {
-        List<E> entities = getService().findAll();
+        List<D> dtos = getService().isProjectionEnabled()
+                ? getService().findAllProjected()
+                : getService().findAll().stream().map(this::toDto).toList();
 
-        List<EntityModel<D>> entityModels = entities.stream()
-                .map(this::toDto)
+        List<EntityModel<D>> entityModels = dtos.stream()
                 .map(this::toEntityModel)
                 .toList();
 
@@ -174,6 +366,86 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/all/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Listar todos os registros em streaming",
+            description = "Retorna todos os registros lendo e escrevendo em blocos, sem carregar a tabela inteira em "
+                    + "memória. Por padrão escreve NDJSON (um objeto JSON por linha); com Accept: application/json "
+                    + "escreve um array JSON. Os itens não trazem links HATEOAS."
+    )
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ObjectWriter writer = getObjectMapper().writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (acceptsOnlyJson(accept)) {
+            StreamingResponseBody body = out -> {
+                try (SequenceWriter sequence = writer.writeValuesAsArray(out)) {
+                    forEachDto(sequence::write, sequence::flush);
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        StreamingResponseBody body = out -> forEachDto(dto -> {
+            writer.writeValue(out, dto);
+            out.write('\n');
+        }, out::flush);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private static boolean acceptsOnlyJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        return accepted.stream().anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_JSON))
+                && accepted.stream().noneMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    /**
+     * Percorre todos os DTOs em blocos de {@code praxis.crud.stream.batch-size}, usando a projeção do serviço
+     * quando habilitada, e executa {@code flush} ao fim de cada bloco.
+     */
+    private void forEachDto(StreamWriter<D> write, StreamFlush flush) throws IOException {
+        int batchSize = Math.max(1, streamBatchSize);
+        int[] count = {0};
+        Consumer<D> action = dto -> {
+            try {
+                write.write(dto);
+                if (++count[0] % batchSize == 0) {
+                    flush.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            if (getService().isProjectionEnabled()) {
+                getService().forEachProjected(batchSize, action);
+            } else {
+                getService().forEachEntity(batchSize, entity -> action.accept(toDto(entity)));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        flush.flush();
+    }
+
+    private ObjectMapper getObjectMapper() {
+        ObjectMapper objectMapper = objectMapperProvider == null ? null : objectMapperProvider.getIfUnique();
+        return objectMapper != null ? objectMapper : new ObjectMapper().findAndRegisterModules();
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter<T> {
+        void write(T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface StreamFlush {
+        void flush() throws IOException;
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Buscar registro por ID",
@@ -241,6 +513,67 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         return ResponseEntity.created(selfLink.toUri()).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Criar registros em lote",
+            description = "Cria vários registros em uma única transação, com inserts agrupados em lotes JDBC. "
+                    + "Retorna um resultado por item, na ordem recebida. Listas vazias ou acima de "
+                    + "praxis.crud.batch.max-size itens retornam 400."
+    )
+    public ResponseEntity<RestApiResponse<List<EntityModel<BatchItemResult<ID, D>>>>> createBatch(
+            @RequestBody List<D> dtos) {
+        if (!isValidBatch(dtos)) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<E> entities = dtos.stream().map(this::toEntity).toList();
+        List<BatchItemResult<ID, D>> results = getService().saveAll(entities, entity ->
+                new BatchItemResult<>(BatchItemResult.Status.CREATED, getEntityId(entity), toDto(entity)));
+
+        Links links = Links.of(
+                linkToAll(),
+                linkToFilter(),
+                linkToUiSchema("/batch", "post", "request")
+        );
+
+        var response = RestApiResponse.success(results.stream().map(this::toBatchItemModel).toList(), links);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/batch")
+    @Operation(
+            summary = "Atualizar registros em lote",
+            description = "Atualiza vários registros, identificados pelo ID de cada DTO, em uma única transação. "
+                    + "Retorna um resultado por ID; IDs inexistentes retornam NOT_FOUND sem impedir os demais. "
+                    + "Listas vazias, acima de praxis.crud.batch.max-size itens ou com DTOs sem ID retornam 400."
+    )
+    public ResponseEntity<RestApiResponse<List<EntityModel<BatchItemResult<ID, D>>>>> updateBatch(
+            @RequestBody List<D> dtos) {
+        if (!isValidBatch(dtos) || dtos.stream().map(this::getDtoId).anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Map<ID, E> updates = new LinkedHashMap<>();
+        for (D dto : dtos) {
+            updates.put(getDtoId(dto), toEntity(dto));
+        }
+        List<BatchItemResult<ID, D>> results = getService().updateAll(updates, this::toDto);
+
+        Links links = Links.of(
+                linkToAll(),
+                linkToFilter(),
+                linkToUiSchema("/batch", "put", "request")
+        );
+
+        var response = RestApiResponse.success(results.stream().map(this::toBatchItemModel).toList(), links);
+        return ResponseEntity.ok(response);
+    }
+
+    private EntityModel<BatchItemResult<ID, D>> toBatchItemModel(BatchItemResult<ID, D> result) {
+        if (result.status() == BatchItemResult.Status.NOT_FOUND || itemLinks == ItemLinksMode.NONE) {
+            return EntityModel.of(result);
+        }
+        return EntityModel.of(result, linkToSelf(result.id()));
+    }
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Atualizar registro existente",
@@ -286,6 +619,115 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Atualizar parcialmente registro existente",
+            description = "Aplica um JSON Merge Patch (RFC 7386): apenas os campos presentes no corpo são alterados e "
+                    + "campos com null são limpos. Quando o serviço habilita a alteração direcionada e todos os campos "
+                    + "correspondem a atributos liberados por ele, executa um UPDATE apenas das colunas alteradas, "
+                    + "sem carregar o registro. A versão esperada pode ser "
+                    + "informada em If-Match ou no campo de versão do DTO; versões divergentes retornam 409. Com "
+                    + "'Prefer: return=minimal' a resposta é 204, sem reler o registro.",
+            parameters = {
+                    @Parameter(
+                            name = "id",
+                            description = "ID do registro a ser atualizado",
+                            required = true,
+                            example = "123"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Registro atualizado com sucesso."
+                    ),
+                    @ApiResponse(
+                            responseCode = "204",
+                            description = "Registro atualizado (Prefer: return=minimal)."
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Registro não encontrado para o ID fornecido."
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "O registro foi alterado desde a versão informada."
+                    )
+            }
+    )
+    public ResponseEntity<RestApiResponse<D>> patch(
+            @PathVariable ID id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = PREFER_HEADER, required = false) String prefer) {
+        if (patch == null || !patch.isObject()) {
+            return ResponseEntity.badRequest().build();
+        }
+        BaseCrudService<E, D, ID, FD> service = getService();
+        ObjectMapper objectMapper = getObjectMapper();
+        MergePatch.Plan plan = planPatch((ObjectNode) patch, ifMatch, objectMapper);
+
+        E updatedEntity;
+        if (plan.targeted() && service.isTargetedUpdateEnabled(plan.changes().keySet())) {
+            service.updateAttributes(id, plan.changes(), plan.expectedVersion());
+            if (prefer != null && prefer.contains("return=minimal")) {
+                return ResponseEntity.noContent().build();
+            }
+            updatedEntity = service.findById(id);
+        } else {
+            E existing = service.findById(id);
+            checkVersion(existing, plan.expectedVersion());
+            D patchedDto;
+            try {
+                patchedDto = objectMapper.treeToValue(
+                        MergePatch.apply(objectMapper.valueToTree(toDto(existing)), patch), getDtoClass());
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            updatedEntity = service.update(id, toEntity(patchedDto));
+        }
+        D updatedDto = toDto(updatedEntity);
+
+        Links links = Links.of(
+                linkToSelf(id),
+                linkToAll(),
+                linkToFilter(),
+                linkToUpdate(id),
+                linkToDelete(id),
+                linkToUiSchema("/{id}", "patch", "request")
+        );
+
+        var response = RestApiResponse.success(updatedDto, links);
+        return ResponseEntity.ok(response);
+    }
+
+    private MergePatch.Plan planPatch(ObjectNode patch, String ifMatch, ObjectMapper objectMapper) {
+        BaseCrudService<E, D, ID, FD> service = getService();
+        EntityManager entityManager = service.getEntityManager();
+        Map<String, String> propertyPaths = null;
+        if (entityManager != null && getDtoClass() != null) {
+            try {
+                propertyPaths = DtoProjection.of(entityManager.getMetamodel(), service.getEntityClass(), getDtoClass())
+                        .getPropertyPaths();
+            } catch (IllegalArgumentException e) {
+                // DTO sem correspondência com a entidade: o patch é aplicado sobre o registro carregado
+            }
+        }
+        return MergePatch.plan(patch, ifMatch, propertyPaths,
+                entityManager == null ? null : entityManager.getMetamodel(), service.getEntityClass(), objectMapper);
+    }
+
+    private void checkVersion(E entity, Object expectedVersion) {
+        String versionAttribute = EntityMetadata.of(getService().getEntityClass()).getVersionAttributeName();
+        if (expectedVersion == null || versionAttribute == null) {
+            return;
+        }
+        Object currentVersion = new DirectFieldAccessor(entity).getPropertyValue(versionAttribute);
+        if (!String.valueOf(expectedVersion).equals(String.valueOf(currentVersion))) {
+            throw new OptimisticLockException("Registro alterado por outra transação");
+        }
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Excluir registro",
@@ -321,21 +763,30 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
             responses = {
                     @ApiResponse(
                             responseCode = "204",
-                            description = "Registros excluídos com sucesso."
+                            description = "Registros excluídos com sucesso. O cabeçalho " + DELETED_COUNT_HEADER
+                                    + " informa quantos registros foram removidos."
                     ),
                     @ApiResponse(
                             responseCode = "400",
-                            description = "Lista de IDs vazia ou nula."
+                            description = "Lista de IDs vazia, nula ou com mais de praxis.crud.batch.max-size itens."
                     )
             }
     )
     public ResponseEntity<Void> deleteBatch(@RequestBody List<ID> ids) {
-        if (ids == null || ids.isEmpty()) {
+        if (!isValidBatch(ids)) {
             return ResponseEntity.badRequest().build();
         }
 
-        getService().deleteAllById(ids);
-        return ResponseEntity.noContent().build();
+        long deleted = getService().deleteAllById(ids);
+        return ResponseEntity.noContent().header(DELETED_COUNT_HEADER, String.valueOf(deleted)).build();
+    }
+
+    /**
+     * Verifica se o corpo de um endpoint <code>/batch</code> é uma lista não vazia com no máximo
+     * <code>praxis.crud.batch.max-size</code> itens.
+     */
+    private boolean isValidBatch(List<?> items) {
+        return items != null && !items.isEmpty() && items.size() <= batchMaxSize;
     }
 
     @GetMapping(SCHEMAS_PATH)
@@ -378,7 +829,13 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
     // Métodos auxiliares de HATEOAS
     // -------------------------------------------------------------------------
     protected EntityModel<D> toEntityModel(D dto) {
+        if (itemLinks == ItemLinksMode.NONE) {
+            return EntityModel.of(dto);
+        }
         ID id = getDtoId(dto);
+        if (itemLinks == ItemLinksMode.SELF) {
+            return EntityModel.of(dto, linkToSelf(id));
+        }
         return EntityModel.of(
                 dto,
                 linkToSelf(id),
@@ -388,58 +845,69 @@ public abstract class AbstractCrudController<E, D, ID, FD extends GenericFilterD
         );
     }
 
+    /**
+     * URI base dos recursos do controller (ex.: <code>http://host/api/funcionarios</code>), resolvida uma única vez
+     * por requisição e reutilizada pelos links de todos os itens, que são montados por concatenação do id em vez de
+     * um proxy <code>methodOn</code> por link.
+     */
+    protected String getResourceBaseHref() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return WebMvcLinkBuilder.linkTo(getControllerClass()).toUri().toString();
+        }
+        String key = BASE_HREF_ATTRIBUTE + getControllerClass().getName();
+        String baseHref = (String) attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        if (baseHref == null) {
+            baseHref = WebMvcLinkBuilder.linkTo(getControllerClass()).toUri().toString();
+            attributes.setAttribute(key, baseHref, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseHref;
+    }
+
+    private String itemHref(ID id) {
+        return getResourceBaseHref() + "/" + UriUtils.encodePathSegment(String.valueOf(id), StandardCharsets.UTF_8);
+    }
+
     /**
      * Link para GET /{id}.
      */
     protected Link linkToSelf(ID id) {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).getById(id)
-        ).withSelfRel();
+        return Link.of(itemHref(id), IanaLinkRelations.SELF);
     }
 
     /**
      * Link para GET /all.
      */
     protected Link linkToAll() {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).getAll()
-        ).withRel("all");
+        return Link.of(getResourceBaseHref() + "/all", "all");
     }
 
     /**
      * Link para GET /filter.
      */
     protected Link linkToFilter() {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).filter(null, null)
-        ).withRel("filter");
+        return Link.of(getResourceBaseHref() + "/filter", "filter");
     }
 
     /**
      * Link para POST /.
      */
     protected Link linkToCreate() {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).create(null)
-        ).withRel("create");
+        return Link.of(getResourceBaseHref(), "create");
     }
 
     /**
      * Link para PUT /{id}.
      */
     protected Link linkToUpdate(ID id) {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).update(id, null)
-        ).withRel("update");
+        return Link.of(itemHref(id), "update");
     }
 
     /**
      * Link para DELETE /{id}.
      */
     protected Link linkToDelete(ID id) {
-        return WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(getControllerClass()).delete(id)
-        ).withRel("delete");
+        return Link.of(itemHref(id), "delete");
     }
 
     /**
@@ -0,0 +1,24 @@
+package org.praxisplatform.uischema.controller.base;
+
+/**
+ * Quais links HATEOAS acompanham cada item das listagens do {@link AbstractCrudController}
+ * (<code>/all</code>, <code>/filter</code>, <code>/filter/slice</code> e <code>/filter/cursor</code>).
+ * Configurado por <code>praxis.hateoas.item-links</code>.
+ */
+public enum ItemLinksMode {
+
+    /**
+     * <code>self</code>, <code>create</code>, <code>update</code> e <code>delete</code> em cada item (padrão).
+     */
+    ALL,
+
+    /**
+     * Apenas o link <code>self</code>.
+     */
+    SELF,
+
+    /**
+     * Nenhum link por item; apenas os links da resposta são emitidos.
+     */
+    NONE
+}
@@ -0,0 +1,203 @@
+package org.praxisplatform.uischema.controller.base;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.praxisplatform.uischema.service.base.EntityMetadata;
+import org.springframework.util.ClassUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON Merge Patch (RFC 7386) usado por {@link AbstractCrudController#patch}.
+ *
+ * <p>Além de aplicar o patch sobre o JSON do registro, traduz os campos do patch (campos do DTO) para caminhos da
+ * entidade, permitindo alterar apenas as colunas modificadas (ver
+ * {@link org.praxisplatform.uischema.service.base.BaseCrudService#updateAttributes}).</p>
+ */
+final class MergePatch {
+
+    static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    /**
+     * Alterações de um patch traduzidas para a entidade.
+     *
+     * @param changes         novos valores por caminho da entidade, convertidos para o tipo do atributo
+     * @param expectedVersion versão esperada (cabeçalho <code>If-Match</code> ou campo de versão do patch), ou
+     *                        <code>null</code>
+     * @param targeted        se todos os campos do patch foram traduzidos; caso contrário o patch deve ser aplicado
+     *                        sobre o registro carregado
+     */
+    record Plan(Map<String, Object> changes, Object expectedVersion, boolean targeted) {
+    }
+
+    private MergePatch() {
+    }
+
+    /**
+     * Aplica o patch sobre o documento: campos <code>null</code> são removidos, objetos são combinados
+     * recursivamente e os demais valores substituem os existentes.
+     *
+     * @param target documento original (não é alterado)
+     * @param patch  patch recebido
+     * @return o documento resultante
+     */
+    static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch.deepCopy();
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Traduz o patch para caminhos da entidade. O patch só é direcionado quando todos os seus campos correspondem a
+     * atributos simples, embutidos ou ao identificador de uma associação to-one; o identificador da entidade é
+     * ignorado (vale o da URL) e o campo de versão vira a versão esperada.
+     *
+     * @param patch         patch recebido
+     * @param ifMatch       valor do cabeçalho <code>If-Match</code>, ou <code>null</code>
+     * @param propertyPaths caminho da entidade por campo do DTO, ou <code>null</code> se o DTO não puder ser mapeado
+     * @param metamodel     metamodelo JPA, ou <code>null</code> se indisponível
+     * @param entityClass   classe da entidade
+     * @param objectMapper  conversor dos valores do patch
+     * @return as alterações traduzidas
+     */
+    static Plan plan(ObjectNode patch, String ifMatch, Map<String, String> propertyPaths, Metamodel metamodel,
+                     Class<?> entityClass, ObjectMapper objectMapper) {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        Object expectedVersion = parseETag(ifMatch);
+        if (propertyPaths == null || metamodel == null) {
+            return new Plan(Map.of(), expectedVersion, false);
+        }
+        Map<String, JsonNode> leaves = new LinkedHashMap<>();
+        boolean targeted = flatten(patch, "", propertyPaths, leaves);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> leaf : leaves.entrySet()) {
+            String entityPath = propertyPaths.get(leaf.getKey());
+            Class<?> type = entityPath == null ? null : attributeType(metamodel, entityClass, entityPath);
+            JsonNode value = leaf.getValue();
+            if (type == null || (value.isNull() && type.isPrimitive())) {
+                targeted = false;
+                continue;
+            }
+            try {
+                Object converted = value.isNull() ? null
+                        : objectMapper.treeToValue(value, ClassUtils.resolvePrimitiveIfNecessary(type));
+                if (entityPath.equals(metadata.getVersionAttributeName())) {
+                    if (expectedVersion == null) {
+                        expectedVersion = converted;
+                    }
+                } else if (!entityPath.equals(metadata.getIdAttributeName())) {
+                    changes.put(entityPath, converted);
+                }
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                targeted = false;
+            }
+        }
+        if (expectedVersion instanceof String version && metadata.getVersionAttributeName() != null) {
+            Class<?> versionType = attributeType(metamodel, entityClass, metadata.getVersionAttributeName());
+            try {
+                expectedVersion = objectMapper.convertValue(version,
+                        ClassUtils.resolvePrimitiveIfNecessary(versionType));
+            } catch (IllegalArgumentException e) {
+                targeted = false;
+            }
+        }
+        return new Plan(changes, expectedVersion, targeted && !changes.isEmpty());
+    }
+
+    private static boolean flatten(ObjectNode node, String prefix, Map<String, String> propertyPaths,
+                                   Map<String, JsonNode> leaves) {
+        boolean complete = true;
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String property = prefix + field.getKey();
+            JsonNode value = field.getValue();
+            if (value.isObject() && propertyPaths.keySet().stream().anyMatch(path -> path.startsWith(property + "."))) {
+                complete &= flatten((ObjectNode) value, property + ".", propertyPaths, leaves);
+            } else if (value.isContainerNode()) {
+                complete = false;
+            } else {
+                leaves.put(property, value);
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * @return o tipo Java do atributo no caminho, ou <code>null</code> se o caminho atravessar uma coleção ou um
+     * atributo de associação que não seja o identificador
+     */
+    private static Class<?> attributeType(Metamodel metamodel, Class<?> entityClass, String path) {
+        String[] segments = path.split("\\.");
+        ManagedType<?> type = metamodel.managedType(entityClass);
+        for (int i = 0; i < segments.length; i++) {
+            Attribute<?, ?> attribute;
+            try {
+                attribute = type.getAttribute(segments[i]);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            boolean last = i == segments.length - 1;
+            if (attribute.isCollection()) {
+                return null;
+            }
+            if (attribute.isAssociation()) {
+                EntityType<?> target = metamodel.entity(attribute.getJavaType());
+                if (i != segments.length - 2 || !target.hasSingleIdAttribute()) {
+                    return null;
+                }
+                Attribute<?, ?> id = target.getId(target.getIdType().getJavaType());
+                return id.getName().equals(segments[i + 1]) ? id.getJavaType() : null;
+            }
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
+                if (last) {
+                    return null;
+                }
+                type = metamodel.managedType(attribute.getJavaType());
+            } else {
+                return last ? attribute.getJavaType() : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return a versão contida no <code>If-Match</code> (sem <code>W/</code> e aspas), ou <code>null</code> se o
+     * cabeçalho estiver ausente ou for <code>*</code>
+     */
+    private static String parseETag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return tag;
+    }
+}
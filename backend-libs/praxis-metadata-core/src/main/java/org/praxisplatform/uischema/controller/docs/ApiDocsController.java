@@ -1,9 +1,12 @@
 package org.praxisplatform.uischema.controller.docs;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import org.praxisplatform.uischema.FieldConfigProperties;
 import org.praxisplatform.uischema.util.OpenApiGroupResolver;
 import org.praxisplatform.uischema.util.OpenApiUiUtils;
@@ -11,19 +14,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Controlador responsável por filtrar e retornar partes específicas da documentação OpenAPI.
@@ -46,12 +63,11 @@ public class ApiDocsController {
     private static final String SCHEMAS = "schemas";
     private static final String X_UI = "x-ui";
     private static final String RESPONSE_SCHEMA = "responseSchema";
-    private static final String PROPERTIES = "properties";
     private static final String REF = "$ref";
-    private static final String ITEMS = "items";
 
     // Constantes para valores padrão
     private static final String DEFAULT_OPERATION = "get";
+    private static final Set<String> HTTP_OPERATIONS = Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
 
     @Autowired
     private RestTemplate restTemplate;
@@ -62,13 +78,39 @@ public class ApiDocsController {
     @Autowired(required = false)
     private OpenApiGroupResolver openApiGroupResolver;
 
+    @Autowired(required = false)
+    private OpenApiDocumentSource openApiDocumentSource;
+
+    @Autowired(required = false)
+    private FilteredSchemaIndex filteredSchemaIndex = new FilteredSchemaIndex();
+
+    /**
+     * Valor de <code>max-age</code> enviado no Cache-Control dos schemas filtrados
+     * (por exemplo, <code>10m</code> ou <code>PT1H</code>). Zero exige revalidação via ETag.
+     */
+    @Value("${praxis.schemas.filtered.max-age:0s}")
+    private Duration schemaMaxAge = Duration.ZERO;
+
+    /**
+     * Quantidade máxima de itens aceita em <code>POST /schemas/filtered/batch</code>.
+     */
+    @Value("${praxis.schemas.filtered.batch.max-size:100}")
+    private int schemaBatchMaxSize = 100;
+
     /**
      * Recupera e filtra a documentação OpenAPI para o caminho, operação e documento especificados.
      * <p>
-     * O método busca um documento OpenAPI em <code>/v3/api-docs/{document}</code> e, a partir dele,
+     * O método obtém o documento OpenAPI do grupo através do {@link OpenApiDocumentSource} configurado
+     * (recorrendo a <code>/v3/api-docs/{document}</code> via HTTP apenas quando a fonte não conhece o grupo) e, a partir dele,
      * filtra o esquema correspondente ao <code>path</code> e <code>operation</code> fornecidos. Caso
      * o parâmetro <code>includeInternalSchemas</code> seja verdadeiro, substitui referências internas
      * (<code>$ref</code>) pelos esquemas correspondentes.
+     * <p>
+     * A resposta é servida a partir do {@link FilteredSchemaIndex}: os bytes de cada combinação de
+     * parâmetros são calculados uma única vez por versão do documento do grupo. Cada resposta traz um
+     * <code>ETag</code> forte derivado do conteúdo e o cabeçalho <code>Cache-Control</code> configurado em
+     * <code>praxis.schemas.filtered.max-age</code>; quando o <code>If-None-Match</code> do cliente corresponde
+     * ao ETag atual, é devolvido <code>304 Not Modified</code> sem corpo.
      *
      * @param path                   O caminho específico dentro da documentação OpenAPI (por exemplo, "/dados-pessoa-fisica/all").
      *                               Se contiver barras ou caracteres especiais, deve estar devidamente codificado em URL.
@@ -81,21 +123,210 @@ public class ApiDocsController {
      *                               mantém as referências originais. O valor padrão é <code>false</code>.
      * @param schemaType            (Opcional) Define se o schema retornado deve ser o de <code>response</code> (padrão)
      *                              ou o schema do corpo de <code>request</code>.
-     * @return Um mapa (<code>Map&lt;String, Object&gt;</code>) representando o esquema filtrado do OpenAPI, incluindo
-     * os metadados do <code>x-ui</code> e, se solicitado, as substituições de referências internas.
+     * @param ifNoneMatch           (Opcional) Cabeçalho <code>If-None-Match</code> enviado pelo cliente.
+     * @return O JSON do esquema filtrado do OpenAPI, incluindo os metadados do <code>x-ui</code> e, se solicitado,
+     * as substituições de referências internas.
      * @throws IllegalStateException    Se não for possível recuperar a documentação OpenAPI do endpoint.
      * @throws IllegalArgumentException Se o <code>path</code> ou <code>operation</code> não existirem na documentação,
      *                                  se o schema solicitado não estiver definido ou se o esquema em
      *                                  <code>components -> schemas</code> não for encontrado.
      */
-    @GetMapping
-    public Map<String, Object> getFilteredSchema(
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getFilteredSchemaJson(
             @RequestParam String path,
             @RequestParam(required = false) String document,
             @RequestParam(required = false, defaultValue = DEFAULT_OPERATION) String operation,
             @RequestParam(required = false, defaultValue = "false") boolean includeInternalSchemas,
-            @RequestParam(required = false, defaultValue = "response") String schemaType) {
+            @RequestParam(required = false, defaultValue = "response") String schemaType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        FilteredSchema schema = resolveFilteredSchema(path, document, operation, includeInternalSchemas, schemaType);
+        CacheControl cacheControl = schemaCacheControl();
+
+        if (matchesETag(ifNoneMatch, schema.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(schema.eTag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(schema.eTag())
+                .cacheControl(cacheControl)
+                .body(schema.body());
+    }
+
+    /**
+     * Recupera, em uma única requisição, os schemas filtrados de várias combinações de
+     * <code>path</code>, <code>operation</code> e <code>schemaType</code>.
+     * <p>
+     * Cada documento OpenAPI envolvido é obtido uma única vez para todo o lote e cada schema é servido
+     * pelo {@link FilteredSchemaIndex}, de modo que as definições compartilhadas entre os itens são
+     * resolvidas apenas uma vez. Os schemas são copiados para a resposta a partir dos bytes indexados,
+     * sem nova serialização.
+     * <p>
+     * A resposta é um array na mesma ordem dos itens recebidos. Cada elemento repete <code>path</code>,
+     * <code>operation</code> e <code>schemaType</code> e traz <code>schema</code> e <code>eTag</code> (o mesmo
+     * ETag que <code>GET /schemas/filtered</code> devolveria) ou, se o item for inválido, apenas <code>error</code>,
+     * sem interromper os demais itens.
+     *
+     * @param requests               itens a serem resolvidos
+     * @param includeInternalSchemas (Opcional) Substitui referências internas (<code>$ref</code>) em todos os itens.
+     * @return O array JSON com os schemas filtrados ou <code>400 Bad Request</code> se a lista estiver vazia ou tiver
+     * mais de <code>praxis.schemas.filtered.batch.max-size</code> itens.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getFilteredSchemasBatch(
+            @RequestBody List<FilteredSchemaRequest> requests,
+            @RequestParam(required = false, defaultValue = "false") boolean includeInternalSchemas) {
+
+        if (requests == null || requests.isEmpty() || requests.size() > schemaBatchMaxSize) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Documentos já carregados neste lote, inclusive os obtidos pelo fallback HTTP
+        Map<String, JsonNode> documents = new HashMap<>();
+        Function<String, JsonNode> documentLoader = name -> documents.computeIfAbsent(name, this::loadDocument);
+
+        ArrayNode result = objectMapper.createArrayNode();
+        for (FilteredSchemaRequest request : requests) {
+            ObjectNode item = result.addObject();
+            if (request == null) {
+                item.put("error", "item do lote é nulo");
+                continue;
+            }
+            String operation = request.operation() == null || request.operation().isBlank()
+                    ? DEFAULT_OPERATION : request.operation();
+            String schemaType = request.schemaType() == null || request.schemaType().isBlank()
+                    ? "response" : request.schemaType();
+            item.put("path", request.path());
+            item.put("operation", operation);
+            item.put("schemaType", schemaType);
+            try {
+                if (request.path() == null || request.path().isBlank()) {
+                    throw new IllegalArgumentException("path é obrigatório");
+                }
+                FilteredSchema schema = resolveFilteredSchema(request.path(), request.document(), operation,
+                        includeInternalSchemas, schemaType, documentLoader);
+                item.put("eTag", schema.eTag());
+                item.putRawValue("schema", new RawValue(new String(schema.body(), StandardCharsets.UTF_8)));
+            } catch (IllegalArgumentException | IllegalStateException | RestClientException e) {
+                LOGGER.warn("Schema filtrado não resolvido no lote para {} {}: {}", operation, request.path(), e.getMessage());
+                item.put("error", e.getMessage());
+            }
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(schemaCacheControl())
+                    .body(objectMapper.writeValueAsBytes(result));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o lote de schemas filtrados.", e);
+        }
+    }
+
+    /**
+     * Variante programática de {@link #getFilteredSchemaJson(String, String, String, boolean, String, String)} que
+     * devolve o esquema filtrado como um mapa mutável, independente do conteúdo indexado.
+     *
+     * @return Um mapa (<code>Map&lt;String, Object&gt;</code>) representando o esquema filtrado do OpenAPI, incluindo
+     * os metadados do <code>x-ui</code> e, se solicitado, as substituições de referências internas.
+     * @see #getFilteredSchemaJson(String, String, String, boolean, String, String)
+     */
+    public Map<String, Object> getFilteredSchema(
+            String path,
+            String document,
+            String operation,
+            boolean includeInternalSchemas,
+            String schemaType) {
+
+        byte[] body = resolveFilteredSchema(path, document, operation, includeInternalSchemas, schemaType).body();
+        try {
+            return objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível interpretar o schema filtrado.", e);
+        }
+    }
+
+    /**
+     * Calcula e indexa antecipadamente os schemas filtrados de request e response de todas as operações do documento,
+     * para que as primeiras requisições após a inicialização já sejam atendidas pelo {@link FilteredSchemaIndex}.
+     * Operações sem schema do tipo correspondente são ignoradas.
+     *
+     * @param group    nome do grupo OpenAPI
+     * @param document documento atual do grupo
+     * @return quantidade de schemas filtrados indexados
+     */
+    public int prefetchFilteredSchemas(String group, JsonNode document) {
+        int count = 0;
+        Iterator<Entry<String, JsonNode>> paths = document.path(PATHS).fields();
+        while (paths.hasNext()) {
+            Entry<String, JsonNode> path = paths.next();
+            Iterator<String> operations = path.getValue().fieldNames();
+            while (operations.hasNext()) {
+                String operation = operations.next();
+                if (!HTTP_OPERATIONS.contains(operation)) {
+                    continue;
+                }
+                for (String schemaType : List.of("request", "response")) {
+                    try {
+                        resolveFilteredSchema(path.getKey(), group, operation, false, schemaType, name -> document);
+                        count++;
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        LOGGER.debug("Sem schema {} para {} {}: {}", schemaType, operation, path.getKey(), e.getMessage());
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Verifica se o cabeçalho <code>If-None-Match</code> contém o ETag atual (ou <code>*</code>).
+     * ETags fracos (<code>W/"..."</code>) são comparados pelo valor, como define a RFC 9110 para o If-None-Match.
+     */
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || eTag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * Cabeçalho Cache-Control dos schemas filtrados. Sem <code>max-age</code> configurado, os clientes
+     * devem revalidar a cada uso, o que custa apenas um 304 graças ao ETag.
+     */
+    private CacheControl schemaCacheControl() {
+        if (schemaMaxAge == null || schemaMaxAge.isZero() || schemaMaxAge.isNegative()) {
+            return CacheControl.noCache();
+        }
+        return CacheControl.maxAge(schemaMaxAge);
+    }
+
+    /**
+     * Normaliza os parâmetros, obtém o documento do grupo e devolve o schema filtrado,
+     * consultando o {@link FilteredSchemaIndex} antes de calcular o schema.
+     */
+    private FilteredSchema resolveFilteredSchema(String path, String document, String operation,
+                                         boolean includeInternalSchemas, String schemaType) {
+        return resolveFilteredSchema(path, document, operation, includeInternalSchemas, schemaType, this::loadDocument);
+    }
+
+    private FilteredSchema resolveFilteredSchema(String path, String document, String operation,
+                                                 boolean includeInternalSchemas, String schemaType,
+                                                 Function<String, JsonNode> documentLoader) {
         if (!"response".equalsIgnoreCase(schemaType) && !"request".equalsIgnoreCase(schemaType)) {
             throw new IllegalArgumentException("schemaType deve ser 'response' ou 'request'");
         }
@@ -107,21 +338,33 @@ public class ApiDocsController {
         }
         operation = (operation == null || operation.trim().isEmpty()) ? DEFAULT_OPERATION : operation;
 
-        // Monta a URL base da aplicação e o endpoint do documento
-        String baseUrl = ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
-        String url = baseUrl + OPEN_API_BASE_PATH + "/" + document;
-
-        JsonNode rootNode = restTemplate.getForObject(url, JsonNode.class);
+        JsonNode rootNode = documentLoader.apply(document);
 
         if (rootNode == null) {
             throw new IllegalStateException("A documentação OpenAPI não pôde ser recuperada");
         }
 
-        LOGGER.info("Root node retrieved successfully");
-
         // Decodifica o path para tratar caracteres especiais (por exemplo, '%2F')
         String decodedPath = UriUtils.decode(path, StandardCharsets.UTF_8);
 
+        FilteredSchemaIndex.Key key = new FilteredSchemaIndex.Key(
+                decodedPath,
+                operation.toLowerCase(),
+                schemaType.toLowerCase(),
+                includeInternalSchemas);
+
+        return filteredSchemaIndex.get(document, rootNode, key, (k, inliner) -> buildFilteredSchema(rootNode, k, inliner));
+    }
+
+    /**
+     * Calcula o schema filtrado para a chave informada e o serializa nos bytes finais da resposta.
+     */
+    private FilteredSchema buildFilteredSchema(JsonNode rootNode, FilteredSchemaIndex.Key key, SchemaRefInliner inliner) {
+        String decodedPath = key.path();
+        String operation = key.operation();
+
+        LOGGER.info("Root node retrieved successfully");
+
         // Procura o caminho especificado no JSON
         JsonNode pathsNode = rootNode.path(PATHS).path(decodedPath).path(operation);
 
@@ -133,7 +376,7 @@ public class ApiDocsController {
 
         // Escolhe o schema conforme o schemaType indicado
         String schemaName;
-        if ("request".equalsIgnoreCase(schemaType)) {
+        if ("request".equals(key.schemaType())) {
             schemaName = findRequestSchema(pathsNode);
         } else {
             schemaName = findResponseSchema(pathsNode, rootNode, operation, decodedPath);
@@ -145,20 +388,19 @@ public class ApiDocsController {
 
         LOGGER.info("Schema found: {}", schemaName);
 
-        // Procura pelo esquema de componentes baseado no schema selecionado
-        JsonNode schemasNode = rootNode.path(COMPONENTS).path(SCHEMAS).path(schemaName);
+        // Procura pelo esquema de componentes baseado no schema selecionado.
+        // O documento pode ser compartilhado entre requisições, portanto trabalhamos sobre uma cópia.
+        // Se includeInternalSchemas for verdadeiro, a cópia já traz os schemas internos substituídos.
+        JsonNode schemasNode = key.includeInternalSchemas()
+                ? inliner.inline(schemaName)
+                : rootNode.path(COMPONENTS).path(SCHEMAS).path(schemaName).deepCopy();
 
-        if (schemasNode.isMissingNode()) {
+        if (schemasNode == null || schemasNode.isMissingNode()) {
             throw new IllegalArgumentException("O esquema de componentes especificado não foi encontrado na documentação.");
         }
 
         LOGGER.info("Schema node retrieved successfully");
 
-        // Se includeInternalSchemas for verdadeiro, substitui schemas internos
-        if (includeInternalSchemas) {
-            replaceInternalSchemas((ObjectNode) schemasNode, rootNode.path(COMPONENTS).path(SCHEMAS));
-        }
-
         // Converte o esquema para um Map
         Map<String, Object> schemaMap = objectMapper.convertValue(schemasNode, new TypeReference<Map<String, Object>>() {
         });
@@ -170,57 +412,36 @@ public class ApiDocsController {
 
         schemaMap.put(X_UI, xUiMap);
 
-        return schemaMap;
+        try {
+            return FilteredSchema.of(objectMapper.writeValueAsBytes(schemaMap));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o schema filtrado.", e);
+        }
     }
 
     /**
-     * Substitui referências internas (<code>$ref</code>) em um schema JSON por suas propriedades reais,
-     * de forma recursiva, caso seja necessário.
+     * Obtém o documento OpenAPI do grupo informado.
+     * <p>
+     * Prioriza o {@link OpenApiDocumentSource} em memória; a chamada HTTP para
+     * <code>{springdoc.api-docs.path}/{document}</code> permanece apenas como alternativa para
+     * documentos que a fonte local não conhece (por exemplo, documentos remotos).
      *
-     * @param schemaNode Nó (schema) em que serão buscadas as referências para substituição.
-     * @param allSchemas Nó contendo todos os schemas para referência, geralmente em <code>components -> schemas</code>.
+     * @param document nome do grupo OpenAPI
+     * @return o documento ou <code>null</code> se não puder ser recuperado
      */
-    private void replaceInternalSchemas(ObjectNode schemaNode, JsonNode allSchemas) {
-        if (schemaNode.has(PROPERTIES)) {
-            Iterator<Entry<String, JsonNode>> fields = schemaNode.path(PROPERTIES).fields();
-            while (fields.hasNext()) {
-                Entry<String, JsonNode> field = fields.next();
-                JsonNode fieldValue = field.getValue();
-                JsonNode refNode = fieldValue.path(REF);
-                if (!refNode.isMissingNode()) {
-                    String ref = refNode.asText();
-                    String refSchemaName = ref.substring(ref.lastIndexOf('/') + 1);
-                    JsonNode refSchemaNode = allSchemas.path(refSchemaName);
-                    if (!refSchemaNode.isMissingNode()) {
-                        LOGGER.info("Replacing $ref {} with schema {}", ref, refSchemaName);
-                        // Substitui a referência pelas propriedades do schema
-                        JsonNode propertiesNode = refSchemaNode.path(PROPERTIES);
-                        if (!propertiesNode.isMissingNode()) {
-                            ((ObjectNode) fieldValue).remove(REF);
-                            ((ObjectNode) fieldValue).setAll((ObjectNode) propertiesNode);
-                            LOGGER.info("Replaced $ref {} with properties {}", ref, propertiesNode);
-                            // Substituição recursiva de referências dentro do novo objeto
-                            replaceInternalSchemas((ObjectNode) fieldValue, allSchemas);
-                        } else {
-                            LOGGER.warn("No properties found for schema {}", refSchemaName);
-                        }
-                    } else {
-                        LOGGER.warn("Schema {} not found in allSchemas", refSchemaName);
-                    }
-                }
-                // Verifica recursivamente objetos aninhados e arrays
-                if (fieldValue.has(PROPERTIES)) {
-                    LOGGER.info("Recursively replacing properties in nested object {}", field.getKey());
-                    replaceInternalSchemas((ObjectNode) fieldValue, allSchemas);
-                }
-                if (fieldValue.has(ITEMS)) {
-                    LOGGER.info("Recursively replacing properties in array items of {}", field.getKey());
-                    replaceInternalSchemas((ObjectNode) fieldValue.path(ITEMS), allSchemas);
-                }
+    private JsonNode loadDocument(String document) {
+        if (openApiDocumentSource != null) {
+            JsonNode localDocument = openApiDocumentSource.getDocument(document);
+            if (localDocument != null) {
+                return localDocument;
             }
-        } else {
-            LOGGER.warn("No properties found in schema node");
         }
+
+        // Monta a URL base da aplicação e o endpoint do documento
+        String baseUrl = ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
+        String url = baseUrl + OPEN_API_BASE_PATH + "/" + document;
+
+        return restTemplate.getForObject(url, JsonNode.class);
     }
 
     /**
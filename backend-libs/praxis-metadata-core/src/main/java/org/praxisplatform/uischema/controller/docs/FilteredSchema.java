@@ -0,0 +1,24 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Schema filtrado pronto para ser servido pelo {@link ApiDocsController}.
+ *
+ * @param body bytes JSON finais da resposta
+ * @param eTag ETag forte (entre aspas) derivado do conteúdo de {@code body}
+ */
+public record FilteredSchema(byte[] body, String eTag) {
+
+    /**
+     * Cria o schema filtrado calculando o ETag a partir do hash do conteúdo. Como o conteúdo
+     * é gerado de forma determinística a partir do documento OpenAPI, o mesmo schema produz
+     * o mesmo ETag em todas as instâncias da aplicação.
+     *
+     * @param body bytes JSON da resposta
+     * @return o schema filtrado com seu ETag
+     */
+    public static FilteredSchema of(byte[] body) {
+        return new FilteredSchema(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
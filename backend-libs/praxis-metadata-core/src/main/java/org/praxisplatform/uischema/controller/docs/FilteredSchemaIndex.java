@@ -0,0 +1,121 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Índice dos schemas filtrados servidos pelo {@link ApiDocsController}.
+ * <p>
+ * Para cada grupo OpenAPI o índice guarda os bytes finais da resposta de <code>/schemas/filtered</code> e seu ETag,
+ * indexados por ({@code path}, {@code operation}, {@code schemaType}, {@code includeInternalSchemas}).
+ * Cada entrada é calculada uma única vez por versão do documento: o índice de um grupo é descartado
+ * e reconstruído apenas quando o {@link OpenApiDocumentSource} devolve uma nova instância do documento,
+ * ou seja, quando o springdoc o regenera.
+ * <p>
+ * Junto com as entradas, o índice de cada grupo mantém o {@link SchemaRefInliner} do documento, de modo que a
+ * expansão das referências internas (<code>includeInternalSchemas=true</code>) também é paga uma única vez por
+ * versão do documento.
+ * <p>
+ * Documentos obtidos via HTTP (fallback remoto) chegam como novas instâncias a cada requisição e,
+ * portanto, não se beneficiam do índice.
+ */
+public class FilteredSchemaIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilteredSchemaIndex.class);
+
+    private final Map<String, GroupIndex> groups = new ConcurrentHashMap<>();
+    private final int maxInlineDepth;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public FilteredSchemaIndex() {
+        this(SchemaRefInliner.DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param maxInlineDepth profundidade máxima de schemas aninhados expandidos pelo {@link SchemaRefInliner}
+     */
+    public FilteredSchemaIndex(int maxInlineDepth) {
+        this.maxInlineDepth = maxInlineDepth;
+    }
+
+    /**
+     * Retorna o schema filtrado para a chave informada, calculando-o com {@code loader}
+     * somente se ainda não existir para a versão atual do documento do grupo.
+     *
+     * @param group    nome do grupo OpenAPI
+     * @param document documento atual do grupo, usado (por identidade) como versão do índice
+     * @param key      chave do schema filtrado
+     * @param loader   função que produz o schema filtrado, recebendo o {@link SchemaRefInliner} do documento
+     * @return o schema filtrado, com os bytes finais da resposta e seu ETag
+     */
+    public FilteredSchema get(String group, JsonNode document, Key key,
+                              BiFunction<Key, SchemaRefInliner, FilteredSchema> loader) {
+        GroupIndex index = groups.compute(group, (name, current) -> {
+            if (current != null && current.document() == document) {
+                return current;
+            }
+            if (current != null) {
+                rebuilds.increment();
+                LOGGER.info("Documento OpenAPI do grupo {} foi regenerado; reconstruindo índice de schemas filtrados", name);
+            }
+            SchemaRefInliner inliner = new SchemaRefInliner(document.path("components").path("schemas"), maxInlineDepth);
+            return new GroupIndex(document, new ConcurrentHashMap<>(), inliner);
+        });
+
+        FilteredSchema cached = index.entries().get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return index.entries().computeIfAbsent(key, k -> loader.apply(k, index.inliner()));
+    }
+
+    /**
+     * Descarta o índice de todos os grupos.
+     */
+    public void clear() {
+        groups.clear();
+    }
+
+    /**
+     * @return estatísticas acumuladas de uso do índice
+     */
+    public Statistics getStatistics() {
+        int size = groups.values().stream().mapToInt(index -> index.entries().size()).sum();
+        return new Statistics(hits.sum(), misses.sum(), rebuilds.sum(), size);
+    }
+
+    /**
+     * Chave de um schema filtrado dentro de um grupo.
+     *
+     * @param path                   caminho decodificado da operação (por exemplo, "/api/funcionarios/filter")
+     * @param operation              verbo HTTP em minúsculas
+     * @param schemaType             "request" ou "response" em minúsculas
+     * @param includeInternalSchemas se as referências internas são substituídas
+     */
+    public record Key(String path, String operation, String schemaType, boolean includeInternalSchemas) {
+    }
+
+    /**
+     * Estatísticas de uso do índice.
+     *
+     * @param hits     requisições atendidas pelo índice
+     * @param misses   requisições que precisaram calcular o schema
+     * @param rebuilds quantas vezes o índice de um grupo foi descartado por regeneração do documento
+     * @param size     quantidade de entradas atualmente indexadas
+     */
+    public record Statistics(long hits, long misses, long rebuilds, int size) {
+    }
+
+    private record GroupIndex(JsonNode document, Map<Key, FilteredSchema> entries, SchemaRefInliner inliner) {
+    }
+}
@@ -0,0 +1,15 @@
+package org.praxisplatform.uischema.controller.docs;
+
+/**
+ * Item de uma requisição em lote para <code>POST /schemas/filtered/batch</code>.
+ * <p>
+ * Os campos têm o mesmo significado dos parâmetros de <code>GET /schemas/filtered</code>;
+ * apenas {@code path} é obrigatório.
+ *
+ * @param path       caminho da operação na documentação (por exemplo, "/api/funcionarios/filter")
+ * @param document   (opcional) nome do grupo OpenAPI; se ausente, é resolvido a partir do {@code path}
+ * @param operation  (opcional) verbo HTTP, padrão <code>"get"</code>
+ * @param schemaType (opcional) <code>"response"</code> (padrão) ou <code>"request"</code>
+ */
+public record FilteredSchemaRequest(String path, String document, String operation, String schemaType) {
+}
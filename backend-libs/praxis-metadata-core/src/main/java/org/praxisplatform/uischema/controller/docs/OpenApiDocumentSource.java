@@ -0,0 +1,27 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Fonte do documento OpenAPI consumido pelo {@link ApiDocsController}.
+ * <p>
+ * Permite que o documento de um grupo seja obtido diretamente da memória da aplicação, sem que o
+ * controlador precise realizar uma chamada HTTP para o próprio endpoint <code>/v3/api-docs/{group}</code>.
+ * Implementações customizadas podem ser registradas como bean para substituir a padrão.
+ */
+@FunctionalInterface
+public interface OpenApiDocumentSource {
+
+    /**
+     * Recupera o documento OpenAPI do grupo informado.
+     * <p>
+     * O nó retornado é compartilhado entre requisições e <strong>não deve ser alterado</strong>.
+     * Enquanto o documento não for regenerado, implementações devem devolver a mesma instância,
+     * o que permite que consumidores usem a identidade do nó como versão do documento.
+     *
+     * @param group nome do grupo OpenAPI (por exemplo, "funcionarios")
+     * @return o documento em formato {@link JsonNode} ou <code>null</code> se esta fonte não conhecer o grupo,
+     * caso em que o {@link ApiDocsController} recorre à busca remota via HTTP.
+     */
+    JsonNode getDocument(String group);
+}
@@ -0,0 +1,99 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.providers.ObjectMapperProvider;
+import org.springdoc.webmvc.api.MultipleOpenApiResource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Gera, em tempo de build, os snapshots dos documentos OpenAPI (já enriquecidos com as extensões
+ * <code>x-ui</code>) servidos em tempo de execução por {@link SnapshotOpenApiDocumentSource}.
+ * <p>
+ * Inicializa a aplicação informada, obtém o documento de cada {@link GroupedOpenApi} diretamente do springdoc e o
+ * grava em <code>{saída}/META-INF/praxis/schemas/{grupo}.json</code>. Deve ser executado após a compilação e antes do
+ * empacotamento, por exemplo com o <code>exec-maven-plugin</code> na fase <code>prepare-package</code>:
+ * <pre>
+ * &lt;mainClass&gt;org.praxisplatform.uischema.controller.docs.OpenApiSnapshotGenerator&lt;/mainClass&gt;
+ * &lt;arguments&gt;
+ *     &lt;argument&gt;com.example.MinhaAplicacao&lt;/argument&gt;
+ *     &lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;
+ * &lt;/arguments&gt;
+ * </pre>
+ */
+public final class OpenApiSnapshotGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiSnapshotGenerator.class);
+
+    private OpenApiSnapshotGenerator() {
+    }
+
+    /**
+     * @param args classe principal da aplicação Spring Boot e, opcionalmente, o diretório de saída
+     *             (padrão: <code>target/classes</code>)
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Uso: OpenApiSnapshotGenerator <classe-da-aplicacao> [diretorio-de-saida]");
+        }
+        Class<?> applicationClass = Class.forName(args[0]);
+        Path outputDirectory = Paths.get(args.length > 1 ? args[1] : "target/classes");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(applicationClass)
+                .properties("server.port=0",
+                        "praxis.openapi.warmup.enabled=false",
+                        "praxis.schemas.snapshot.enabled=false")
+                .run()) {
+            OpenApiDocumentSource source = new SpringdocOpenApiDocumentSource(
+                    context.getBeanProvider(MultipleOpenApiResource.class),
+                    context.getBeanProvider(ObjectMapperProvider.class));
+            List<String> groups = context.getBeanProvider(GroupedOpenApi.class).orderedStream()
+                    .map(GroupedOpenApi::getGroup)
+                    .distinct()
+                    .toList();
+            write(source, groups, outputDirectory, new ObjectMapper());
+        }
+    }
+
+    /**
+     * Grava o documento de cada grupo em <code>{outputDirectory}/META-INF/praxis/schemas/{grupo}.json</code>.
+     *
+     * @param source          fonte dos documentos
+     * @param groups          grupos a gravar
+     * @param outputDirectory raiz do classpath de saída (por exemplo, <code>target/classes</code>)
+     * @param objectMapper    mapper usado na serialização
+     * @return arquivos gravados
+     * @throws IOException           se algum arquivo não puder ser gravado
+     * @throws IllegalStateException se o documento de algum grupo não puder ser gerado
+     */
+    public static List<Path> write(OpenApiDocumentSource source, Collection<String> groups, Path outputDirectory,
+                                   ObjectMapper objectMapper) throws IOException {
+        Path directory = outputDirectory.resolve(SnapshotOpenApiDocumentSource.SNAPSHOT_LOCATION);
+        Files.createDirectories(directory);
+
+        List<Path> written = new ArrayList<>();
+        for (String group : groups) {
+            JsonNode document = source.getDocument(group);
+            if (document == null) {
+                throw new IllegalStateException("Documento OpenAPI do grupo " + group + " não pôde ser gerado");
+            }
+            Path file = directory.resolve(group + ".json");
+            objectMapper.writeValue(file.toFile(), document);
+            written.add(file);
+            LOGGER.info("Snapshot do grupo {} gravado em {}", group, file);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,152 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aquecimento dos documentos OpenAPI na inicialização da aplicação.
+ * <p>
+ * O springdoc gera cada grupo apenas na primeira requisição, o que faz o primeiro usuário após um deploy
+ * esperar a execução do {@code CustomOpenApiResolver} sobre todos os DTOs. Quando habilitado
+ * (<code>praxis.openapi.warmup.enabled=true</code>), este componente gera todos os grupos em paralelo, em um
+ * executor com no máximo <code>praxis.openapi.warmup.threads</code> threads, assim que a aplicação fica pronta,
+ * e preenche o {@link FilteredSchemaIndex} com os schemas de request e response de todas as operações.
+ * <p>
+ * O andamento é exposto por {@link #getStatus()}, consumido pelo health indicator de aquecimento para
+ * que o balanceador só encaminhe tráfego após a conclusão.
+ */
+public class OpenApiWarmup implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiWarmup.class);
+
+    private final OpenApiDocumentSource documentSource;
+    private final ApiDocsController apiDocsController;
+    private final List<String> groups;
+    private final int threads;
+
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger warmedGroups = new AtomicInteger();
+    private final AtomicInteger schemas = new AtomicInteger();
+    private volatile ExecutorService executor;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    /**
+     * @param documentSource    fonte dos documentos; obter o documento de um grupo dispara sua geração
+     * @param apiDocsController controlador cujo índice de schemas filtrados será preenchido
+     * @param groups            nomes dos grupos a aquecer
+     * @param threads           quantidade máxima de grupos gerados simultaneamente
+     */
+    public OpenApiWarmup(OpenApiDocumentSource documentSource, ApiDocsController apiDocsController,
+                         List<String> groups, int threads) {
+        this.documentSource = documentSource;
+        this.apiDocsController = apiDocsController;
+        this.groups = List.copyOf(groups);
+        this.threads = Math.max(1, Math.min(threads, Math.max(1, this.groups.size())));
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        start();
+    }
+
+    /**
+     * Inicia o aquecimento de forma assíncrona. Chamadas subsequentes são ignoradas.
+     *
+     * @return futuro concluído quando todos os grupos forem processados
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (startedAt != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        startedAt = Instant.now();
+        LOGGER.info("Aquecendo {} grupo(s) OpenAPI com {} thread(s)", groups.size(), threads);
+
+        executor = Executors.newFixedThreadPool(threads, warmupThreadFactory());
+        CompletableFuture<?>[] tasks = groups.stream()
+                .map(group -> CompletableFuture.runAsync(() -> warmUp(group), executor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(tasks).whenComplete((result, error) -> {
+            finishedAt = Instant.now();
+            executor.shutdown();
+            LOGGER.info("Aquecimento OpenAPI concluído em {} ms: {} grupo(s), {} schema(s) filtrado(s), {} falha(s)",
+                    Duration.between(startedAt, finishedAt).toMillis(), warmedGroups.get(), schemas.get(), failures.size());
+        });
+    }
+
+    private void warmUp(String group) {
+        try {
+            JsonNode document = documentSource.getDocument(group);
+            if (document == null) {
+                failures.put(group, "Documento não disponível localmente");
+                return;
+            }
+            schemas.addAndGet(apiDocsController.prefetchFilteredSchemas(group, document));
+            warmedGroups.incrementAndGet();
+            LOGGER.debug("Grupo OpenAPI {} aquecido", group);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao aquecer o grupo OpenAPI {}: {}", group, e.getMessage());
+            failures.put(group, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * @return situação atual do aquecimento
+     */
+    public Status getStatus() {
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        Duration duration = started == null ? Duration.ZERO
+                : Duration.between(started, finished != null ? finished : Instant.now());
+        return new Status(started != null, finished != null, groups.size(), warmedGroups.get(),
+                schemas.get(), Map.copyOf(failures), duration);
+    }
+
+    @Override
+    public void destroy() {
+        ExecutorService current = executor;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory warmupThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "praxis-openapi-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Situação do aquecimento.
+     *
+     * @param started      se o aquecimento já foi iniciado
+     * @param completed    se todos os grupos já foram processados
+     * @param groups       quantidade de grupos a aquecer
+     * @param warmedGroups grupos gerados com sucesso
+     * @param schemas      schemas filtrados adicionados ao índice
+     * @param failures     mensagem de erro por grupo que falhou
+     * @param duration     duração até agora ou total, se concluído
+     */
+    public record Status(boolean started, boolean completed, int groups, int warmedGroups, int schemas,
+                         Map<String, String> failures, Duration duration) {
+    }
+}
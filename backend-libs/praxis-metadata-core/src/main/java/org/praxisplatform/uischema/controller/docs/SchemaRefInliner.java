@@ -0,0 +1,183 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Substitui referências internas (<code>$ref</code>) dos schemas de <code>components -&gt; schemas</code>
+ * de um documento OpenAPI pelas propriedades dos schemas referenciados.
+ * <p>
+ * Uma instância é criada por versão do documento de um grupo (ver {@link FilteredSchemaIndex}) e nunca altera o
+ * documento original: o resultado é sempre construído sobre novos nós. As propriedades já expandidas de cada schema
+ * são memorizadas e reaproveitadas em todos os schemas filtrados do grupo, de modo que um DTO referenciado em vários
+ * lugares (por exemplo, <code>EnderecoDTO</code> dentro de <code>FuncionarioDTO</code>) é expandido uma única vez.
+ * <p>
+ * Referências a um schema que já está sendo expandido (ciclos) e referências além de {@code maxDepth} níveis
+ * de aninhamento são mantidas como <code>$ref</code>.
+ */
+public class SchemaRefInliner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaRefInliner.class);
+
+    /**
+     * Profundidade máxima padrão de schemas aninhados, incluindo o schema raiz.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 10;
+
+    private static final String PROPERTIES = "properties";
+    private static final String REF = "$ref";
+    private static final String ITEMS = "items";
+
+    private final JsonNode allSchemas;
+    private final int maxDepth;
+    private final Map<String, Expansion> expansions = new ConcurrentHashMap<>();
+
+    /**
+     * @param allSchemas nó <code>components -&gt; schemas</code> do documento; não é alterado
+     * @param maxDepth   quantidade máxima de schemas aninhados expandidos, incluindo o schema raiz
+     */
+    public SchemaRefInliner(JsonNode allSchemas, int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth deve ser maior que zero");
+        }
+        this.allSchemas = allSchemas;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Retorna uma cópia do schema informado com as referências internas de suas propriedades substituídas.
+     *
+     * @param schemaName nome do schema em <code>components -&gt; schemas</code>
+     * @return nova árvore, livre para alteração pelo chamador, ou <code>null</code> se o schema não existir
+     */
+    public ObjectNode inline(String schemaName) {
+        JsonNode schema = allSchemas.path(schemaName);
+        if (!schema.isObject()) {
+            return null;
+        }
+        ObjectNode result = schema.deepCopy();
+        if (!schema.has(PROPERTIES)) {
+            LOGGER.warn("No properties found in schema {}", schemaName);
+            return result;
+        }
+        Expansion expansion = expandComponent(schemaName, new ArrayDeque<>(), new Trace());
+        result.set(PROPERTIES, expansion.properties().deepCopy());
+        return result;
+    }
+
+    /**
+     * Expande as propriedades do schema <code>schemaName</code>, reaproveitando a expansão memorizada
+     * quando ela cabe na profundidade restante.
+     */
+    private Expansion expandComponent(String schemaName, Deque<String> stack, Trace trace) {
+        Expansion cached = expansions.get(schemaName);
+        if (cached != null && stack.size() + cached.height() <= maxDepth) {
+            trace.height = Math.max(trace.height, cached.height());
+            return cached;
+        }
+
+        Trace inner = new Trace();
+        stack.push(schemaName);
+        ObjectNode properties = expandProperties(allSchemas.path(schemaName).path(PROPERTIES), stack, inner);
+        stack.pop();
+
+        Expansion expansion = new Expansion(properties, inner.height + 1);
+        // Só memoriza expansões que não dependem do contexto em que foram calculadas
+        if (!inner.truncated) {
+            expansions.put(schemaName, expansion);
+        }
+        trace.truncated |= inner.truncated;
+        trace.height = Math.max(trace.height, expansion.height());
+        return expansion;
+    }
+
+    private ObjectNode expandProperties(JsonNode properties, Deque<String> stack, Trace trace) {
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        Iterator<Entry<String, JsonNode>> fields = properties.fields();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> field = fields.next();
+            result.set(field.getKey(), expandProperty(field.getValue(), stack, trace));
+        }
+        return result;
+    }
+
+    private JsonNode expandProperty(JsonNode property, Deque<String> stack, Trace trace) {
+        if (!property.isObject()) {
+            return property.deepCopy();
+        }
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        Iterator<Entry<String, JsonNode>> fields = property.fields();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case PROPERTIES -> result.set(PROPERTIES, expandProperties(value, stack, trace));
+                case ITEMS -> result.set(ITEMS, value.isObject() && value.has(PROPERTIES)
+                        ? expandNestedSchema(value, stack, trace) : value.deepCopy());
+                default -> result.set(field.getKey(), value.deepCopy());
+            }
+        }
+
+        JsonNode refNode = property.path(REF);
+        if (refNode.isMissingNode()) {
+            return result;
+        }
+        String ref = refNode.asText();
+        String refSchemaName = ref.substring(ref.lastIndexOf('/') + 1);
+        JsonNode refSchemaNode = allSchemas.path(refSchemaName);
+        if (refSchemaNode.isMissingNode()) {
+            LOGGER.warn("Schema {} not found in allSchemas", refSchemaName);
+            return result;
+        }
+        if (!refSchemaNode.has(PROPERTIES)) {
+            LOGGER.warn("No properties found for schema {}", refSchemaName);
+            return result;
+        }
+        if (stack.contains(refSchemaName)) {
+            LOGGER.debug("Keeping $ref {}: cyclic reference", ref);
+            trace.truncated = true;
+            return result;
+        }
+        if (stack.size() >= maxDepth) {
+            LOGGER.debug("Keeping $ref {}: max depth {} reached", ref, maxDepth);
+            trace.truncated = true;
+            return result;
+        }
+
+        // Substitui a referência pelas propriedades do schema
+        result.remove(REF);
+        result.setAll(expandComponent(refSchemaName, stack, trace).properties());
+        return result;
+    }
+
+    private ObjectNode expandNestedSchema(JsonNode schema, Deque<String> stack, Trace trace) {
+        ObjectNode result = schema.deepCopy();
+        result.set(PROPERTIES, expandProperties(schema.path(PROPERTIES), stack, trace));
+        return result;
+    }
+
+    /**
+     * Propriedades expandidas de um schema e a quantidade de níveis de schemas que a expansão ocupa.
+     */
+    private record Expansion(ObjectNode properties, int height) {
+    }
+
+    /**
+     * Informações coletadas durante uma expansão: níveis ocupados e se alguma referência
+     * deixou de ser expandida por ciclo ou limite de profundidade.
+     */
+    private static final class Trace {
+        private int height;
+        private boolean truncated;
+    }
+}
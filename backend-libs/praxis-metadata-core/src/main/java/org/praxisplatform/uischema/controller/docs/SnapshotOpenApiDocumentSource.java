@@ -0,0 +1,77 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@link OpenApiDocumentSource} que serve os documentos gerados em tempo de build por
+ * {@link OpenApiSnapshotGenerator} em <code>META-INF/praxis/schemas/{grupo}.json</code>.
+ * <p>
+ * Cada snapshot é lido do classpath uma única vez e mantido em memória, de modo que o springdoc e o
+ * {@code CustomOpenApiResolver} não precisam ser executados em tempo de execução para os grupos publicados.
+ * Grupos sem snapshot são delegados à fonte informada (normalmente {@link SpringdocOpenApiDocumentSource}).
+ */
+public class SnapshotOpenApiDocumentSource implements OpenApiDocumentSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotOpenApiDocumentSource.class);
+
+    /**
+     * Diretório do classpath onde os snapshots são gravados e procurados.
+     */
+    public static final String SNAPSHOT_LOCATION = "META-INF/praxis/schemas/";
+
+    private static final Pattern GROUP_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    private final ClassLoader classLoader;
+    private final ObjectMapper objectMapper;
+    private final OpenApiDocumentSource delegate;
+    private final Map<String, Optional<JsonNode>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param classLoader  class loader usado para localizar os snapshots
+     * @param objectMapper mapper usado para ler os snapshots
+     * @param delegate     fonte consultada para grupos sem snapshot; pode ser <code>null</code>
+     */
+    public SnapshotOpenApiDocumentSource(ClassLoader classLoader, ObjectMapper objectMapper, OpenApiDocumentSource delegate) {
+        this.classLoader = classLoader;
+        this.objectMapper = objectMapper;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public JsonNode getDocument(String group) {
+        if (group != null && GROUP_NAME.matcher(group).matches() && !group.contains("..")) {
+            Optional<JsonNode> snapshot = snapshots.computeIfAbsent(group, this::loadSnapshot);
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        return delegate != null ? delegate.getDocument(group) : null;
+    }
+
+    private Optional<JsonNode> loadSnapshot(String group) {
+        URL resource = classLoader.getResource(SNAPSHOT_LOCATION + group + ".json");
+        if (resource == null) {
+            return Optional.empty();
+        }
+        try (InputStream input = resource.openStream()) {
+            JsonNode document = objectMapper.readTree(input);
+            LOGGER.info("Documento OpenAPI do grupo {} carregado do snapshot {}", group, resource);
+            return Optional.of(document);
+        } catch (IOException e) {
+            LOGGER.warn("Snapshot {} inválido; o documento do grupo {} será gerado em tempo de execução: {}",
+                    resource, group, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.api.AbstractOpenApiResource;
+import org.springdoc.core.providers.ObjectMapperProvider;
+import org.springdoc.webmvc.api.MultipleOpenApiResource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link OpenApiDocumentSource} que obtém o modelo {@link OpenAPI} de cada grupo diretamente dos beans
+ * do springdoc, sem chamada HTTP e sem serializar/re-interpretar o documento como texto.
+ * <p>
+ * O springdoc mantém o {@link OpenAPI} de cada grupo em cache após a primeira geração. Esta classe
+ * converte o modelo para {@link JsonNode} uma única vez e reaproveita a árvore enquanto o springdoc
+ * devolver a mesma instância do modelo; a conversão só é refeita quando o documento é regenerado.
+ * <p>
+ * Os métodos do springdoc que expõem o modelo são protegidos, por isso são acessados via reflexão
+ * e resolvidos apenas uma vez.
+ */
+public class SpringdocOpenApiDocumentSource implements OpenApiDocumentSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpringdocOpenApiDocumentSource.class);
+
+    private static final Method GET_OPEN_API_RESOURCE = findMethod(
+            MultipleOpenApiResource.class, "getOpenApiResourceOrThrow", String.class);
+    private static final Method GET_OPEN_API = findMethod(
+            AbstractOpenApiResource.class, "getOpenApi", Locale.class);
+
+    private final ObjectProvider<MultipleOpenApiResource> multipleOpenApiResource;
+    private final ObjectProvider<ObjectMapperProvider> objectMapperProvider;
+    private final Map<String, CachedDocument> documents = new ConcurrentHashMap<>();
+
+    public SpringdocOpenApiDocumentSource(ObjectProvider<MultipleOpenApiResource> multipleOpenApiResource,
+                                          ObjectProvider<ObjectMapperProvider> objectMapperProvider) {
+        this.multipleOpenApiResource = multipleOpenApiResource;
+        this.objectMapperProvider = objectMapperProvider;
+    }
+
+    @Override
+    public JsonNode getDocument(String group) {
+        OpenAPI openAPI = getOpenApi(group);
+        if (openAPI == null) {
+            return null;
+        }
+        CachedDocument cached = documents.get(group);
+        if (cached != null && cached.model() == openAPI) {
+            return cached.tree();
+        }
+        JsonNode tree = jsonMapper().valueToTree(openAPI);
+        documents.put(group, new CachedDocument(openAPI, tree));
+        LOGGER.debug("Documento OpenAPI do grupo {} convertido a partir do modelo do springdoc", group);
+        return tree;
+    }
+
+    /**
+     * Recupera o modelo {@link OpenAPI} gerado (ou em cache) pelo springdoc para o grupo.
+     *
+     * @param group nome do grupo
+     * @return o modelo ou <code>null</code> se o grupo não existir localmente
+     */
+    public OpenAPI getOpenApi(String group) {
+        if (group == null || GET_OPEN_API_RESOURCE == null || GET_OPEN_API == null) {
+            return null;
+        }
+        MultipleOpenApiResource resource = multipleOpenApiResource.getIfUnique();
+        if (resource == null) {
+            return null;
+        }
+        try {
+            Object groupResource = GET_OPEN_API_RESOURCE.invoke(resource, group);
+            return (OpenAPI) GET_OPEN_API.invoke(groupResource, LocaleContextHolder.getLocale());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Grupo {} não disponível no springdoc local: {}", group, e.getMessage());
+            return null;
+        }
+    }
+
+    private ObjectMapper jsonMapper() {
+        ObjectMapperProvider provider = objectMapperProvider.getIfAvailable();
+        return provider != null ? provider.jsonMapper() : Json.mapper();
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(type, name, parameterTypes);
+        if (method == null) {
+            LOGGER.warn("Método {}.{} não encontrado; documentos OpenAPI serão obtidos via HTTP", type.getSimpleName(), name);
+            return null;
+        }
+        ReflectionUtils.makeAccessible(method);
+        return method;
+    }
+
+    private record CachedDocument(OpenAPI model, JsonNode tree) {
+    }
+}
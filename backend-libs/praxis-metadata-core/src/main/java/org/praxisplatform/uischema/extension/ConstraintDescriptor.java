@@ -0,0 +1,59 @@
+package org.praxisplatform.uischema.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+
+/**
+ * Valores já extraídos de uma anotação de validação (Jakarta Validation) usados pelo {@link CustomOpenApiResolver}.
+ * <p>
+ * Os atributos são lidos por reflexão uma única vez por anotação e mantidos neste descritor imutável,
+ * evitando novas chamadas reflexivas nas gerações seguintes do schema. Atributos não aplicáveis ao
+ * tipo da anotação (ou que não puderam ser lidos) ficam <code>null</code>.
+ *
+ * @param type           nome simples do tipo da anotação (por exemplo, "Size")
+ * @param min            <code>min</code> de {@code @Size}
+ * @param max            <code>max</code> de {@code @Size}
+ * @param value          <code>value</code> de {@code @Min}/{@code @Max} ({@link Long}) ou de
+ *                       {@code @DecimalMin}/{@code @DecimalMax} ({@link BigDecimal})
+ * @param regexp         <code>regexp</code> de {@code @Pattern}
+ * @param message        mensagem explícita da anotação, ou <code>null</code> quando é uma chave de
+ *                       interpolação (<code>{...}</code>)
+ * @param integerDigits  <code>integer</code> de {@code @Digits}
+ * @param fractionDigits <code>fraction</code> de {@code @Digits}
+ */
+record ConstraintDescriptor(String type, Integer min, Integer max, Number value, String regexp, String message,
+                            Integer integerDigits, Integer fractionDigits) {
+
+    static ConstraintDescriptor of(Annotation annotation) {
+        String type = annotation.annotationType().getSimpleName();
+        try {
+            return switch (type) {
+                case "Size" -> new ConstraintDescriptor(type, (Integer) read(annotation, "min"),
+                        (Integer) read(annotation, "max"), null, null, message(annotation), null, null);
+                case "Min", "Max" -> new ConstraintDescriptor(type, null, null,
+                        (Long) read(annotation, "value"), null, message(annotation), null, null);
+                case "DecimalMin", "DecimalMax" -> new ConstraintDescriptor(type, null, null,
+                        new BigDecimal((String) read(annotation, "value")), null, message(annotation), null, null);
+                case "Pattern" -> new ConstraintDescriptor(type, null, null, null,
+                        (String) read(annotation, "regexp"), message(annotation), null, null);
+                case "Digits" -> new ConstraintDescriptor(type, null, null, null, null, null,
+                        (Integer) read(annotation, "integer"), (Integer) read(annotation, "fraction"));
+                default -> new ConstraintDescriptor(type, null, null, null, null, null, null, null);
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Ignorar erros de reflexão: a anotação é tratada apenas pelo tipo
+            return new ConstraintDescriptor(type, null, null, null, null, null, null, null);
+        }
+    }
+
+    private static Object read(Annotation annotation, String attribute) throws ReflectiveOperationException {
+        Method method = annotation.annotationType().getMethod(attribute);
+        return method.invoke(annotation);
+    }
+
+    private static String message(Annotation annotation) throws ReflectiveOperationException {
+        String message = (String) read(annotation, "message");
+        return message != null && !message.startsWith("{") ? message : null;
+    }
+}
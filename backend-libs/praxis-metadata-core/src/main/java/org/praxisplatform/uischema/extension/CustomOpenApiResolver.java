@@ -11,27 +11,21 @@ import org.praxisplatform.uischema.util.OpenApiUiUtils;
 import org.praxisplatform.uischema.filter.annotation.Filterable;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomOpenApiResolver extends ModelResolver {
 
-    // Cache para armazenar campos constantes das interfaces
-    private static final Map<String, String> FIELD_PROPERTIES_MAP = new HashMap<>();
-    private static final Map<String, String> VALIDATION_PROPERTIES_MAP = new HashMap<>();
     // Constante para o nome da extensão UI
     private static final String UI_EXTENSION_NAME = "x-ui";
     private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(CustomOpenApiResolver.class);
 
-
-    // Inicializar o cache estaticamente
-    static {
-        initializePropertiesMap(FieldConfigProperties.class, FIELD_PROPERTIES_MAP);
-        initializePropertiesMap(ValidationProperties.class, VALIDATION_PROPERTIES_MAP);
-    }
+    /**
+     * Descritores das anotações de validação já interpretadas, por instância (valor) de anotação.
+     */
+    private final Map<Annotation, ConstraintDescriptor> constraintDescriptors = new ConcurrentHashMap<>();
 
     public CustomOpenApiResolver(ObjectMapper mapper) {
         super(mapper);
@@ -42,14 +36,15 @@ public class CustomOpenApiResolver extends ModelResolver {
     protected void applyBeanValidatorAnnotations(Schema property, Annotation[] annotations, Schema parent, boolean applyNotNullAnnotations) {
         super.applyBeanValidatorAnnotations(property, annotations, parent, applyNotNullAnnotations);
 
-        if (annotations != null && ResolverUtils.getAnnotation(UISchema.class, annotations) != null) {
+        UISchema uiSchema = annotations != null ? ResolverUtils.getAnnotation(UISchema.class, annotations) : null;
+        if (uiSchema != null) {
             // NOVA ORDEM DE PRECEDÊNCIA (do menor para o maior):
             // 1. Valores padrão da anotação @UISchema (base)
             // 2. Detecção automática baseada no OpenAPI Schema (sobrescreve padrões)
             // 3. Valores explícitos da anotação @UISchema (sobrescreve detecção automática)
             // 4. extraProperties (sobrescreve tudo)
             
-            resolveSchemaWithPrecedence(property, annotations);
+            resolveSchemaWithPrecedence(property, uiSchema, annotations);
 
             // Centralized validation message population
             OpenApiUiUtils.populateDefaultValidationMessages(getUIExtensionMap(property));
@@ -59,10 +54,7 @@ public class CustomOpenApiResolver extends ModelResolver {
     /**
      * Resolve UI Schema com ordem de precedência clara e bem definida
      */
-    private void resolveSchemaWithPrecedence(Schema<?> property, Annotation[] annotations) {
-        UISchema annotation = ResolverUtils.getAnnotation(UISchema.class, annotations);
-        if (annotation == null) return;
-        
+    private void resolveSchemaWithPrecedence(Schema<?> property, UISchema annotation, Annotation[] annotations) {
         Map<String, Object> uiExtension = getUIExtensionMap(property);
         String fieldName = property.getName(); // Nome do campo para detecção inteligente
 
@@ -89,71 +81,13 @@ public class CustomOpenApiResolver extends ModelResolver {
 
 
 
-    private String getExtensionPropertyName(String methodName) {
-        // Primeiro verificar se o método corresponde a uma propriedade em FieldConfigProperties
-        for (Map.Entry<String, String> entry : FIELD_PROPERTIES_MAP.entrySet()) {
-            String constName = entry.getKey();
-            String propertyValue = entry.getValue();
-
-            // Converter de camelCase para CONSTANT_CASE para comparação aproximada
-            String camelCasePropertyName = toCamelCase(constName);
-
-            if (methodName.equalsIgnoreCase(camelCasePropertyName)) {
-                return propertyValue;
-            }
-        }
-
-        // Em seguida, verificar ValidationProperties
-        for (Map.Entry<String, String> entry : VALIDATION_PROPERTIES_MAP.entrySet()) {
-            String constName = entry.getKey();
-            String propertyValue = entry.getValue();
-
-            // Converter de camelCase para CONSTANT_CASE para comparação aproximada
-            String camelCasePropertyName = toCamelCase(constName);
-
-            if (methodName.equalsIgnoreCase(camelCasePropertyName)) {
-                return propertyValue;
-            }
-        }
-
-        // Se não encontrado, usar o próprio nome do método
-        return methodName;
-    }
-
-    private static String toCamelCase(String constCase) {
-        if (constCase == null || constCase.isEmpty()) {
-            return constCase;
-        }
-
-        String[] parts = constCase.toLowerCase().split("_");
-        StringBuilder camelCase = new StringBuilder(parts[0]);
-
-        for (int i = 1; i < parts.length; i++) {
-            if (parts[i].length() > 0) {
-                camelCase.append(Character.toUpperCase(parts[i].charAt(0)))
-                        .append(parts[i].substring(1));
-            }
-        }
-
-        return camelCase.toString();
-    }
-
     /**
-     * Inicializa dinamicamente o mapa de propriedades a partir de uma interface de constantes
+     * Nome da propriedade x-ui correspondente ao nome de método/atributo informado.
+     *
+     * @see ExtensionPropertyNames#resolve(String)
      */
-    private static void initializePropertiesMap(Class<?> interfaceClass, Map<String, String> propertiesMap) {
-        try {
-            Field[] fields = interfaceClass.getDeclaredFields();
-            for (Field field : fields) {
-                if (field.getType() == String.class && java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-                    String constName = field.getName();
-                    String constValue = (String) field.get(null);
-                    propertiesMap.put(constName, constValue);
-                }
-            }
-        } catch (Exception e) {
-            // Log error if needed
-        }
+    private String getExtensionPropertyName(String methodName) {
+        return ExtensionPropertyNames.resolve(methodName);
     }
 
     private void resolveExtension(Schema<?> property, Annotation[] annotations) {
@@ -350,89 +284,7 @@ public class CustomOpenApiResolver extends ModelResolver {
         }
 
         // 2. Processar anotações Jakarta Validation
-        for (Annotation annotation : annotations) {
-            String annotationType = annotation.annotationType().getSimpleName();
-
-            switch (annotationType) {
-                // Validações de obrigatoriedade
-                case "NotNull":
-                case "NotEmpty":
-                case "NotBlank":
-                    // Use the utility method. Message will be handled by processValidationMessages if not set by another source.
-                    OpenApiUiUtils.populateUiRequired(uiExtension, true);
-                    break;
-
-                // Validações de tamanho
-                case "Size":
-                    processSizeAnnotation(annotation, uiExtension);
-                    break;
-
-                // Validações numéricas
-                case "Min":
-                    processMinAnnotation(annotation, uiExtension);
-                    break;
-
-                case "Max":
-                    processMaxAnnotation(annotation, uiExtension);
-                    break;
-
-                case "DecimalMin":
-                    processDecimalMinAnnotation(annotation, uiExtension);
-                    break;
-
-                case "DecimalMax":
-                    processDecimalMaxAnnotation(annotation, uiExtension);
-                    break;
-
-                // Validações de padrão
-                case "Pattern":
-                    processPatternAnnotation(annotation, uiExtension);
-                    break;
-
-                // Validações de email
-                case "Email":
-                    if (!uiExtension.containsKey(FieldConfigProperties.CONTROL_TYPE.getValue())) {
-                        // Assuming FieldControlType.EMAIL_INPUT is now available
-                        uiExtension.put(FieldConfigProperties.CONTROL_TYPE.getValue(), FieldControlType.EMAIL_INPUT.getValue());
-                    }
-                    break;
-
-                // Validações booleanas
-                case "AssertTrue":
-                case "AssertFalse":
-                    if (!uiExtension.containsKey(FieldConfigProperties.CONTROL_TYPE.getValue())) {
-                        uiExtension.put(FieldConfigProperties.CONTROL_TYPE.getValue(), FieldControlType.CHECKBOX.getValue());
-                    }
-                    break;
-
-                // Validações de data
-                case "Past":
-                case "PastOrPresent":
-                case "Future":
-                case "FutureOrPresent":
-                    processTemporal(annotation, annotationType, uiExtension);
-                    break;
-
-                // Validações numéricas adicionais
-                case "Positive":
-                case "PositiveOrZero":
-                    processPositiveAnnotation(annotationType, uiExtension); // This method itself sets CONTROL_TYPE to "numeric"
-                    break;
-
-                case "Negative":
-                case "NegativeOrZero":
-                    processNegativeAnnotation(annotationType, uiExtension);
-                    break;
-
-                case "Digits":
-                    processDigitsAnnotation(annotation, uiExtension);
-                    break;
-
-                default:
-                    // Outras anotações não processadas
-                    break;
-            }
-        }
+        processJakartaValidationAnnotations(property, annotations, uiExtension);
     }
 
     // The determineControlType method is removed as its functionality is replaced by determineEffectiveControlType.
@@ -440,113 +292,49 @@ public class CustomOpenApiResolver extends ModelResolver {
     /**
      * Processa a anotação @Size para definir minLength e maxLength
      */
-    private void processSizeAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method minMethod = annotation.annotationType().getMethod("min");
-            Integer min = (Integer) minMethod.invoke(annotation);
-
-            Method maxMethod = annotation.annotationType().getMethod("max");
-            Integer max = (Integer) maxMethod.invoke(annotation);
-
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation); // Generic message for @Size
-
-            // populateUiMinLength and populateUiMaxLength will handle the Integer.MAX_VALUE check for max
-            // Pass the generic @Size message; specific min/max messages will be generated by processValidationMessages if needed and if this message is not set
-            OpenApiUiUtils.populateUiMinLength(uiExtension, (min > 0 ? min : null), !message.startsWith("{") ? message : null);
-            OpenApiUiUtils.populateUiMaxLength(uiExtension, (max < Integer.MAX_VALUE ? max : null), !message.startsWith("{") ? message : null);
-
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
-        }
-    }
-
-    /**
-     * Processa a anotação @Min para definir min
-     */
-    private void processMinAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method valueMethod = annotation.annotationType().getMethod("value");
-            Long value = (Long) valueMethod.invoke(annotation);
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation);
-
-            OpenApiUiUtils.populateUiMinimum(uiExtension, value, !message.startsWith("{") ? message : null);
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
-        }
-    }
-
-    /**
-     * Processa a anotação @Max para definir max
-     */
-    private void processMaxAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method valueMethod = annotation.annotationType().getMethod("value");
-            Long value = (Long) valueMethod.invoke(annotation);
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation);
-
-            OpenApiUiUtils.populateUiMaximum(uiExtension, value, !message.startsWith("{") ? message : null);
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
-        }
+    private void processSizeAnnotation(ConstraintDescriptor constraint, Map<String, Object> uiExtension) {
+        Integer min = constraint.min();
+        Integer max = constraint.max();
+        if (min == null || max == null) {
+            return;
+        }
+        // populateUiMinLength and populateUiMaxLength will handle the Integer.MAX_VALUE check for max
+        // Pass the generic @Size message; specific min/max messages will be generated by processValidationMessages if needed and if this message is not set
+        OpenApiUiUtils.populateUiMinLength(uiExtension, (min > 0 ? min : null), constraint.message());
+        OpenApiUiUtils.populateUiMaxLength(uiExtension, (max < Integer.MAX_VALUE ? max : null), constraint.message());
     }
 
     /**
-     * Processa a anotação @DecimalMin
+     * Processa as anotações @Min e @DecimalMin para definir min
      */
-    private void processDecimalMinAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method valueMethod = annotation.annotationType().getMethod("value");
-            String stringValue = (String) valueMethod.invoke(annotation);
-            java.math.BigDecimal value = new java.math.BigDecimal(stringValue);
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation);
-
-            OpenApiUiUtils.populateUiMinimum(uiExtension, value, !message.startsWith("{") ? message : null);
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
+    private void processMinAnnotation(ConstraintDescriptor constraint, Map<String, Object> uiExtension) {
+        if (constraint.value() != null) {
+            OpenApiUiUtils.populateUiMinimum(uiExtension, constraint.value(), constraint.message());
         }
     }
 
     /**
-     * Processa a anotação @DecimalMax
+     * Processa as anotações @Max e @DecimalMax para definir max
      */
-    private void processDecimalMaxAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method valueMethod = annotation.annotationType().getMethod("value");
-            String stringValue = (String) valueMethod.invoke(annotation);
-            java.math.BigDecimal value = new java.math.BigDecimal(stringValue);
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation);
-
-            OpenApiUiUtils.populateUiMaximum(uiExtension, value, !message.startsWith("{") ? message : null);
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
+    private void processMaxAnnotation(ConstraintDescriptor constraint, Map<String, Object> uiExtension) {
+        if (constraint.value() != null) {
+            OpenApiUiUtils.populateUiMaximum(uiExtension, constraint.value(), constraint.message());
         }
     }
 
     /**
      * Processa a anotação @Pattern
      */
-    private void processPatternAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method regexpMethod = annotation.annotationType().getMethod("regexp");
-            String patternValue = (String) regexpMethod.invoke(annotation);
-            Method messageMethod = annotation.annotationType().getMethod("message");
-            String message = (String) messageMethod.invoke(annotation);
-
-            OpenApiUiUtils.populateUiPattern(uiExtension, patternValue, !message.startsWith("{") ? message : null);
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
+    private void processPatternAnnotation(ConstraintDescriptor constraint, Map<String, Object> uiExtension) {
+        if (constraint.regexp() != null) {
+            OpenApiUiUtils.populateUiPattern(uiExtension, constraint.regexp(), constraint.message());
         }
     }
 
     /**
      * Processa anotações temporais (Past, Future, etc)
      */
-    private void processTemporal(Annotation annotation, String annotationType, Map<String, Object> uiExtension) {
+    private void processTemporal(String annotationType, Map<String, Object> uiExtension) {
         if (!uiExtension.containsKey(FieldConfigProperties.CONTROL_TYPE.getValue())) {
             uiExtension.put(FieldConfigProperties.CONTROL_TYPE.getValue(), FieldControlType.DATE_PICKER.getValue());
         }
@@ -615,39 +403,34 @@ public class CustomOpenApiResolver extends ModelResolver {
     /**
      * Processa a anotação @Digits
      */
-    private void processDigitsAnnotation(Annotation annotation, Map<String, Object> uiExtension) {
-        try {
-            Method integerMethod = annotation.annotationType().getMethod("integer");
-            int integerDigits = (int) integerMethod.invoke(annotation);
-
-            Method fractionMethod = annotation.annotationType().getMethod("fraction");
-            int fractionDigits = (int) fractionMethod.invoke(annotation);
-
-            // Configura formato numérico baseado nos dígitos inteiros e fracionários
-            if (!uiExtension.containsKey(FieldConfigProperties.NUMERIC_FORMAT.getValue())) {
-                StringBuilder format = new StringBuilder();
-                format.append("#");
-
-                if (integerDigits > 1) {
-                    format.append(",".repeat(integerDigits - 1));
-                }
+    private void processDigitsAnnotation(ConstraintDescriptor constraint, Map<String, Object> uiExtension) {
+        if (constraint.integerDigits() == null || constraint.fractionDigits() == null) {
+            return;
+        }
+        int integerDigits = constraint.integerDigits();
+        int fractionDigits = constraint.fractionDigits();
 
-                if (fractionDigits > 0) {
-                    format.append(".");
-                    format.append("#".repeat(fractionDigits));
-                }
+        // Configura formato numérico baseado nos dígitos inteiros e fracionários
+        if (!uiExtension.containsKey(FieldConfigProperties.NUMERIC_FORMAT.getValue())) {
+            StringBuilder format = new StringBuilder();
+            format.append("#");
 
-                uiExtension.put(FieldConfigProperties.NUMERIC_FORMAT.getValue(), format.toString());
+            if (integerDigits > 1) {
+                format.append(",".repeat(integerDigits - 1));
             }
 
-            // Configura step para garantir precisão adequada
-            if (!uiExtension.containsKey(FieldConfigProperties.NUMERIC_STEP.getValue())) {
-                double step = Math.pow(10, -fractionDigits);
-                uiExtension.put(FieldConfigProperties.NUMERIC_STEP.getValue(), String.valueOf(step));
+            if (fractionDigits > 0) {
+                format.append(".");
+                format.append("#".repeat(fractionDigits));
             }
 
-        } catch (Exception e) {
-            // Ignorar erros de reflexão
+            uiExtension.put(FieldConfigProperties.NUMERIC_FORMAT.getValue(), format.toString());
+        }
+
+        // Configura step para garantir precisão adequada
+        if (!uiExtension.containsKey(FieldConfigProperties.NUMERIC_STEP.getValue())) {
+            double step = Math.pow(10, -fractionDigits);
+            uiExtension.put(FieldConfigProperties.NUMERIC_STEP.getValue(), String.valueOf(step));
         }
     }
 
@@ -798,6 +581,9 @@ public class CustomOpenApiResolver extends ModelResolver {
 
         // Extra detection based on @Filterable annotation for array fields
         Filterable filterable = ResolverUtils.getAnnotation(Filterable.class, annotations);
+        if (filterable != null) {
+            uiExtension.put(FieldConfigProperties.FILTER_OPERATION.getValue(), filterable.operation().name());
+        }
         if (filterable != null
                 && filterable.operation() == Filterable.FilterOperation.BETWEEN
                 && "array".equals(openApiType)
@@ -972,9 +758,9 @@ public class CustomOpenApiResolver extends ModelResolver {
      * ETAPA 4: Processa anotações Jakarta Validation
      */
     private void processJakartaValidationAnnotations(Schema<?> property, Annotation[] annotations, Map<String, Object> uiExtension) {
-        // Reutilizar a lógica existente do processStandardAnnotations
         for (Annotation annotation : annotations) {
-            String annotationType = annotation.annotationType().getSimpleName();
+            ConstraintDescriptor constraint = constraintDescriptors.computeIfAbsent(annotation, ConstraintDescriptor::of);
+            String annotationType = constraint.type();
 
             switch (annotationType) {
                 case "NotNull":
@@ -984,27 +770,21 @@ public class CustomOpenApiResolver extends ModelResolver {
                     break;
 
                 case "Size":
-                    processSizeAnnotation(annotation, uiExtension);
+                    processSizeAnnotation(constraint, uiExtension);
                     break;
 
                 case "Min":
-                    processMinAnnotation(annotation, uiExtension);
-                    break;
-
-                case "Max":
-                    processMaxAnnotation(annotation, uiExtension);
-                    break;
-
                 case "DecimalMin":
-                    processDecimalMinAnnotation(annotation, uiExtension);
+                    processMinAnnotation(constraint, uiExtension);
                     break;
 
+                case "Max":
                 case "DecimalMax":
-                    processDecimalMaxAnnotation(annotation, uiExtension);
+                    processMaxAnnotation(constraint, uiExtension);
                     break;
 
                 case "Pattern":
-                    processPatternAnnotation(annotation, uiExtension);
+                    processPatternAnnotation(constraint, uiExtension);
                     break;
 
                 case "Email":
@@ -1024,7 +804,7 @@ public class CustomOpenApiResolver extends ModelResolver {
                 case "PastOrPresent":
                 case "Future":
                 case "FutureOrPresent":
-                    processTemporal(annotation, annotationType, uiExtension);
+                    processTemporal(annotationType, uiExtension);
                     break;
 
                 case "Positive":
@@ -1038,7 +818,7 @@ public class CustomOpenApiResolver extends ModelResolver {
                     break;
 
                 case "Digits":
-                    processDigitsAnnotation(annotation, uiExtension);
+                    processDigitsAnnotation(constraint, uiExtension);
                     break;
             }
         }
@@ -1,37 +1,67 @@
 package org.praxisplatform.uischema.extension;
 
 import java.lang.annotation.*;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResolverUtils {
+
+    private static final Set<Class<?>> IGNORED_META_ANNOTATIONS =
+            Set.of(Target.class, Retention.class, Inherited.class, Documented.class);
+
+    /**
+     * Resultado da busca por meta-anotações, por tipo de anotação e tipo procurado. As meta-anotações
+     * pertencem à classe da anotação, portanto a busca recursiva é feita uma única vez por par de tipos.
+     */
+    private static final ClassValue<Map<Class<?>, Optional<Object>>> META_ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Optional<Object>> computeValue(Class<?> annotationType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private ResolverUtils() {
     }
 
     public static <T> T getAnnotation(Class<T> cls, Annotation... annotations) {
-        return getAnnotation(cls, buildVisitedSet(), annotations);
-    }
-
-    private static <T> T getAnnotation(Class<T> cls, Set<Class<?>> visited, Annotation... annotations) {
         if (annotations == null) {
             return null;
         }
         for (Annotation annotation : annotations) {
-            if (cls.isAssignableFrom(annotation.getClass())) {
+            if (cls.isInstance(annotation)) {
                 return cls.cast(annotation);
             }
-            if (!visited.contains(annotation.getClass())) {
-                visited.add(annotation.getClass());
-                T meta = getAnnotation(cls, visited, annotation.annotationType().getAnnotations());
-                if (meta != null) return meta;
+        }
+        for (Annotation annotation : annotations) {
+            Optional<Object> meta = META_ANNOTATIONS.get(annotation.annotationType())
+                    .computeIfAbsent(cls, type -> Optional.ofNullable(
+                            findMetaAnnotation(type, new HashSet<>(IGNORED_META_ANNOTATIONS), annotation.annotationType())));
+            if (meta.isPresent()) {
+                return cls.cast(meta.get());
             }
         }
         return null;
     }
 
-    private static Set<Class<?>> buildVisitedSet() {
-        return Stream.of(Target.class, Retention.class, Inherited.class, Documented.class)
-                .collect(Collectors.toSet());
+    private static Object findMetaAnnotation(Class<?> cls, Set<Class<?>> visited, Class<? extends Annotation> annotationType) {
+        if (!visited.add(annotationType)) {
+            return null;
+        }
+        Annotation[] metaAnnotations = annotationType.getAnnotations();
+        for (Annotation meta : metaAnnotations) {
+            if (cls.isInstance(meta)) {
+                return meta;
+            }
+        }
+        for (Annotation meta : metaAnnotations) {
+            Object found = findMetaAnnotation(cls, visited, meta.annotationType());
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
     }
 }
@@ -18,6 +18,7 @@ import java.lang.annotation.Target;
  *         igualdade, maior que, menor que, entre outros. Consulte {@link FilterOperation} para as opções disponíveis.</li>
  *     <li><b>relation</b>: Define o caminho de relacionamento da entidade, se o campo não pertence diretamente
  *         à entidade raiz. Use o formato "relacao1.relacao2.campo" para navegar por relacionamentos aninhados.</li>
+ *     <li><b>searchFields</b>: Caminhos da entidade pesquisados por {@link FilterOperation#FULL_TEXT}.</li>
  * </ul>
  *
  * <h2>Exemplo de Uso</h2>
@@ -34,6 +35,14 @@ import java.lang.annotation.Target;
  *     @Filterable(operation = FilterOperation.LIKE, relation = "tipoSexo.nome")
  *     private String tipoSexoDescricao;
  *
+ *     // Filtro por prefixo, que pode usar o índice da coluna
+ *     @Filterable(operation = FilterOperation.STARTS_WITH)
+ *     private String cpf;
+ *
+ *     // Busca textual livre em vários campos da entidade
+ *     @Filterable(operation = FilterOperation.FULL_TEXT, searchFields = {"nome", "cpf", "email"})
+ *     private String busca;
+ *
  *     // Filtro de maior que em um campo de data
  *     @Filterable(operation = FilterOperation.GREATER_THAN)
  *     private LocalDate dataNascimento;
@@ -85,6 +94,15 @@ public @interface Filterable {
      */
     String relation() default "";
 
+    /**
+     * Caminhos da entidade pesquisados pela operação {@link FilterOperation#FULL_TEXT}, no mesmo formato de
+     * {@link #relation()}.
+     * <p>Quando vazio, é pesquisado apenas o caminho de {@link #relation()} (ou o próprio nome do campo).</p>
+     *
+     * @return Os caminhos pesquisados.
+     */
+    String[] searchFields() default {};
+
     /**
      * Enumeração com as operações de filtro disponíveis.
      */
@@ -112,6 +130,30 @@ public @interface Filterable {
         /**
          * Filtro de valores entre dois limites (e.g., campo BETWEEN valor1 AND valor2).
          */
-        BETWEEN
+        BETWEEN,
+        /**
+         * Filtro por prefixo, sensível a maiúsculas (e.g., campo LIKE 'valor%'). Pode usar o índice B-tree da coluna.
+         */
+        STARTS_WITH,
+        /**
+         * Filtro por sufixo, sensível a maiúsculas (e.g., campo LIKE '%valor').
+         */
+        ENDS_WITH,
+        /**
+         * Filtro de conteúdo sensível a maiúsculas (e.g., campo LIKE '%valor%'). Ao contrário de {@link #LIKE},
+         * não aplica <code>lower()</code> à coluna, permitindo índices de trigramas ou equivalentes.
+         */
+        CONTAINS,
+        /**
+         * Filtro de igualdade sem diferenciar maiúsculas (e.g., lower(campo) = lower(valor)). Usa índice quando
+         * existir um índice funcional sobre <code>lower(campo)</code>.
+         */
+        EQUAL_IGNORE_CASE,
+        /**
+         * Busca textual livre em {@link Filterable#searchFields()}: cada termo do valor deve ocorrer em algum dos
+         * campos. O predicado é montado pela {@code SearchStrategy} configurada no
+         * {@code GenericSpecificationsBuilder} (busca nativa do banco, LIKE ou índice invertido em memória).
+         */
+        FULL_TEXT
     }
 }
@@ -0,0 +1,54 @@
+package org.praxisplatform.uischema.filter.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+
+import java.util.Locale;
+
+/**
+ * Busca textual com as funções nativas do banco, quando o dialeto as suporta.
+ *
+ * <p>No PostgreSQL, os campos são concatenados em um único documento e comparados com
+ * <code>to_tsvector(documento) @@ plainto_tsquery(texto)</code> (via <code>ts_match_vq</code>), usando a
+ * configuração de texto padrão do banco. Para aproveitar um índice GIN, crie-o sobre a mesma expressão
+ * <code>to_tsvector(coalesce(campo1, '') || ' ' || coalesce(campo2, '') ...)</code>.</p>
+ *
+ * <p>Nos demais bancos (cujas funções de texto exigem sintaxe própria, como <code>MATCH ... AGAINST</code>, ou
+ * índices dedicados), a busca recorre à {@link LikeSearchStrategy}.</p>
+ */
+public class DatabaseSearchStrategy extends LikeSearchStrategy {
+
+    private final boolean postgres;
+
+    /**
+     * @param databaseProductName nome do banco, como informado por
+     *                            {@link java.sql.DatabaseMetaData#getDatabaseProductName()}; pode ser <code>null</code>
+     */
+    public DatabaseSearchStrategy(String databaseProductName) {
+        this.postgres = databaseProductName != null
+                && databaseProductName.toLowerCase(Locale.ROOT).contains("postgres");
+    }
+
+    /**
+     * @return se a busca nativa do banco é usada (caso contrário, a busca usa LIKE)
+     */
+    public boolean isNative() {
+        return postgres;
+    }
+
+    @Override
+    public jakarta.persistence.criteria.Predicate toPredicate(SearchContext context, String text) {
+        if (!postgres) {
+            return super.toPredicate(context, text);
+        }
+        CriteriaBuilder cb = context.criteriaBuilder();
+        Expression<String> document = null;
+        for (Expression<String> field : context.fields().values()) {
+            Expression<String> value = cb.coalesce(field, "");
+            document = document == null ? value : cb.concat(cb.concat(document, " "), value);
+        }
+        Expression<Object> vector = cb.function("to_tsvector", Object.class, document);
+        Expression<Object> query = cb.function("plainto_tsquery", Object.class, cb.literal(text));
+        return cb.isTrue(cb.function("ts_match_vq", Boolean.class, vector, query));
+    }
+}
@@ -0,0 +1,373 @@
+package org.praxisplatform.uischema.filter.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Busca textual com um índice invertido mantido em memória, indicada para tabelas pequenas ou médias.
+ *
+ * <p>Os textos são divididos em termos normalizados (minúsculas, sem acentos, separados por qualquer caractere que
+ * não seja letra ou dígito) e cada termo aponta para os identificadores dos registros que o contêm. Na busca, cada
+ * termo digitado é tratado como prefixo ("jo" encontra "João") e deve ocorrer em algum dos campos pesquisados; a
+ * consulta ao banco se reduz a <code>id IN (...)</code>, com custo proporcional à quantidade de resultados e não ao
+ * tamanho da tabela. A lista é dividida conforme o limite de itens em <code>IN</code> do dialeto; se os resultados
+ * passarem de metade do limite de parâmetros do dialeto, a busca é delegada ao fallback.</p>
+ *
+ * <p>A aplicação declara os textos de cada entidade e cria o índice na inicialização:</p>
+ * <pre>{@code
+ * searchStrategy.register(Funcionario.class, f -> Map.of(
+ *         "nomeCompleto", f.getNomeCompleto(), "email", f.getEmail(), "cpf", f.getCpf()));
+ * searchStrategy.rebuild(Funcionario.class, repository.findAll().stream()
+ *         .collect(Collectors.toMap(Funcionario::getId, Function.identity())));
+ * }</pre>
+ * <p>Depois disso, as escritas dos serviços CRUD ({@code save}, {@code update}, {@code updateAttributes}, operações
+ * em lote e exclusões) atualizam o índice por {@link #onSaved} e {@link #onDeleted}, após o commit da transação.
+ * Escritas feitas por fora dos serviços devem chamar {@link #index} e {@link #remove}. Se a entidade foi indexada
+ * apenas com {@link #index}, sem {@link #register}, uma escrita descarta o índice.</p>
+ *
+ * <p>Entidades não indexadas, entidades sem identificador simples ou buscas em campos que não fazem parte do
+ * índice são delegadas à estratégia de fallback ({@link LikeSearchStrategy} por padrão).</p>
+ *
+ * <p>O índice pertence a uma única instância da aplicação: com várias réplicas, cada uma só enxerga as próprias
+ * escritas e os índices das demais ficam desatualizados sem aviso. Nesse cenário informe <code>maxAge</code> no
+ * construtor e reconstrua o índice periodicamente com {@link #rebuild}: um índice criado há mais de
+ * <code>maxAge</code> é descartado e as buscas voltam ao fallback até a próxima reconstrução.</p>
+ */
+public class InvertedIndexSearchStrategy implements SearchStrategy {
+
+    private final SearchStrategy fallback;
+    private final long maxAgeNanos;
+    private final Map<Class<?>, EntityIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<String>> idAttributes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Function<Object, Map<String, String>>> registeredFields = new ConcurrentHashMap<>();
+
+    /**
+     * Cria o índice usando {@link LikeSearchStrategy} para as buscas que ele não cobre.
+     */
+    public InvertedIndexSearchStrategy() {
+        this(new LikeSearchStrategy());
+    }
+
+    /**
+     * @param fallback estratégia usada para as buscas que o índice não cobre
+     */
+    public InvertedIndexSearchStrategy(SearchStrategy fallback) {
+        this(fallback, null);
+    }
+
+    /**
+     * @param fallback estratégia usada para as buscas que o índice não cobre
+     * @param maxAge   idade máxima de um índice, contada desde {@link #rebuild} (ou da primeira chamada a
+     *                 {@link #index}); <code>null</code> para não expirar
+     */
+    public InvertedIndexSearchStrategy(SearchStrategy fallback, Duration maxAge) {
+        this.fallback = fallback;
+        this.maxAgeNanos = maxAge == null ? Long.MAX_VALUE : maxAge.toNanos();
+    }
+
+    /**
+     * Declara os textos indexados da entidade, usados por {@link #rebuild} e pela atualização do índice após as
+     * escritas dos serviços CRUD.
+     *
+     * @param entityClass entidade
+     * @param fields      textos de um registro por caminho na entidade (valores <code>null</code> são ignorados)
+     * @param <T>         tipo da entidade
+     */
+    public <T> void register(Class<T> entityClass, Function<? super T, Map<String, String>> fields) {
+        registeredFields.put(entityClass, entity -> fields.apply(entityClass.cast(entity)));
+    }
+
+    /**
+     * Recria o índice da entidade com os registros informados, a partir dos textos declarados em {@link #register}.
+     *
+     * @param entityClass  entidade
+     * @param entitiesById registros por identificador
+     * @param <T>          tipo da entidade
+     * @throws IllegalStateException se a entidade não tiver sido registrada
+     */
+    public <T> void rebuild(Class<T> entityClass, Map<?, ? extends T> entitiesById) {
+        Function<Object, Map<String, String>> fields = registeredFields.get(entityClass);
+        if (fields == null) {
+            throw new IllegalStateException("Entidade não registrada no índice: " + entityClass.getName());
+        }
+        EntityIndex index = new EntityIndex();
+        entitiesById.forEach((id, entity) -> index.put(id, fields.apply(entity)));
+        indexes.put(entityClass, index);
+    }
+
+    /**
+     * Indexa (ou reindexa) um registro.
+     *
+     * @param entityClass entidade do registro
+     * @param id          identificador do registro
+     * @param fields      textos do registro por caminho na entidade (valores <code>null</code> são ignorados)
+     */
+    public void index(Class<?> entityClass, Object id, Map<String, String> fields) {
+        current(entityClass);
+        indexes.computeIfAbsent(entityClass, type -> new EntityIndex()).put(id, fields);
+    }
+
+    /**
+     * Remove um registro do índice.
+     *
+     * @param entityClass entidade do registro
+     * @param id          identificador do registro
+     */
+    public void remove(Class<?> entityClass, Object id) {
+        EntityIndex index = indexes.get(entityClass);
+        if (index != null) {
+            index.remove(id);
+        }
+    }
+
+    /**
+     * Descarta o índice da entidade; as buscas voltam a usar a estratégia de fallback até nova indexação.
+     *
+     * @param entityClass entidade
+     */
+    public void clear(Class<?> entityClass) {
+        indexes.remove(entityClass);
+    }
+
+    /**
+     * Identificadores dos registros em que cada termo do texto ocorre, como prefixo, em algum dos campos.
+     *
+     * @param entityClass entidade
+     * @param fields      caminhos pesquisados
+     * @param text        texto da busca
+     * @return os identificadores encontrados (vazio se a entidade não estiver indexada)
+     */
+    public Set<Object> search(Class<?> entityClass, Collection<String> fields, String text) {
+        EntityIndex index = current(entityClass);
+        return index == null ? Set.of() : index.search(fields, SearchTerms.tokens(text));
+    }
+
+    @Override
+    public boolean isIndexed(Class<?> entityClass) {
+        return current(entityClass) != null;
+    }
+
+    @Override
+    public void onSaved(Class<?> entityClass, Map<?, ?> entitiesById) {
+        if (!isIndexed(entityClass)) {
+            return;
+        }
+        Function<Object, Map<String, String>> fields = registeredFields.get(entityClass);
+        if (fields == null) {
+            // Sem os textos declarados o índice ficaria desatualizado: as buscas voltam ao fallback
+            clear(entityClass);
+            return;
+        }
+        // Os textos são lidos agora, com as entidades ainda gerenciadas; o índice só muda após o commit
+        Map<Object, Map<String, String>> values = new LinkedHashMap<>();
+        entitiesById.forEach((id, entity) -> values.put(id, fields.apply(entity)));
+        afterCommit(() -> {
+            EntityIndex index = indexes.get(entityClass);
+            if (index != null) {
+                values.forEach(index::put);
+            }
+        });
+    }
+
+    @Override
+    public void onDeleted(Class<?> entityClass, Collection<?> ids) {
+        if (!isIndexed(entityClass)) {
+            return;
+        }
+        List<?> removed = List.copyOf(ids);
+        afterCommit(() -> removed.forEach(id -> remove(entityClass, id)));
+    }
+
+    @Override
+    public Predicate toPredicate(SearchContext context, String text) {
+        Root<?> root = context.root();
+        EntityIndex index = current(root.getJavaType());
+        Optional<String> idAttribute = idAttributes.computeIfAbsent(root.getJavaType(), type -> idAttribute(root));
+        if (index == null || idAttribute.isEmpty() || !index.covers(context.fields().keySet())) {
+            return fallback.toPredicate(context, text);
+        }
+        Set<Object> ids = index.search(context.fields().keySet(), SearchTerms.tokens(text));
+        CriteriaBuilder cb = context.criteriaBuilder();
+        if (ids.isEmpty()) {
+            return cb.disjunction();
+        }
+        Dialect dialect = cb instanceof NodeBuilder nodeBuilder
+                ? nodeBuilder.getSessionFactory().getJdbcServices().getDialect()
+                : null;
+        int parameterLimit = dialect == null ? 0 : dialect.getParameterCountLimit();
+        if (parameterLimit > 0 && ids.size() > parameterLimit / 2) {
+            // Metade dos parâmetros fica reservada para o restante da consulta
+            return fallback.toPredicate(context, text);
+        }
+        int inLimit = dialect == null || dialect.getInExpressionCountLimit() <= 0
+                ? ids.size()
+                : dialect.getInExpressionCountLimit();
+        Path<Object> id = root.get(idAttribute.get());
+        if (ids.size() <= inLimit) {
+            return id.in(ids);
+        }
+        List<Object> values = new ArrayList<>(ids);
+        List<Predicate> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += inLimit) {
+            chunks.add(id.in(values.subList(from, Math.min(from + inLimit, values.size()))));
+        }
+        return cb.or(chunks.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Índice da entidade, descartado se tiver passado de <code>maxAge</code>.
+     */
+    private EntityIndex current(Class<?> entityClass) {
+        EntityIndex index = indexes.get(entityClass);
+        if (index != null && System.nanoTime() - index.createdAt >= maxAgeNanos) {
+            indexes.remove(entityClass, index);
+            return null;
+        }
+        return index;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static Optional<String> idAttribute(Root<?> root) {
+        if (!root.getModel().hasSingleIdAttribute()) {
+            return Optional.empty();
+        }
+        return root.getModel().getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(SingularAttribute::getName)
+                .findFirst();
+    }
+
+    /**
+     * Índice de uma entidade. As postagens são indexadas por <code>campo + '\0' + termo</code>, o que permite
+     * localizar os termos de um campo que começam com um prefixo com uma única consulta de intervalo.
+     */
+    private static final class EntityIndex {
+
+        private static final char SEPARATOR = '\0';
+
+        private final long createdAt = System.nanoTime();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Set<Object>> postings = new TreeMap<>();
+        private final Map<Object, Set<String>> documents = new HashMap<>();
+        private final Set<String> fields = new HashSet<>();
+
+        void put(Object id, Map<String, String> values) {
+            Set<String> keys = new HashSet<>();
+            values.forEach((field, value) -> {
+                if (value != null) {
+                    for (String token : SearchTerms.tokens(value)) {
+                        keys.add(field + SEPARATOR + token);
+                    }
+                }
+            });
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(id);
+                fields.addAll(values.keySet());
+                for (String key : keys) {
+                    postings.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+                }
+                documents.put(id, keys);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Object id) {
+            lock.writeLock().lock();
+            try {
+                removeUnlocked(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean covers(Collection<String> searchFields) {
+            lock.readLock().lock();
+            try {
+                return fields.containsAll(searchFields);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Set<Object> search(Collection<String> searchFields, List<String> tokens) {
+            if (tokens.isEmpty()) {
+                return Set.of();
+            }
+            lock.readLock().lock();
+            try {
+                Set<Object> result = null;
+                for (String token : tokens) {
+                    Set<Object> matches = new HashSet<>();
+                    for (String field : searchFields) {
+                        String from = field + SEPARATOR + token;
+                        postings.subMap(from, true, from + Character.MAX_VALUE, true)
+                                .values()
+                                .forEach(matches::addAll);
+                    }
+                    if (result == null) {
+                        result = matches;
+                    } else {
+                        result.retainAll(matches);
+                    }
+                    if (result.isEmpty()) {
+                        break;
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeUnlocked(Object id) {
+            Set<String> keys = documents.remove(id);
+            if (keys == null) {
+                return;
+            }
+            for (String key : keys) {
+                Set<Object> ids = postings.get(key);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
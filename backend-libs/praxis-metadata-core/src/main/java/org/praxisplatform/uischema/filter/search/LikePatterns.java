@@ -0,0 +1,33 @@
+package org.praxisplatform.uischema.filter.search;
+
+/**
+ * Escape de curingas em padrões LIKE, compartilhado pelas operações de texto do filtro e pela
+ * {@link LikeSearchStrategy}: <code>%</code>, <code>_</code> e o próprio {@link #ESCAPE} digitados pelo usuário são
+ * tratados como texto.
+ */
+public final class LikePatterns {
+
+    /**
+     * Caractere de escape a ser informado em <code>CriteriaBuilder.like(..., ESCAPE)</code>.
+     */
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    /**
+     * @param text texto digitado pelo usuário
+     * @return o texto com os curingas de LIKE escapados por {@link #ESCAPE}
+     */
+    public static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
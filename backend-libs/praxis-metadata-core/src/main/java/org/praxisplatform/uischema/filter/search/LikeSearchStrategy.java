@@ -0,0 +1,33 @@
+package org.praxisplatform.uischema.filter.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca textual com LIKE: o texto é dividido em termos por espaços e cada termo deve ocorrer, sem diferenciar
+ * maiúsculas, em pelo menos um dos campos (<code>lower(campo) LIKE '%termo%'</code>). Curingas digitados pelo
+ * usuário são tratados como texto.
+ *
+ * <p>É portável, mas não usa índices comuns: o custo cresce com o tamanho da tabela.</p>
+ */
+public class LikeSearchStrategy implements SearchStrategy {
+
+    @Override
+    public Predicate toPredicate(SearchContext context, String text) {
+        CriteriaBuilder cb = context.criteriaBuilder();
+        List<Predicate> terms = new ArrayList<>();
+        for (String word : SearchTerms.words(text)) {
+            String pattern = "%" + LikePatterns.escape(word) + "%";
+            List<Predicate> matches = new ArrayList<>(context.fields().size());
+            for (Expression<String> field : context.fields().values()) {
+                matches.add(cb.like(cb.lower(field), pattern, LikePatterns.ESCAPE));
+            }
+            terms.add(cb.or(matches.toArray(new Predicate[0])));
+        }
+        return cb.and(terms.toArray(new Predicate[0]));
+    }
+}
@@ -0,0 +1,21 @@
+package org.praxisplatform.uischema.filter.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
+
+/**
+ * Consulta em construção e campos pesquisados por uma {@link SearchStrategy}.
+ *
+ * @param root            raiz da consulta
+ * @param query           consulta (pode ser <code>null</code> em Specifications usadas fora de uma consulta)
+ * @param criteriaBuilder construtor de critérios JPA
+ * @param fields          expressões dos campos pesquisados, por caminho na entidade (por exemplo, "cargo.nome"),
+ *                        na ordem declarada em {@code Filterable#searchFields()}
+ */
+public record SearchContext(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder,
+                            Map<String, Expression<String>> fields) {
+}
@@ -0,0 +1,61 @@
+package org.praxisplatform.uischema.filter.search;
+
+import jakarta.persistence.criteria.Predicate;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estratégia de busca textual usada pela operação {@link Filterable.FilterOperation#FULL_TEXT}.
+ *
+ * <p>Implementações disponíveis:</p>
+ * <ul>
+ *     <li>{@link LikeSearchStrategy}: cada termo deve ocorrer (via <code>lower(campo) LIKE '%termo%'</code>) em algum
+ *     dos campos. Funciona em qualquer banco, mas percorre a tabela inteira.</li>
+ *     <li>{@link DatabaseSearchStrategy}: usa as funções de busca textual nativas do banco quando o dialeto as
+ *     suporta e recorre ao LIKE nos demais casos.</li>
+ *     <li>{@link InvertedIndexSearchStrategy}: índice invertido em memória, indicado para tabelas pequenas ou médias;
+ *     a consulta ao banco passa a ser um <code>id IN (...)</code>.</li>
+ * </ul>
+ */
+public interface SearchStrategy {
+
+    /**
+     * Cria o predicado da busca.
+     *
+     * @param context consulta e campos pesquisados
+     * @param text    texto informado no filtro (nunca em branco)
+     * @return o predicado da busca
+     */
+    Predicate toPredicate(SearchContext context, String text);
+
+    /**
+     * Se a estratégia mantém um índice próprio dos registros da entidade, que precisa acompanhar as escritas. Os
+     * serviços CRUD só chamam {@link #onSaved} e {@link #onDeleted} quando este método retorna <code>true</code>.
+     *
+     * @param entityClass entidade
+     */
+    default boolean isIndexed(Class<?> entityClass) {
+        return false;
+    }
+
+    /**
+     * Avisa que registros da entidade foram criados ou alterados pelo serviço CRUD. É chamado dentro da transação da
+     * escrita, com as entidades ainda gerenciadas; alterações no índice devem ser aplicadas após o commit.
+     *
+     * @param entityClass  entidade
+     * @param entitiesById entidades gravadas por identificador
+     */
+    default void onSaved(Class<?> entityClass, Map<?, ?> entitiesById) {
+    }
+
+    /**
+     * Avisa que registros da entidade foram excluídos pelo serviço CRUD.
+     *
+     * @param entityClass entidade
+     * @param ids         identificadores excluídos (podem incluir registros inexistentes)
+     */
+    default void onDeleted(Class<?> entityClass, Collection<?> ids) {
+    }
+}
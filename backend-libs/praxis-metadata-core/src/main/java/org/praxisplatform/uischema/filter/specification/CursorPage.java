@@ -0,0 +1,24 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma consulta paginada por cursor (keyset).
+ *
+ * @param content registros da página
+ * @param next    token opaco para buscar a próxima página ou <code>null</code> quando não houver mais registros
+ * @param size    tamanho de página solicitado
+ * @param hasNext se existem registros após esta página
+ * @param <T>     tipo dos registros
+ * @see KeysetCursor
+ */
+public record CursorPage<T>(List<T> content, String next, int size, boolean hasNext) {
+
+    /**
+     * Converte os registros da página, mantendo o cursor.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), next, size, hasNext);
+    }
+}
@@ -0,0 +1,68 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Forma normalizada de um filtro, usada como chave de cache.
+ *
+ * <p>Considera apenas os campos anotados com {@link Filterable} com valor não nulo (lidos pelo {@link FilterPlan}
+ * da classe), ordenados pelo nome do campo. Coleções e arrays viram listas e {@link BigDecimal} perde os zeros
+ * à direita, de modo que filtros equivalentes geram chaves iguais.</p>
+ *
+ * @param entityClass entidade consultada
+ * @param filterClass classe do DTO de filtro
+ * @param values      valores normalizados dos campos filtráveis preenchidos, por nome do campo
+ */
+public record FilterKey(Class<?> entityClass, Class<?> filterClass, Map<String, Object> values) {
+
+    /**
+     * Normaliza o filtro informado.
+     *
+     * @param entityClass entidade consultada
+     * @param filter      DTO de filtro
+     * @return a chave do filtro
+     */
+    public static FilterKey of(Class<?> entityClass, GenericFilterDTO filter) {
+        Map<String, Object> values = new TreeMap<>();
+        for (FilterPlan.FilterField field : FilterPlan.of(filter.getClass()).fields()) {
+            Object value = field.read(filter);
+            if (value != null) {
+                values.put(field.name(), normalize(value));
+            }
+        }
+        return new FilterKey(entityClass, filter.getClass(), Collections.unmodifiableMap(values));
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> items = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                items.add(item == null ? null : normalize(item));
+            }
+            return Collections.unmodifiableList(items);
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> items = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object item = Array.get(value, i);
+                items.add(item == null ? null : normalize(item));
+            }
+            return Collections.unmodifiableList(items);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,137 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano de filtragem compilado para uma classe de DTO de filtro.
+ *
+ * <p>Reúne, para cada campo anotado com {@link Filterable}, um acessor ({@link MethodHandle}) já resolvido,
+ * o caminho da propriedade na entidade já dividido em segmentos e a operação configurada. O plano é
+ * compilado uma única vez por classe (ver {@link #of(Class)}), de modo que a construção de uma
+ * Specification não precisa de reflexão.</p>
+ */
+final class FilterPlan {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<FilterPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected FilterPlan computeValue(Class<?> filterClass) {
+            return compile(filterClass);
+        }
+    };
+
+    private final List<FilterField> fields;
+    private final Map<String, String> sortRelations;
+
+    private FilterPlan(List<FilterField> fields, Map<String, String> sortRelations) {
+        this.fields = fields;
+        this.sortRelations = sortRelations;
+    }
+
+    /**
+     * Retorna o plano da classe informada, compilando-o na primeira chamada.
+     *
+     * @param filterClass classe do DTO de filtro
+     * @return o plano compilado
+     */
+    static FilterPlan of(Class<?> filterClass) {
+        return PLANS.get(filterClass);
+    }
+
+    /**
+     * @return campos filtráveis, na ordem de declaração
+     */
+    List<FilterField> fields() {
+        return fields;
+    }
+
+    /**
+     * Caminho de ordenação para o campo do DTO informado, conforme {@link Filterable#relation()}.
+     *
+     * @param property nome do campo no DTO
+     * @return o caminho na entidade ou <code>null</code> se o campo não declarar relação
+     */
+    String sortRelation(String property) {
+        return sortRelations.get(property);
+    }
+
+    private static FilterPlan compile(Class<?> filterClass) {
+        List<FilterField> fields = new ArrayList<>();
+        Map<String, String> sortRelations = new HashMap<>();
+        for (Field field : filterClass.getDeclaredFields()) {
+            Filterable filterable = field.getAnnotation(Filterable.class);
+            if (filterable == null) {
+                continue;
+            }
+            String relation = filterable.relation();
+            String propertyPath = relation.isEmpty() ? field.getName() : relation;
+            List<String> segments = List.of(propertyPath.split("\\."));
+            fields.add(new FilterField(field.getName(), accessor(field), propertyPath, segments,
+                    filterable.operation(), searchSegments(filterable, segments)));
+            if (!relation.isEmpty()) {
+                sortRelations.put(field.getName(), relation);
+            }
+        }
+        return new FilterPlan(List.copyOf(fields), Collections.unmodifiableMap(sortRelations));
+    }
+
+    private static List<List<String>> searchSegments(Filterable filterable, List<String> segments) {
+        if (filterable.operation() != Filterable.FilterOperation.FULL_TEXT) {
+            return List.of();
+        }
+        if (filterable.searchFields().length == 0) {
+            return List.of(segments);
+        }
+        List<List<String>> searchSegments = new ArrayList<>();
+        for (String searchField : filterable.searchFields()) {
+            searchSegments.add(List.of(searchField.split("\\.")));
+        }
+        return List.copyOf(searchSegments);
+    }
+
+    private static MethodHandle accessor(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new SpecificationBuildException("Erro ao acessar o campo: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Campo filtrável de um DTO.
+     *
+     * @param name           nome do campo no DTO
+     * @param accessor       acessor do valor do campo, com tipo <code>(Object)Object</code>
+     * @param propertyPath   caminho da propriedade na entidade (por exemplo, "cargo.nome")
+     * @param segments       {@code propertyPath} dividido por "."
+     * @param operation      operação de filtragem
+     * @param searchSegments caminhos pesquisados por {@link Filterable.FilterOperation#FULL_TEXT}, já divididos
+     *                       em segmentos (vazio para as demais operações)
+     */
+    record FilterField(String name, MethodHandle accessor, String propertyPath, List<String> segments,
+                       Filterable.FilterOperation operation, List<List<String>> searchSegments) {
+
+        /**
+         * Lê o valor do campo na instância do DTO.
+         */
+        Object read(Object filter) {
+            try {
+                return (Object) accessor.invokeExact(filter);
+            } catch (Throwable e) {
+                throw new SpecificationBuildException("Erro ao acessar o campo: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fatia de uma consulta filtrada, sem contagem obrigatória de registros.
+ *
+ * @param content       registros da fatia
+ * @param number        número da página (base 0)
+ * @param size          tamanho de página solicitado
+ * @param hasNext       se existem registros após esta fatia
+ * @param totalElements total de registros do filtro, quando disponível; pode ser <code>null</code> (não solicitado
+ *                      ou ainda em cálculo) e, quando vindo de cache, refletir o estado de alguns instantes atrás
+ * @param <T>           tipo dos registros
+ */
+public record FilterSlice<T>(List<T> content, int number, int size, boolean hasNext, Long totalElements) {
+
+    /**
+     * Cria a fatia a partir de um {@link Slice} e do total, se houver.
+     */
+    public static <T> FilterSlice<T> of(Slice<T> slice, Long totalElements) {
+        return new FilterSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements);
+    }
+
+    /**
+     * Converte os registros da fatia, mantendo as demais informações.
+     */
+    public <R> FilterSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new FilterSlice<>(content.stream().<R>map(mapper).toList(), number, size, hasNext, totalElements);
+    }
+}
@@ -2,19 +2,26 @@ package org.praxisplatform.uischema.filter.specification;
 
 import org.praxisplatform.uischema.filter.annotation.Filterable;
 import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.search.LikePatterns;
+import org.praxisplatform.uischema.filter.search.LikeSearchStrategy;
+import org.praxisplatform.uischema.filter.search.SearchContext;
+import org.praxisplatform.uischema.filter.search.SearchStrategy;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.lang.reflect.Field;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Classe responsável por construir Specifications genéricas para consultas JPA, baseando-se em DTOs de filtro
@@ -23,9 +30,11 @@ import java.util.Optional;
  *
  * <p>Principais responsabilidades:
  * <ul>
- *   <li>Identificar campos no DTO que possuem a anotação {@link Filterable}.</li>
+ *   <li>Identificar campos no DTO que possuem a anotação {@link Filterable}, compilando-os uma única vez
+ *   por classe em um {@link FilterPlan}.</li>
  *   <li>Resolver caminhos de propriedades, incluindo relacionamentos e atributos básicos.</li>
  *   <li>Construir predicados (restrições de consulta) baseados nas operações especificadas em {@link Filterable}.</li>
+ *   <li>Delegar as buscas {@link Filterable.FilterOperation#FULL_TEXT} à {@link SearchStrategy} configurada.</li>
  * </ul>
  *
  * @param <E> Tipo da entidade alvo da consulta.
@@ -42,9 +51,62 @@ public class GenericSpecificationsBuilder<E> {
             new GreaterThanPredicateBuilder(),
             new LessThanPredicateBuilder(),
             new InPredicateBuilder(),
-            new BetweenPredicateBuilder() // Adiciona o suporte para BETWEEN
+            new BetweenPredicateBuilder(), // Adiciona o suporte para BETWEEN
+            new StartsWithPredicateBuilder(),
+            new EndsWithPredicateBuilder(),
+            new ContainsPredicateBuilder(),
+            new EqualIgnoreCasePredicateBuilder()
     );
 
+    /**
+     * Construtor de predicado de cada operação, resolvido uma única vez a partir de {@link #predicateBuilders}.
+     */
+    private final Map<Filterable.FilterOperation, PredicateBuilder> predicateBuildersByOperation =
+            indexPredicateBuilders(predicateBuilders);
+
+    /**
+     * Quando verdadeiro, os relacionamentos to-one usados pelos filtros são carregados com fetch join na consulta
+     * de dados. A consulta de contagem continua usando joins comuns.
+     */
+    private final boolean fetchJoins;
+
+    /**
+     * Estratégia que monta os predicados de {@link Filterable.FilterOperation#FULL_TEXT}.
+     */
+    private final SearchStrategy searchStrategy;
+
+    /**
+     * Cria um construtor que usa apenas joins comuns.
+     */
+    public GenericSpecificationsBuilder() {
+        this(false);
+    }
+
+    /**
+     * @param fetchJoins se os relacionamentos to-one usados pelos filtros devem ser carregados com fetch join na
+     *                   consulta de dados (a consulta de contagem mantém joins comuns)
+     */
+    public GenericSpecificationsBuilder(boolean fetchJoins) {
+        this(fetchJoins, new LikeSearchStrategy());
+    }
+
+    /**
+     * @param fetchJoins     se os relacionamentos to-one usados pelos filtros devem ser carregados com fetch join na
+     *                       consulta de dados (a consulta de contagem mantém joins comuns)
+     * @param searchStrategy estratégia das buscas {@link Filterable.FilterOperation#FULL_TEXT}
+     */
+    public GenericSpecificationsBuilder(boolean fetchJoins, SearchStrategy searchStrategy) {
+        this.fetchJoins = fetchJoins;
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * @return a estratégia das buscas {@link Filterable.FilterOperation#FULL_TEXT}
+     */
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
     /**
      * Método principal que constrói uma Specification com base em um DTO de filtro, além de processar
      * {@link Pageable} quanto aos relacionamentos descritos em {@link Filterable#relation()} e apontados em {@link Sort}.
@@ -62,13 +124,13 @@ public class GenericSpecificationsBuilder<E> {
     }
 
     private <FDT extends GenericFilterDTO> Specification<E> processSpecification(FDT filter) {
+        FilterPlan plan = FilterPlan.of(filter.getClass());
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
+            JoinRegistry joins = JoinRegistry.forQuery(root, query, fetchJoins);
 
-            List<Field> fields = getAnnotatedFields(filter);
-
-            for (Field field : fields) {
-                processField(field, filter, root, criteriaBuilder, predicates);
+            for (FilterPlan.FilterField field : plan.fields()) {
+                processField(field, filter, joins, query, criteriaBuilder, predicates);
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -80,89 +142,75 @@ public class GenericSpecificationsBuilder<E> {
         if (!sort.isSorted()) {
             return oldPageable;
         }
+        FilterPlan plan = FilterPlan.of(filter.getClass());
         // Spring Data's Sort exposes the orders through the {@code stream()} method.
         // Using {@code get()} would fail to compile on newer versions where the
         // method does not exist. The stream is then mapped to keep the original
         // direction while replacing the property when a relation is configured.
         List<Sort.Order> orderList = sort.stream().map(order -> {
-            try {
-                Field field = filter.getClass().getDeclaredField(order.getProperty());
-                Filterable filterable = field.getAnnotation(Filterable.class);
-                if (filterable == null || filterable.relation().isEmpty()) {
-                    return order;
-                }
-                return order.withProperty(filterable.relation());
-            } catch (NoSuchFieldException e) {
-                return order;
-            }
+            String relation = plan.sortRelation(order.getProperty());
+            return relation == null ? order : order.withProperty(relation);
         }).toList();
         return ((PageRequest) oldPageable).withSort(Sort.by(orderList));
     }
 
-    /**
-     * Identifica os campos no DTO que possuem a anotação {@link Filterable}.
-     *
-     * @param filter Instância do DTO de filtro.
-     * @return Lista de campos anotados.
-     */
-    private <FDT extends GenericFilterDTO> List<Field> getAnnotatedFields(FDT filter) {
-        List<Field> annotatedFields = new ArrayList<>();
-        for (Field field : filter.getClass().getDeclaredFields()) {
-            if (field.isAnnotationPresent(Filterable.class)) {
-                annotatedFields.add(field);
-            }
-        }
-        return annotatedFields;
-    }
-
     /**
      * Processa um campo anotado com {@link Filterable} para criar um predicado correspondente.
      *
      * <p>Etapas:
      * <ul>
-     *   <li>Extrai o valor do campo no DTO.</li>
+     *   <li>Extrai o valor do campo no DTO através do acessor compilado no {@link FilterPlan}.</li>
      *   <li>Resolve o caminho para a propriedade correspondente na entidade.</li>
-     *   <li>Identifica o tipo de operação (e.g., EQUAL, LIKE) e cria o predicado apropriado.</li>
+     *   <li>Cria o predicado com o construtor associado à operação (e.g., EQUAL, LIKE).</li>
      * </ul>
      *
-     * @param field           Campo do DTO.
+     * @param field           Campo do plano de filtragem.
      * @param filter          Instância do DTO de filtro.
-     * @param root            Raiz da consulta JPA.
+     * @param joins           Joins já criados na consulta, reutilizados entre os campos.
+     * @param query           Consulta em construção.
      * @param criteriaBuilder Construtor de critérios JPA.
      * @param predicates      Lista de predicados a ser preenchida.
      */
-    private <FDT extends GenericFilterDTO> void processField(Field field, FDT filter, Root<E> root,
-                              CriteriaBuilder criteriaBuilder, List<Predicate> predicates) {
-        try {
-            field.setAccessible(true);
-            Object value = field.get(filter);
-            if (value != null) {
-                Filterable filterable = field.getAnnotation(Filterable.class);
-                jakarta.persistence.criteria.Path<?> path;
-
-                // Usa o campo relacionado, se especificado
-                String relation = filterable.relation();
-                if (!relation.isEmpty()) {
-                    path = resolvePath(root, relation);
-                } else {
-                    path = root.get(field.getName());
-                }
-
-                // Adiciona o predicado com base na operação
-                addPredicate(predicates, criteriaBuilder, path, value, filterable);
+    private <FDT extends GenericFilterDTO> void processField(FilterPlan.FilterField field, FDT filter, JoinRegistry joins,
+                              CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, List<Predicate> predicates) {
+        Object value = field.read(filter);
+        if (value == null) {
+            return;
+        }
+        if (field.operation() == Filterable.FilterOperation.FULL_TEXT) {
+            if (!(value instanceof String text)) {
+                throw new IllegalArgumentException("FULL_TEXT operation requires a String value.");
+            }
+            if (!text.isBlank()) {
+                predicates.add(searchStrategy.toPredicate(searchContext(field, joins, query, criteriaBuilder), text));
             }
-        } catch (IllegalAccessException e) {
-            throw new SpecificationBuildException("Erro ao acessar o campo: " + field.getName(), e);
+            return;
+        }
+        PredicateBuilder predicateBuilder = predicateBuildersByOperation.get(field.operation());
+        if (predicateBuilder != null) {
+            predicates.add(predicateBuilder.build(criteriaBuilder, joins.resolve(field.segments()), value));
         }
     }
 
+    /**
+     * Monta o contexto da busca textual, resolvendo cada caminho de {@link Filterable#searchFields()} pelos joins
+     * da consulta.
+     */
+    private static SearchContext searchContext(FilterPlan.FilterField field, JoinRegistry joins,
+                                               CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Map<String, jakarta.persistence.criteria.Expression<String>> fields = new LinkedHashMap<>();
+        for (List<String> segments : field.searchSegments()) {
+            fields.put(String.join(".", segments), PatternPredicateBuilder.stringExpression(joins.resolve(segments)));
+        }
+        return new SearchContext(joins.root(), query, criteriaBuilder, fields);
+    }
 
     /**
      * Resolve o caminho para uma propriedade, incluindo múltiplos níveis de relacionamentos (e.g., "tipoSexo.nome").
      *
      * <p>Etapas:
      * <ul>
-     *   <li>Navega pelos relacionamentos usando {@link Join} para cada nível intermediário.</li>
+     *   <li>Navega pelos relacionamentos criando um {@link Join} LEFT para cada nível intermediário.</li>
      *   <li>Acessa o atributo básico no último nível.</li>
      * </ul>
      *
@@ -171,47 +219,34 @@ public class GenericSpecificationsBuilder<E> {
      * @return O caminho resolvido para a propriedade.
      */
     jakarta.persistence.criteria.Path<?> resolvePath(Root<?> root, String relationPath) {
-        String[] relations = relationPath.split("\\."); // Divide o caminho em partes
-        jakarta.persistence.criteria.Path<?> path = root;
-
-        for (int i = 0; i < relations.length; i++) {
-            String relation = relations[i];
-            if (i == relations.length - 1) {
-                // Último elemento: acessa diretamente como atributo básico
-                path = path.get(relation);
-            } else if (path instanceof Root<?>) {
-                // Relacionamento no root
-                path = ((Root<?>) path).join(relation, JoinType.LEFT);
-            } else if (path instanceof From<?, ?>) {
-                // Relacionamento em joins
-                path = ((From<?, ?>) path).join(relation, JoinType.LEFT);
-            } else {
-                throw new IllegalArgumentException("Não foi possível resolver o caminho: " + relationPath);
-            }
-        }
+        return resolvePath(root, List.of(relationPath.split("\\."))); // Divide o caminho em partes
+    }
 
-        return path;
+    /**
+     * Variante de {@link #resolvePath(Root, String)} que recebe o caminho já dividido em segmentos. Usa um
+     * {@link JoinRegistry} novo a cada chamada: joins já presentes na raiz não são reutilizados, e cada chamada cria
+     * os seus.
+     */
+    jakarta.persistence.criteria.Path<?> resolvePath(Root<?> root, List<String> relations) {
+        return new JoinRegistry(root, false).resolve(relations);
     }
 
 
     /**
-     * Cria e adiciona um predicado à lista com base no tipo de operação definido em {@link Filterable}.
+     * Associa cada {@link Filterable.FilterOperation} ao primeiro construtor de predicado que a suporta.
      *
-     * @param predicates      Lista de predicados.
-     * @param criteriaBuilder Construtor de critérios JPA.
-     * @param path            Caminho para a propriedade na entidade.
-     * @param value           Valor do filtro.
-     * @param filterable      Anotação {@link Filterable} que define a operação.
+     * @param builders construtores disponíveis, em ordem de prioridade
+     * @return mapa imutável de operação para construtor
      */
-    private void addPredicate(List<Predicate> predicates, CriteriaBuilder criteriaBuilder,
-                              jakarta.persistence.criteria.Path<?> path, Object value, Filterable filterable) {
-        Optional<PredicateBuilder> builder = predicateBuilders.stream()
-                .filter(b -> b.supports(filterable.operation()))
-                .findFirst();
-
-        builder.ifPresent(predicateBuilder -> predicates.add(
-                predicateBuilder.build(criteriaBuilder, path, value))
-        );
+    private static Map<Filterable.FilterOperation, PredicateBuilder> indexPredicateBuilders(List<PredicateBuilder> builders) {
+        Map<Filterable.FilterOperation, PredicateBuilder> index = new EnumMap<>(Filterable.FilterOperation.class);
+        for (Filterable.FilterOperation operation : Filterable.FilterOperation.values()) {
+            builders.stream()
+                    .filter(builder -> builder.supports(operation))
+                    .findFirst()
+                    .ifPresent(builder -> index.put(operation, builder));
+        }
+        return Collections.unmodifiableMap(index);
     }
 }
 
@@ -345,10 +380,84 @@ class BetweenPredicateBuilder implements PredicateBuilder {
     }
 }
 
+/**
+ * Base dos filtros de texto sensíveis a maiúsculas baseados em LIKE. Os curingas presentes no valor são escapados,
+ * e colunas do tipo String são usadas diretamente (sem <code>cast</code>), preservando o uso de índices.
+ */
+abstract class PatternPredicateBuilder implements PredicateBuilder {
+
+    @Override
+    public Predicate build(CriteriaBuilder criteriaBuilder, jakarta.persistence.criteria.Path<?> path, Object value) {
+        if (value instanceof String text) {
+            return criteriaBuilder.like(stringExpression(path), pattern(LikePatterns.escape(text)), LikePatterns.ESCAPE);
+        }
+        throw new IllegalArgumentException(getClass().getSimpleName() + " requires a String value.");
+    }
+
+    /**
+     * Monta o padrão LIKE a partir do valor já escapado.
+     */
+    protected abstract String pattern(String escaped);
+
+    @SuppressWarnings("unchecked")
+    static jakarta.persistence.criteria.Expression<String> stringExpression(jakarta.persistence.criteria.Path<?> path) {
+        if (String.class.equals(path.getJavaType())) {
+            return (jakarta.persistence.criteria.Expression<String>) path;
+        }
+        return path.as(String.class);
+    }
+}
+
+class StartsWithPredicateBuilder extends PatternPredicateBuilder {
+    @Override
+    public boolean supports(Filterable.FilterOperation operation) {
+        return operation == Filterable.FilterOperation.STARTS_WITH;
+    }
+
+    @Override
+    protected String pattern(String escaped) {
+        return escaped + "%";
+    }
+}
+
+class EndsWithPredicateBuilder extends PatternPredicateBuilder {
+    @Override
+    public boolean supports(Filterable.FilterOperation operation) {
+        return operation == Filterable.FilterOperation.ENDS_WITH;
+    }
+
+    @Override
+    protected String pattern(String escaped) {
+        return "%" + escaped;
+    }
+}
+
+class ContainsPredicateBuilder extends PatternPredicateBuilder {
+    @Override
+    public boolean supports(Filterable.FilterOperation operation) {
+        return operation == Filterable.FilterOperation.CONTAINS;
+    }
+
+    @Override
+    protected String pattern(String escaped) {
+        return "%" + escaped + "%";
+    }
+}
+
+class EqualIgnoreCasePredicateBuilder implements PredicateBuilder {
+    @Override
+    public boolean supports(Filterable.FilterOperation operation) {
+        return operation == Filterable.FilterOperation.EQUAL_IGNORE_CASE;
+    }
 
-// Exception class
-class SpecificationBuildException extends RuntimeException {
-    public SpecificationBuildException(String message, Throwable cause) {
-        super(message, cause);
+    @Override
+    public Predicate build(CriteriaBuilder criteriaBuilder, jakarta.persistence.criteria.Path<?> path, Object value) {
+        if (value instanceof String text) {
+            return criteriaBuilder.equal(
+                    criteriaBuilder.lower(PatternPredicateBuilder.stringExpression(path)),
+                    text.toLowerCase(Locale.ROOT)
+            );
+        }
+        throw new IllegalArgumentException("EQUAL_IGNORE_CASE operation requires a String value.");
     }
 }
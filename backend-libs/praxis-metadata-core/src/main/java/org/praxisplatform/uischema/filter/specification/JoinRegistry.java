@@ -0,0 +1,131 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro dos joins criados durante a construção de uma consulta.
+ *
+ * <p>Cada prefixo de caminho (por exemplo, "cargo" ou "cargo.departamento") gera no máximo um LEFT JOIN por
+ * consulta: filtros que compartilham o mesmo relacionamento reutilizam o mesmo nó {@link From}. Apenas os joins
+ * criados pelo próprio registro são reutilizados (chave: nó pai, relacionamento e tipo de join); joins adicionados
+ * à raiz por outras Specifications podem ter condições <code>ON</code> próprias e não são compartilhados.
+ * Quando {@code fetch} é verdadeiro, os relacionamentos simples (to-one)
+ * são criados como fetch joins; coleções continuam como joins comuns para não multiplicar linhas nem forçar
+ * paginação em memória.</p>
+ */
+final class JoinRegistry {
+
+    private final Root<?> root;
+    private final boolean fetch;
+    private final Map<JoinKey, From<?, ?>> joins = new HashMap<>();
+
+    /**
+     * @param root  raiz da consulta
+     * @param fetch se relacionamentos to-one devem ser carregados com fetch join
+     */
+    JoinRegistry(Root<?> root, boolean fetch) {
+        this.root = root;
+        this.fetch = fetch;
+    }
+
+    /**
+     * Cria um registro para a consulta informada, usando fetch joins apenas quando solicitado e quando a consulta
+     * retorna a própria entidade (consultas de contagem ou projeções não podem conter fetch joins).
+     */
+    static JoinRegistry forQuery(Root<?> root, CriteriaQuery<?> query, boolean fetchJoins) {
+        return new JoinRegistry(root, fetchJoins && query != null && selectsRoot(root, query));
+    }
+
+    /**
+     * @return raiz da consulta
+     */
+    Root<?> root() {
+        return root;
+    }
+
+    /**
+     * Resolve o caminho informado, reutilizando os joins já criados para os segmentos intermediários.
+     *
+     * @param segments caminho dividido em segmentos; o último é o atributo
+     * @return o caminho resolvido
+     */
+    Path<?> resolve(List<String> segments) {
+        From<?, ?> from = root;
+        for (int i = 0; i < segments.size() - 1; i++) {
+            String relation = segments.get(i);
+            From<?, ?> parent = from;
+            from = joins.computeIfAbsent(new JoinKey(parent, relation, JoinType.LEFT),
+                    key -> join(parent, relation, key.type()));
+        }
+        return from.get(segments.get(segments.size() - 1));
+    }
+
+    private From<?, ?> join(From<?, ?> parent, String relation, JoinType type) {
+        if (fetch && isSingular(parent, relation)) {
+            return (From<?, ?>) parent.fetch(relation, type);
+        }
+        return parent.join(relation, type);
+    }
+
+    private static boolean isSingular(From<?, ?> from, String relation) {
+        ManagedType<?> type = managedType(from);
+        if (type == null) {
+            return false;
+        }
+        try {
+            return !type.getAttribute(relation).isCollection();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static ManagedType<?> managedType(From<?, ?> from) {
+        if (from instanceof Root<?> r) {
+            return r.getModel();
+        }
+        if (from instanceof Join<?, ?> join) {
+            Attribute<?, ?> attribute = join.getAttribute();
+            if (attribute instanceof SingularAttribute<?, ?> singular && singular.getType() instanceof ManagedType<?> managed) {
+                return managed;
+            }
+            if (attribute instanceof PluralAttribute<?, ?, ?> plural && plural.getElementType() instanceof ManagedType<?> managed) {
+                return managed;
+            }
+        }
+        return null;
+    }
+
+    private static boolean selectsRoot(Root<?> root, CriteriaQuery<?> query) {
+        return root.getJavaType() == query.getResultType();
+    }
+
+    /**
+     * Chave de um join do registro. O nó pai é comparado por identidade, pois cada nó pertence a uma única consulta.
+     */
+    private record JoinKey(From<?, ?> parent, String relation, JoinType type) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof JoinKey key && parent == key.parent && relation.equals(key.relation)
+                    && type == key.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(parent) + relation.hashCode()) + type.hashCode();
+        }
+    }
+}
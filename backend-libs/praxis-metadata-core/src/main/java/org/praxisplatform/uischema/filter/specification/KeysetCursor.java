@@ -0,0 +1,135 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Posição de continuação de uma consulta paginada por chave (keyset).
+ *
+ * <p>Guarda os valores das colunas de ordenação do último registro retornado. O token exposto ao cliente é opaco
+ * (Base64 URL-safe de um JSON com os valores e a assinatura da ordenação); um token gerado para uma ordenação
+ * diferente da consulta atual é rejeitado. Os valores são convertidos para texto em formato ISO e reconvertidos
+ * para o tipo do atributo ao montar o predicado (ver {@link KeysetSpecification}).</p>
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ConversionService CONVERSION = createConversionService();
+
+    private final List<String> values;
+
+    private KeysetCursor(List<String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Cria o cursor posicionado após o registro informado.
+     *
+     * @param entity registro (último da página atual)
+     * @param sort   ordenação efetiva da consulta
+     * @return o cursor com os valores das colunas de ordenação do registro
+     */
+    public static KeysetCursor of(Object entity, Sort sort) {
+        List<String> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            values.add(CONVERSION.convert(read(entity, order.getProperty()), String.class));
+        }
+        return new KeysetCursor(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Decodifica um token gerado por {@link #encode(Sort)}.
+     *
+     * @param token token recebido do cliente
+     * @param sort  ordenação efetiva da consulta atual
+     * @return o cursor decodificado
+     * @throws IllegalArgumentException se o token for inválido ou tiver sido gerado para outra ordenação
+     */
+    public static KeysetCursor decode(String token, Sort sort) {
+        Token decoded;
+        try {
+            decoded = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Token.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Cursor inválido.", e);
+        }
+        if (decoded.s() == null || decoded.v() == null || !decoded.s().equals(signature(sort))
+                || decoded.v().size() != sort.toList().size()) {
+            throw new IllegalArgumentException("Cursor inválido para a ordenação informada.");
+        }
+        return new KeysetCursor(Collections.unmodifiableList(new ArrayList<>(decoded.v())));
+    }
+
+    /**
+     * Gera o token opaco do cursor.
+     *
+     * @param sort ordenação efetiva da consulta, registrada no token
+     * @return o token (Base64 URL-safe, sem padding)
+     */
+    public String encode(Sort sort) {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(new Token(signature(sort), values));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível gerar o cursor.", e);
+        }
+    }
+
+    /**
+     * @return valores das colunas de ordenação, na ordem do {@link Sort}, em formato texto
+     */
+    List<String> values() {
+        return values;
+    }
+
+    /**
+     * Converte o valor textual de uma coluna para o tipo do atributo.
+     */
+    static Object convert(String value, Class<?> type) {
+        return CONVERSION.convert(value, type);
+    }
+
+    private static Object read(Object target, String propertyPath) {
+        Object current = target;
+        for (String segment : propertyPath.split("\\.")) {
+            if (current == null) {
+                return null;
+            }
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(current);
+            current = wrapper.isReadableProperty(segment)
+                    ? wrapper.getPropertyValue(segment)
+                    : PropertyAccessorFactory.forDirectFieldAccess(current).getPropertyValue(segment);
+        }
+        return current;
+    }
+
+    private static String signature(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+    private static ConversionService createConversionService() {
+        DefaultFormattingConversionService service = new DefaultFormattingConversionService(false);
+        DateTimeFormatterRegistrar registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(service);
+        return service;
+    }
+
+    record Token(String s, List<String> v) {
+    }
+}
@@ -0,0 +1,117 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.dialect.NullOrdering;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicados de paginação por chave (keyset/seek).
+ *
+ * <p>Para a ordenação <code>(k1, k2, ..., id)</code> e o cursor <code>(v1, v2, ..., vId)</code>, gera o equivalente
+ * portável de <code>WHERE (k1, k2, ..., id) &gt; (v1, v2, ..., vId)</code>, respeitando a direção de cada coluna:</p>
+ * <pre>
+ * k1 &gt; v1
+ * OR (k1 = v1 AND k2 &gt; v2)
+ * OR (k1 = v1 AND k2 = v2 AND ... AND id &gt; vId)
+ * </pre>
+ *
+ * <p>Colunas anuláveis seguem a posição dos nulos usada pelo banco na ordenação (propriedade
+ * <code>hibernate.order_by.default_null_ordering</code> ou o padrão do dialeto): com nulos no fim, um cursor não nulo
+ * continua também nos registros com <code>IS NULL</code>; com nulos no início, um cursor nulo continua nos registros
+ * com <code>IS NOT NULL</code>. A última coluna deve identificar o registro de forma única (ver
+ * {@link #withTieBreaker(Sort, String)}).</p>
+ */
+public final class KeysetSpecification {
+
+    private KeysetSpecification() {
+    }
+
+    /**
+     * Acrescenta o identificador como último critério de ordenação, garantindo uma ordem total.
+     *
+     * @param sort       ordenação efetiva da consulta
+     * @param idProperty nome do atributo identificador
+     * @return a ordenação com o identificador no final (ascendente, se ainda não estiver presente)
+     */
+    public static Sort withTieBreaker(Sort sort, String idProperty) {
+        if (sort.getOrderFor(idProperty) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Order.asc(idProperty)));
+    }
+
+    /**
+     * Restringe a consulta aos registros posteriores ao cursor, na ordenação informada.
+     *
+     * @param sort   ordenação efetiva da consulta (a mesma usada para gerar o cursor)
+     * @param cursor posição do último registro já retornado
+     * @param <E>    tipo da entidade
+     * @return a Specification do predicado de continuação
+     */
+    public static <E> Specification<E> after(Sort sort, KeysetCursor cursor) {
+        List<Sort.Order> orders = sort.toList();
+        return (root, query, criteriaBuilder) -> {
+            JoinRegistry joins = new JoinRegistry(root, false);
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalities = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                Sort.Order order = orders.get(i);
+                Path<?> path = joins.resolve(List.of(order.getProperty().split("\\.")));
+                Object value = KeysetCursor.convert(cursor.values().get(i), path.getJavaType());
+
+                List<Predicate> alternative = new ArrayList<>(equalities);
+                alternative.add(beyond(criteriaBuilder, path, value, order.isAscending(),
+                        nullsFirst(criteriaBuilder, order.isAscending())));
+                alternatives.add(criteriaBuilder.and(alternative.toArray(new Predicate[0])));
+
+                equalities.add(value == null ? criteriaBuilder.isNull(path) : criteriaBuilder.equal(path, value));
+            }
+            return criteriaBuilder.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate beyond(CriteriaBuilder criteriaBuilder, Path<?> path, Object value, boolean ascending,
+                                    boolean nullsFirst) {
+        if (value == null) {
+            return nullsFirst ? criteriaBuilder.isNotNull(path) : criteriaBuilder.disjunction();
+        }
+        Expression<Comparable> expression = (Expression<Comparable>) path;
+        Predicate greater = ascending
+                ? criteriaBuilder.greaterThan(expression, (Comparable) value)
+                : criteriaBuilder.lessThan(expression, (Comparable) value);
+        return nullsFirst ? greater : criteriaBuilder.or(greater, criteriaBuilder.isNull(path));
+    }
+
+    /**
+     * Posição dos nulos na ordenação gerada pelo Hibernate, que não recebe precedência explícita do Spring Data.
+     */
+    private static boolean nullsFirst(CriteriaBuilder criteriaBuilder, boolean ascending) {
+        if (!(criteriaBuilder instanceof NodeBuilder nodeBuilder)) {
+            // Nulos como menores valores, o padrão da maioria dos bancos
+            return ascending;
+        }
+        SessionFactoryImplementor sessionFactory = nodeBuilder.getSessionFactory();
+        NullPrecedence precedence = sessionFactory.getSessionFactoryOptions().getDefaultNullPrecedence();
+        if (precedence == NullPrecedence.FIRST || precedence == NullPrecedence.LAST) {
+            return precedence == NullPrecedence.FIRST;
+        }
+        NullOrdering ordering = sessionFactory.getJdbcServices().getDialect().getNullOrdering();
+        return switch (ordering) {
+            case FIRST -> true;
+            case LAST -> false;
+            case SMALLEST -> ascending;
+            case GREATEST -> !ascending;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package org.praxisplatform.uischema.filter.specification;
+
+// Exception class
+class SpecificationBuildException extends RuntimeException {
+    public SpecificationBuildException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,6 +5,8 @@ import org.praxisplatform.uischema.rest.response.CustomProblemDetail;
 import org.praxisplatform.uischema.rest.response.RestApiResponse;
 import org.praxisplatform.uischema.rest.response.RestApiResponseStatus;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -86,6 +88,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler({OptimisticLockException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<RestApiResponse<Object>> handleOptimisticLock(Exception ex, WebRequest request) {
+        CustomProblemDetail customProblemDetail = new CustomProblemDetail(
+                "O registro foi alterado por outra requisição. Recarregue-o e tente novamente.");
+        customProblemDetail.setStatus(HttpStatus.CONFLICT);
+        customProblemDetail.setTitle("Conflito de versão");
+        customProblemDetail.setType(URI.create("https://example.com/probs/version-conflict"));
+        customProblemDetail.setInstance(URI.create(request.getDescription(false)));
+        customProblemDetail.setCategory(ErrorCategory.BUSINESS_LOGIC);
+
+        RestApiResponse<Object> response = RestApiResponse
+                .builder()
+                .status(RestApiResponseStatus.FAILURE)
+                .message("Conflito de versão")
+                .errors(List.of(customProblemDetail))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<RestApiResponse<Object>> handleGenericException(Exception ex, WebRequest request) {
 
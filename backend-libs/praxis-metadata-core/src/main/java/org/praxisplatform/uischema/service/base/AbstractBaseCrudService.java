@@ -3,8 +3,18 @@ package org.praxisplatform.uischema.service.base;
 import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
 import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
 import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * Convenience base class that wires required components for {@link BaseCrudService} implementations
  * and applies transactional semantics to write operations.
@@ -18,20 +28,37 @@ public abstract class AbstractBaseCrudService<E, D, ID, FD extends GenericFilter
         implements BaseCrudService<E, D, ID, FD> {
 
     private final BaseCrudRepository<E, ID> repository;
-    private final GenericSpecificationsBuilder<E> specificationsBuilder;
+    private GenericSpecificationsBuilder<E> specificationsBuilder;
+    private final boolean specificationsBuilderProvided;
     private final Class<E> entityClass;
+    private FilterCountCache filterCountCache;
+    private FilterResultCache filterResultCache;
+    private EntityManager entityManager;
+    private boolean referenceValidationEnabled;
 
     protected AbstractBaseCrudService(BaseCrudRepository<E, ID> repository,
                                       GenericSpecificationsBuilder<E> specificationsBuilder,
                                       Class<E> entityClass) {
-        this.repository = repository;
-        this.specificationsBuilder = specificationsBuilder;
-        this.entityClass = entityClass;
+        this(repository, specificationsBuilder, true, entityClass);
     }
 
+    /**
+     * Cria o serviço com um construtor de Specifications padrão, substituído pelo bean compartilhado quando houver
+     * (ver {@link #setSpecificationsBuilder(GenericSpecificationsBuilder)}).
+     */
     protected AbstractBaseCrudService(BaseCrudRepository<E, ID> repository,
                                       Class<E> entityClass) {
-        this(repository, new GenericSpecificationsBuilder<>(), entityClass);
+        this(repository, new GenericSpecificationsBuilder<>(), false, entityClass);
+    }
+
+    private AbstractBaseCrudService(BaseCrudRepository<E, ID> repository,
+                                    GenericSpecificationsBuilder<E> specificationsBuilder,
+                                    boolean specificationsBuilderProvided,
+                                    Class<E> entityClass) {
+        this.repository = repository;
+        this.specificationsBuilder = specificationsBuilder;
+        this.specificationsBuilderProvided = specificationsBuilderProvided;
+        this.entityClass = entityClass;
     }
 
     @Override
@@ -44,11 +71,78 @@ public abstract class AbstractBaseCrudService<E, D, ID, FD extends GenericFilter
         return specificationsBuilder;
     }
 
+    /**
+     * Define o construtor de Specifications compartilhado (bean <code>openApiUiSchemaSpecificationsBuilder</code>, com
+     * a {@link org.praxisplatform.uischema.filter.search.SearchStrategy} e o <code>praxis.filter.fetch-joins</code>
+     * configurados). Ignorado quando o serviço recebeu um construtor próprio.
+     */
+    @Autowired(required = false)
+    @SuppressWarnings("unchecked")
+    public void setSpecificationsBuilder(
+            @Qualifier("openApiUiSchemaSpecificationsBuilder") GenericSpecificationsBuilder<?> specificationsBuilder) {
+        if (!specificationsBuilderProvided && specificationsBuilder != null) {
+            this.specificationsBuilder = (GenericSpecificationsBuilder<E>) specificationsBuilder;
+        }
+    }
+
     @Override
     public Class<E> getEntityClass() {
         return entityClass;
     }
 
+    @Override
+    public FilterCountCache getFilterCountCache() {
+        return filterCountCache;
+    }
+
+    /**
+     * Define o cache de totais das consultas filtradas (injetado quando houver um bean {@link FilterCountCache}).
+     */
+    @Autowired(required = false)
+    public void setFilterCountCache(FilterCountCache filterCountCache) {
+        this.filterCountCache = filterCountCache;
+    }
+
+    @Override
+    public FilterResultCache getFilterResultCache() {
+        return filterResultCache;
+    }
+
+    /**
+     * Define o cache de resultados das consultas filtradas (injetado quando houver um bean {@link FilterResultCache}).
+     */
+    @Autowired(required = false)
+    public void setFilterResultCache(FilterResultCache filterResultCache) {
+        this.filterResultCache = filterResultCache;
+    }
+
+    @Override
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Define o gerenciador de entidades usado nas consultas projetadas (ver {@link #getProjectionClass()}).
+     */
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public boolean isReferenceValidationEnabled() {
+        return referenceValidationEnabled;
+    }
+
+    /**
+     * Define se os registros relacionados têm a existência verificada antes de gravar (ver
+     * {@link #resolveReferences(java.util.Collection)}).
+     */
+    @Value("${praxis.crud.references.validate:false}")
+    public void setReferenceValidationEnabled(boolean referenceValidationEnabled) {
+        this.referenceValidationEnabled = referenceValidationEnabled;
+    }
+
     @Override
     @Transactional
     public E save(E entity) {
@@ -61,6 +155,12 @@ public abstract class AbstractBaseCrudService<E, D, ID, FD extends GenericFilter
         return BaseCrudService.super.update(id, entity);
     }
 
+    @Override
+    @Transactional
+    public void updateAttributes(ID id, Map<String, ?> changes, Object expectedVersion) {
+        BaseCrudService.super.updateAttributes(id, changes, expectedVersion);
+    }
+
     @Override
     @Transactional
     public void deleteById(ID id) {
@@ -69,7 +169,43 @@ public abstract class AbstractBaseCrudService<E, D, ID, FD extends GenericFilter
 
     @Override
     @Transactional
-    public void deleteAllById(Iterable<ID> ids) {
-        BaseCrudService.super.deleteAllById(ids);
+    public long deleteAllById(Iterable<ID> ids) {
+        return BaseCrudService.super.deleteAllById(ids);
+    }
+
+    @Override
+    @Transactional
+    public <R> List<R> saveAll(List<E> entities, Function<? super E, ? extends R> mapper) {
+        return BaseCrudService.super.saveAll(entities, mapper);
+    }
+
+    @Override
+    @Transactional
+    public List<E> saveAll(List<E> entities) {
+        return BaseCrudService.super.saveAll(entities);
+    }
+
+    @Override
+    @Transactional
+    public <R> List<BatchItemResult<ID, R>> updateAll(Map<ID, E> updates, Function<? super E, ? extends R> mapper) {
+        return BaseCrudService.super.updateAll(updates, mapper);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResult<ID, E>> updateAll(Map<ID, E> updates) {
+        return BaseCrudService.super.updateAll(updates);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEntity(int batchSize, Consumer<? super E> action) {
+        BaseCrudService.super.forEachEntity(batchSize, action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachProjected(int batchSize, Consumer<? super D> action) {
+        BaseCrudService.super.forEachProjected(batchSize, action);
     }
 }
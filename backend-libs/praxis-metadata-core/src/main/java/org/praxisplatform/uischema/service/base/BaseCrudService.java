@@ -1,21 +1,74 @@
 package org.praxisplatform.uischema.service.base;
 
 import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.search.SearchStrategy;
+import org.praxisplatform.uischema.filter.specification.CursorPage;
+import org.praxisplatform.uischema.filter.specification.FilterKey;
+import org.praxisplatform.uischema.filter.specification.FilterSlice;
 import org.praxisplatform.uischema.filter.specification.GenericSpecification;
 import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.filter.specification.KeysetCursor;
+import org.praxisplatform.uischema.filter.specification.KeysetSpecification;
 import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
 import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.praxisplatform.uischema.service.base.annotation.FetchPlan;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.query.Jpa21Utils;
+import org.springframework.data.jpa.repository.query.JpaEntityGraph;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Streamable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Interface base para operações CRUD e paginação com filtragem.
@@ -27,38 +80,577 @@ import java.util.List;
  */
 public interface BaseCrudService<E, D, ID, FD extends GenericFilterDTO> {
 
+    /**
+     * Dica JPA do Hibernate que marca as entidades carregadas como somente leitura (sem snapshot para dirty checking).
+     */
+    String HINT_READ_ONLY = "org.hibernate.readOnly";
+
     BaseCrudRepository<E, ID> getRepository();
     GenericSpecificationsBuilder<E> getSpecificationsBuilder();
     Class<E> getEntityClass(); // Classe da entidade
-    default List<E> findAll() { return getRepository().findAll(getDefaultSort()); }
 
-    default E findById(ID id) { return getRepository().findById(id).orElseThrow(this::getNotFoundException); }
+    /**
+     * Cache dos totais usados por {@link #filterSlice(GenericFilterDTO, Pageable, TotalCountMode)}.
+     * O padrão é não usar cache.
+     */
+    default FilterCountCache getFilterCountCache() { return null; }
+
+    /**
+     * Cache dos resultados de {@link #filter(GenericFilterDTO, Pageable)}. O padrão é não usar cache.
+     */
+    default FilterResultCache getFilterResultCache() { return null; }
+
+    /**
+     * DTO usado nas consultas projetadas ({@link #filterProjected} e {@link #findAllProjected}). Quando informado
+     * (junto com {@link #getEntityManager()}), os endpoints de listagem selecionam apenas as colunas do DTO em vez de
+     * carregar as entidades. O padrão é <code>null</code> (projeção desativada).
+     *
+     * @see DtoProjection
+     */
+    default Class<D> getProjectionClass() { return null; }
+
+    /**
+     * Gerenciador de entidades usado nas consultas projetadas. O padrão é <code>null</code>.
+     */
+    default EntityManager getEntityManager() { return null; }
+
+    /**
+     * @return se as consultas projetadas estão disponíveis
+     */
+    default boolean isProjectionEnabled() {
+        return getProjectionClass() != null && getEntityManager() != null;
+    }
+
+    /**
+     * Caminhos do plano de carregamento da operação, aplicados como entity graph às consultas de leitura.
+     * O padrão é o declarado com {@link FetchPlan} na classe do serviço.
+     *
+     * @param operation operação de leitura
+     * @return caminhos dos atributos (vazio quando não houver plano)
+     */
+    default List<String> getFetchPlan(FetchPlan.Operation operation) {
+        return FetchPlanResolver.paths(ClassUtils.getUserClass(getClass()), operation);
+    }
+
+    default List<E> findAll() {
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FIND_ALL);
+        if (fetchPlan.isEmpty()) {
+            return getRepository().findAll(getDefaultSort());
+        }
+        return getRepository().findBy(anyEntity(), query -> query.project(fetchPlan).sortBy(getDefaultSort()).all());
+    }
+
+    default E findById(ID id) {
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FIND_BY_ID);
+        if (fetchPlan.isEmpty()) {
+            return getRepository().findById(id).orElseThrow(this::getNotFoundException);
+        }
+        Specification<E> byId = (root, query, cb) -> cb.equal(root.get(getIdAttributeName()), id);
+        return getRepository().findBy(byId, query -> query.project(fetchPlan).first())
+                .orElseThrow(this::getNotFoundException);
+    }
 
-    default E save(E entity) { return getRepository().save(entity); }
+    default E save(E entity) {
+        resolveReferences(List.of(entity));
+        E saved = getRepository().save(entity);
+        indexSaved(List.of(saved));
+        invalidateFilterCaches();
+        return saved;
+    }
     default E mergeUpdate(E existing, E update) {
         return existing;
     }
 
     default E update(ID id, E entity) {
-        return getRepository()
+        E updated = getRepository()
                 .findById(id)
                 .map(existing -> mergeUpdate(existing, entity))
-                .map(existing ->getRepository().save(existing))
+                .map(existing -> {
+                    resolveReferences(List.of(existing));
+                    return getRepository().save(existing);
+                })
                 .orElseThrow(this::getNotFoundException);
+        indexSaved(List.of(updated));
+        invalidateFilterCaches();
+        return updated;
+    }
+
+    /**
+     * Se {@link #resolveReferences(Collection)} confirma a existência dos registros relacionados antes de gravar.
+     * O padrão é não consultar, deixando a verificação para a chave estrangeira do banco.
+     */
+    default boolean isReferenceValidationEnabled() {
+        return false;
+    }
+
+    /**
+     * Substitui os relacionamentos to-one informados apenas pelo identificador (ex.: um <code>Cargo</code> com só o
+     * <code>id</code> preenchido, como produzido pelos mappers a partir de <code>cargoId</code>) por referências
+     * obtidas com {@link EntityManager#getReference(Class, Object)}, sem consultar as entidades relacionadas.
+     * <p>
+     * Os relacionamentos são os de {@link EntityMetadata#getReferenceAttributes()}; valores já gerenciados pelo
+     * contexto de persistência ou sem identificador são mantidos. Com {@link #isReferenceValidationEnabled()}, os
+     * identificadores de todas as entidades recebidas são verificados com uma consulta
+     * <code>SELECT id ... WHERE id IN (...)</code> por entidade relacionada. Chamado por {@link #save(Object)},
+     * {@link #update(Object, Object)} (após {@link #mergeUpdate(Object, Object)}) e pelas operações em lote.
+     *
+     * @param entities entidades a gravar
+     * @throws EntityNotFoundException se a validação estiver habilitada e algum registro relacionado não existir
+     */
+    default void resolveReferences(Collection<? extends E> entities) {
+        EntityManager entityManager = getEntityManager();
+        List<EntityMetadata.ReferenceAttribute> attributes = EntityMetadata.of(getEntityClass()).getReferenceAttributes();
+        if (entityManager == null || attributes.isEmpty() || entities.isEmpty()) {
+            return;
+        }
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        for (EntityMetadata.ReferenceAttribute attribute : attributes) {
+            List<E> owners = new ArrayList<>();
+            List<Object> ids = new ArrayList<>();
+            for (E entity : entities) {
+                Object value = entity == null ? null : attribute.get(entity);
+                if (value == null || entityManager.contains(value)) {
+                    continue;
+                }
+                Object id = persistenceUnitUtil.getIdentifier(value);
+                if (id != null) {
+                    owners.add(entity);
+                    ids.add(id);
+                }
+            }
+            if (ids.isEmpty()) {
+                continue;
+            }
+            if (isReferenceValidationEnabled()) {
+                requireExisting(entityManager, attribute.targetClass(), new LinkedHashSet<>(ids));
+            }
+            for (int i = 0; i < owners.size(); i++) {
+                attribute.set(owners.get(i), entityManager.getReference(attribute.targetClass(), ids.get(i)));
+            }
+        }
     }
 
-    default void deleteById(ID id) { getRepository().findById(id).ifPresent(e -> getRepository().delete(e)); }
+    private static <T> void requireExisting(EntityManager entityManager, Class<T> entityClass, Set<Object> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        String idAttribute = EntityMetadata.of(entityClass).getIdAttributeName();
+        List<Object> pending = new ArrayList<>(ids);
+        int chunkSize = inExpressionLimit(entityManager);
+        Set<Object> found = new HashSet<>();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Object> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            CriteriaQuery<Object> query = cb.createQuery(Object.class);
+            Root<T> root = query.from(entityClass);
+            query.select(root.get(idAttribute)).where(root.get(idAttribute).in(chunk));
+            found.addAll(entityManager.createQuery(query).getResultList());
+        }
+        pending.removeAll(found);
+        if (!pending.isEmpty()) {
+            throw new EntityNotFoundException(entityClass.getSimpleName() + " não encontrado(a) com ID: "
+                    + (pending.size() == 1 ? pending.get(0) : pending));
+        }
+    }
+
+    /**
+     * Atributos da entidade que {@link #updateAttributes(Object, Map, Object)} pode alterar, normalmente os mesmos
+     * copiados por {@link #mergeUpdate(Object, Object)} (ex.: <code>nome</code>, <code>endereco</code>,
+     * <code>cargo</code>). Um atributo embutido ou de associação libera também seus caminhos
+     * (<code>endereco.cidade</code>, <code>cargo.id</code>). O padrão é vazio: a alteração direcionada é opcional e
+     * cada serviço a habilita declarando seus atributos.
+     */
+    default Set<String> getTargetedUpdateAttributes() {
+        return Set.of();
+    }
+
+    /**
+     * Se uma alteração parcial dos caminhos informados pode usar {@link #updateAttributes(Object, Map, Object)}: todos
+     * devem estar em {@link #getTargetedUpdateAttributes()}, deve haver {@link #getEntityManager()} e a entidade não
+     * pode depender da atualização por entidade (callbacks de atualização, inclusive de listeners padrão do
+     * <code>orm.xml</code>, valores gerados na atualização como <code>@UpdateTimestamp</code> ou
+     * <code>@SQLUpdate</code>, na entidade ou em suas subclasses).
+     *
+     * @param paths caminhos alterados
+     */
+    default boolean isTargetedUpdateEnabled(Collection<String> paths) {
+        return getEntityManager() != null && !paths.isEmpty()
+                && paths.stream().allMatch(this::isTargetedUpdateAttribute)
+                && TargetedUpdateSupport.isSupported(getEntityManager(), getEntityClass());
+    }
+
+    private boolean isTargetedUpdateAttribute(String path) {
+        return getTargetedUpdateAttributes().stream()
+                .anyMatch(attribute -> path.equals(attribute) || path.startsWith(attribute + "."));
+    }
+
+    /**
+     * Altera apenas os atributos informados com um único <code>UPDATE ... SET</code>, sem carregar a entidade.
+     * <p>
+     * Os caminhos são atributos da entidade (ex.: <code>nome</code>, <code>endereco.cidade</code>); uma associação é
+     * alterada pelo caminho do seu identificador (ex.: <code>cargo.id</code>), sem consultar a entidade associada.
+     * Só são aceitos caminhos de {@link #getTargetedUpdateAttributes()}. Com {@link #isReferenceValidationEnabled()},
+     * a existência do registro associado é verificada como em {@link #resolveReferences(Collection)}.
+     * Se a entidade tiver campo {@link jakarta.persistence.Version} numérico, ele é incrementado e, quando
+     * <code>expectedVersion</code> for informado, o comando só altera o registro nessa versão. Entidades já
+     * carregadas no contexto de persistência não são atualizadas.
+     *
+     * @param id              identificador do registro
+     * @param changes         novos valores por caminho do atributo, já convertidos para o tipo do atributo
+     * @param expectedVersion versão esperada do registro, ou <code>null</code> para não verificar
+     * @throws OptimisticLockException se o registro existir em outra versão
+     * @throws EntityNotFoundException se o registro ou, com a validação habilitada, um registro associado não
+     *                                 existir
+     * @throws IllegalArgumentException se um caminho não estiver em {@link #getTargetedUpdateAttributes()} ou não for
+     *                                  um atributo simples, embutido ou o identificador de uma associação
+     */
+    default void updateAttributes(ID id, Map<String, ?> changes, Object expectedVersion) {
+        EntityManager entityManager = requireEntityManager();
+        for (String path : changes.keySet()) {
+            if (!isTargetedUpdateAttribute(path)) {
+                throw new IllegalArgumentException("Atributo não permitido na alteração parcial: " + path);
+            }
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<E> update = cb.createCriteriaUpdate(getEntityClass());
+        Root<E> root = update.from(getEntityClass());
+        EntityType<E> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        boolean validateReferences = isReferenceValidationEnabled();
+        changes.forEach((path, value) ->
+                setAttribute(entityManager, entityType, root, update, path, value, validateReferences));
+
+        Predicate where = cb.equal(root.get(getIdAttributeName()), id);
+        String versionAttribute = EntityMetadata.of(getEntityClass()).getVersionAttributeName();
+        if (versionAttribute != null) {
+            Path<Number> version = root.get(versionAttribute);
+            update.set(version, cb.sum(version, 1));
+            if (expectedVersion != null) {
+                where = cb.and(where, cb.equal(version, expectedVersion));
+            }
+        }
+        update.where(where);
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            if (getRepository().existsById(id)) {
+                throw new OptimisticLockException("Registro alterado por outra transação");
+            }
+            throw getNotFoundException();
+        }
+        if (isSearchIndexed()) {
+            E current = entityManager.find(getEntityClass(), id);
+            entityManager.refresh(current);
+            indexSaved(List.of(current));
+        }
+        invalidateFilterCaches();
+    }
+
+    private static <E> void setAttribute(EntityManager entityManager, EntityType<E> entityType, Root<E> root,
+                                         CriteriaUpdate<E> update, String path, Object value,
+                                         boolean validateReferences) {
+        String[] segments = path.split("\\.");
+        Attribute<? super E, ?> attribute = entityType.getAttribute(segments[0]);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        if (attribute.isAssociation()) {
+            if (attribute.isCollection() || segments.length != 2) {
+                throw new IllegalArgumentException("Associação só pode ser alterada pelo identificador: " + path);
+            }
+            @SuppressWarnings("unchecked")
+            Class<Object> target = (Class<Object>) attribute.getJavaType();
+            EntityType<Object> targetType = entityManager.getMetamodel().entity(target);
+            if (!segments[1].equals(targetType.getId(targetType.getIdType().getJavaType()).getName())) {
+                throw new IllegalArgumentException("Associação só pode ser alterada pelo identificador: " + path);
+            }
+            Path<Object> association = root.get(segments[0]);
+            if (value == null) {
+                update.<Object>set(association, cb.nullLiteral(target));
+            } else {
+                if (validateReferences) {
+                    requireExisting(entityManager, target, Set.of(value));
+                }
+                update.<Object, Object>set(association, entityManager.getReference(target, value));
+            }
+            return;
+        }
+        if (attribute.isCollection()) {
+            throw new IllegalArgumentException("Coleções não podem ser alteradas parcialmente: " + path);
+        }
+        Path<Object> target = root.get(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            target = target.get(segments[i]);
+        }
+        if (value == null) {
+            update.<Object>set(target, cb.nullLiteral(target.getJavaType()));
+        } else {
+            update.<Object, Object>set(target, value);
+        }
+    }
+
+    /**
+     * Quantidade de registros gravados entre cada <code>flush()</code>/<code>clear()</code> nas operações em lote.
+     * Deve ser um múltiplo de <code>hibernate.jdbc.batch_size</code>.
+     */
+    default int getWriteChunkSize() {
+        return 500;
+    }
+
+    /**
+     * Cria vários registros pelo repositório, sem passar por {@link #save(Object)}. A cada {@link #getWriteChunkSize()}
+     * registros o contexto de persistência é sincronizado e limpo, de modo que os <code>INSERT</code>s são enviados em
+     * lotes JDBC e a memória não cresce com o tamanho da carga. Os relacionamentos de cada bloco são resolvidos de uma
+     * vez (ver {@link #resolveReferences(Collection)}) e os caches das consultas filtradas são invalidados uma única
+     * vez, ao final.
+     *
+     * @param entities registros a criar
+     * @param mapper   conversão aplicada a cada registro gravado, antes de ele ser desanexado
+     * @param <R>      tipo convertido
+     * @return os registros convertidos, na ordem recebida
+     * @throws IllegalStateException se {@link #getEntityManager()} não estiver disponível
+     */
+    default <R> List<R> saveAll(List<E> entities, Function<? super E, ? extends R> mapper) {
+        EntityManager entityManager = requireEntityManager();
+        int chunkSize = Math.max(1, getWriteChunkSize());
+        List<R> results = new ArrayList<>(entities.size());
+        List<E> chunk = new ArrayList<>(chunkSize);
+        for (int from = 0; from < entities.size(); from += chunkSize) {
+            List<E> pending = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+            resolveReferences(pending);
+            for (E entity : pending) {
+                chunk.add(getRepository().save(entity));
+            }
+            indexSaved(chunk);
+            flushAndClear(entityManager, chunk, mapper, results);
+        }
+        invalidateFilterCaches();
+        return results;
+    }
+
+    /**
+     * Variante de {@link #saveAll(List, Function)} que retorna as entidades gravadas (já desanexadas).
+     */
+    default List<E> saveAll(List<E> entities) {
+        return saveAll(entities, Function.identity());
+    }
+
+    /**
+     * Atualiza vários registros. Os registros existentes de cada bloco de {@link #getWriteChunkSize()} IDs são
+     * carregados com uma única consulta, combinados por {@link #mergeUpdate(Object, Object)}, têm os relacionamentos
+     * resolvidos de uma vez (ver {@link #resolveReferences(Collection)}) e são gravados em lote pelo repositório, com
+     * <code>flush()</code>/<code>clear()</code> ao fim de cada bloco. Os caches das consultas filtradas são invalidados
+     * uma única vez, ao final.
+     *
+     * @param updates dados recebidos por identificador
+     * @param mapper  conversão aplicada a cada registro atualizado, antes de ele ser desanexado
+     * @param <R>     tipo convertido
+     * @return um resultado por identificador, na ordem recebida ({@link BatchItemResult.Status#NOT_FOUND} para
+     * registros inexistentes)
+     * @throws IllegalStateException se {@link #getEntityManager()} não estiver disponível
+     */
+    default <R> List<BatchItemResult<ID, R>> updateAll(Map<ID, E> updates, Function<? super E, ? extends R> mapper) {
+        EntityManager entityManager = requireEntityManager();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        int chunkSize = Math.max(1, getWriteChunkSize());
+        List<ID> ids = new ArrayList<>(updates.keySet());
+        List<BatchItemResult<ID, R>> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<ID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<Object, E> existing = new HashMap<>();
+            for (E entity : getRepository().findAllById(chunk)) {
+                existing.put(persistenceUnitUtil.getIdentifier(entity), entity);
+            }
+            List<E> updated = new ArrayList<>(chunk.size());
+            for (ID id : chunk) {
+                E entity = existing.get(id);
+                updated.add(entity == null ? null : mergeUpdate(entity, updates.get(id)));
+            }
+            resolveReferences(updated.stream().filter(Objects::nonNull).toList());
+            for (int i = 0; i < updated.size(); i++) {
+                if (updated.get(i) != null) {
+                    updated.set(i, getRepository().save(updated.get(i)));
+                }
+            }
+            indexSaved(updated.stream().filter(Objects::nonNull).toList());
+            entityManager.flush();
+            for (int i = 0; i < chunk.size(); i++) {
+                E entity = updated.get(i);
+                results.add(entity == null
+                        ? new BatchItemResult<>(BatchItemResult.Status.NOT_FOUND, chunk.get(i), null)
+                        : new BatchItemResult<>(BatchItemResult.Status.UPDATED, chunk.get(i), mapper.apply(entity)));
+            }
+            entityManager.clear();
+        }
+        invalidateFilterCaches();
+        return results;
+    }
+
+    /**
+     * Variante de {@link #updateAll(Map, Function)} que retorna as entidades atualizadas (já desanexadas).
+     */
+    default List<BatchItemResult<ID, E>> updateAll(Map<ID, E> updates) {
+        return updateAll(updates, Function.identity());
+    }
+
+    private EntityManager requireEntityManager() {
+        EntityManager entityManager = getEntityManager();
+        if (entityManager == null) {
+            throw new IllegalStateException("EntityManager não configurado para " + getEntityClass().getName());
+        }
+        return entityManager;
+    }
+
+    private static <T, R> void flushAndClear(EntityManager entityManager, List<T> chunk,
+                                             Function<? super T, ? extends R> mapper, List<R> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        for (T entity : chunk) {
+            results.add(mapper.apply(entity));
+        }
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    default void deleteById(ID id) {
+        if (isBulkDeleteEnabled()) {
+            bulkDelete(List.of(id));
+        } else {
+            getRepository().findById(id).ifPresent(e -> getRepository().delete(e));
+        }
+        indexDeleted(List.of(id));
+        invalidateFilterCaches();
+    }
 
     /**
      * Exclui todos os registros correspondentes aos IDs fornecidos.
+     * <p>
+     * Com {@link #isBulkDeleteEnabled()}, executa <code>DELETE ... WHERE id IN (...)</code> em blocos de
+     * {@link #getDeleteChunkSize()} IDs; caso contrário, carrega as entidades com uma única consulta e as exclui uma
+     * a uma, propagando cascatas e callbacks.
      *
      * @param ids Coleção de identificadores a serem removidos
+     * @return quantidade de registros excluídos (IDs inexistentes são ignorados)
      */
-    default void deleteAllById(Iterable<ID> ids) {
+    default long deleteAllById(Iterable<ID> ids) {
         if (ids == null) {
             throw new IllegalArgumentException("ids must not be null");
         }
-        getRepository().deleteAllById(ids);
+        List<ID> distinctIds = new ArrayList<>(new LinkedHashSet<>(Streamable.of(ids).toList()));
+        long deleted;
+        if (distinctIds.isEmpty()) {
+            deleted = 0;
+        } else if (isBulkDeleteEnabled()) {
+            deleted = bulkDelete(distinctIds);
+        } else {
+            List<E> entities = getRepository().findAllById(distinctIds);
+            getRepository().deleteAll(entities);
+            deleted = entities.size();
+        }
+        indexDeleted(distinctIds);
+        invalidateFilterCaches();
+        return deleted;
+    }
+
+    /**
+     * Se as exclusões usam <code>DELETE</code> em lote, sem carregar as entidades. O padrão é habilitado quando há
+     * {@link #getEntityManager()} e, pelo mapeamento do Hibernate, a entidade não depende da exclusão por entidade
+     * (cascatas, <code>orphanRemoval</code>, coleções mantidas por ela, callbacks <code>@PreRemove</code>/
+     * <code>@PostRemove</code>, exclusão customizada). Os registros excluídos são desanexados do contexto de
+     * persistência.
+     */
+    default boolean isBulkDeleteEnabled() {
+        EntityManager entityManager = getEntityManager();
+        return entityManager != null && BulkDeleteSupport.isSupported(entityManager, getEntityClass());
+    }
+
+    /**
+     * Quantidade máxima de IDs por comando de exclusão em lote: o menor entre 1000 e os limites de parâmetros e de
+     * itens em <code>IN</code> do dialeto do banco.
+     */
+    default int getDeleteChunkSize() {
+        return inExpressionLimit(getEntityManager());
+    }
+
+    private static int inExpressionLimit(EntityManager entityManager) {
+        int chunkSize = 1000;
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        for (int limit : new int[]{dialect.getInExpressionCountLimit(), dialect.getParameterCountLimit()}) {
+            if (limit > 0) {
+                chunkSize = Math.min(chunkSize, limit);
+            }
+        }
+        return chunkSize;
+    }
+
+    private long bulkDelete(List<ID> ids) {
+        EntityManager entityManager = getEntityManager();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        String idAttribute = getIdAttributeName();
+        int chunkSize = getDeleteChunkSize();
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<ID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            CriteriaDelete<E> delete = cb.createCriteriaDelete(getEntityClass());
+            Root<E> root = delete.from(getEntityClass());
+            delete.where(root.get(idAttribute).in(chunk));
+            deleted += entityManager.createQuery(delete).executeUpdate();
+        }
+        BulkDeleteSupport.detach(entityManager, getEntityClass(), ids);
+        return deleted;
+    }
+
+    private boolean isSearchIndexed() {
+        GenericSpecificationsBuilder<E> builder = getSpecificationsBuilder();
+        return builder != null && builder.getSearchStrategy() != null && getEntityManager() != null
+                && builder.getSearchStrategy().isIndexed(getEntityClass());
+    }
+
+    /**
+     * Repassa os registros gravados à {@link SearchStrategy} que mantém um índice da entidade (ver
+     * {@link SearchStrategy#onSaved(Class, Map)}).
+     */
+    private void indexSaved(Collection<? extends E> entities) {
+        if (entities.isEmpty() || !isSearchIndexed()) {
+            return;
+        }
+        PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, E> byId = new LinkedHashMap<>();
+        for (E entity : entities) {
+            byId.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+        getSpecificationsBuilder().getSearchStrategy().onSaved(getEntityClass(), byId);
+    }
+
+    private void indexDeleted(Collection<?> ids) {
+        if (!ids.isEmpty() && isSearchIndexed()) {
+            getSpecificationsBuilder().getSearchStrategy().onDeleted(getEntityClass(), ids);
+        }
+    }
+
+    /**
+     * Descarta os resultados e totais em cache das consultas filtradas desta entidade. Dentro de uma transação,
+     * a invalidação é repetida ao término dela, para descartar resultados lidos antes do commit.
+     */
+    default void invalidateFilterCaches() {
+        FilterResultCache results = getFilterResultCache();
+        FilterCountCache counts = getFilterCountCache();
+        if (results == null && counts == null) {
+            return;
+        }
+        Class<E> entityClass = getEntityClass();
+        Runnable invalidation = () -> {
+            if (results != null) {
+                results.invalidate(entityClass);
+            }
+            if (counts != null) {
+                counts.invalidate(entityClass);
+            }
+        };
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
     }
 
     // Método para paginação
@@ -67,54 +659,346 @@ public interface BaseCrudService<E, D, ID, FD extends GenericFilterDTO> {
         if (!pageable.getSort().isSorted()) {
             sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), getDefaultSort());
         }
-        return getRepository().findAll(sortedPageable);
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FIND_ALL);
+        if (fetchPlan.isEmpty()) {
+            return getRepository().findAll(sortedPageable);
+        }
+        Pageable page = sortedPageable;
+        return getRepository().findBy(anyEntity(),
+                query -> query.project(fetchPlan).sortBy(page.getSort()).page(page));
     }
 
+    /**
+     * Consulta filtrada e paginada. Com {@link #getFilterResultCache()} (e {@link #getEntityManager()}), guarda
+     * apenas os identificadores e o total da página; uma consulta repetida busca as entidades por identificador, no
+     * contexto de persistência atual, sem refazer o filtro nem a contagem.
+     *
+     * @param filterDTO DTO de filtro
+     * @param pageable  página e ordenação; sem ordenação, usa {@link #getDefaultSort()}
+     * @return a página de entidades
+     */
     default Page<E> filter(FD filterDTO, Pageable pageable) {
+        FilterResultCache cache = getFilterResultCache();
+        EntityManager entityManager = getEntityManager();
+        if (cache == null || entityManager == null) {
+            return findFiltered(filterDTO, pageable);
+        }
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        AtomicReference<Page<E>> loaded = new AtomicReference<>();
+        FilterResultCache.PageIds cached = cache.get(FilterResultCache.Key.of(getEntityClass(), filterDTO, pageable),
+                () -> {
+                    Page<E> page = findFiltered(filterDTO, pageable);
+                    loaded.set(page);
+                    return new FilterResultCache.PageIds(page.getContent().stream()
+                            .map(persistenceUnitUtil::getIdentifier).toList(), page.getPageable(),
+                            page.getTotalElements());
+                });
+        if (loaded.get() != null) {
+            return loaded.get();
+        }
+        return new PageImpl<>(findAllInOrder(cached.ids()), cached.pageable(), cached.total());
+    }
+
+    /**
+     * @return as entidades dos identificadores, na mesma ordem, omitindo as que não existem mais
+     */
+    private List<E> findAllInOrder(List<?> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        EntityManager entityManager = getEntityManager();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FILTER);
+        String idAttribute = getIdAttributeName();
+        int chunkSize = inExpressionLimit(entityManager);
+        Map<Object, E> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<?> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Specification<E> byIds = (root, query, cb) -> root.get(idAttribute).in(chunk);
+            for (E entity : getRepository().findBy(byIds, query -> query.project(fetchPlan).all())) {
+                byId.put(persistenceUnitUtil.getIdentifier(entity), entity);
+            }
+        }
+        List<E> content = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            E entity = byId.get(id);
+            if (entity != null) {
+                content.add(entity);
+            }
+        }
+        return content;
+    }
+
+    private Page<E> findFiltered(FD filterDTO, Pageable pageable) {
         Pageable sortedPageable = pageable;
         if (!pageable.getSort().isSorted()) {
             sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), getDefaultSort());
         }
 
         GenericSpecification<E> specification = getSpecificationsBuilder().buildSpecification(filterDTO, sortedPageable);
-        return getRepository().findAll(specification.spec(), specification.pageable());
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FILTER);
+        if (fetchPlan.isEmpty()) {
+            return getRepository().findAll(specification.spec(), specification.pageable());
+        }
+        Pageable page = specification.pageable();
+        return getRepository().findBy(specification.spec(),
+                query -> query.project(fetchPlan).sortBy(page.getSort()).page(page));
+    }
+
+    /**
+     * Variante de {@link #filter(GenericFilterDTO, Pageable)} que retorna os DTOs de {@link #getProjectionClass()}
+     * selecionando apenas as colunas correspondentes, sem carregar as entidades nem seus relacionamentos.
+     * O resultado não passa pelo {@link #getFilterResultCache() cache de resultados}.
+     *
+     * @param filterDTO DTO de filtro
+     * @param pageable  página e ordenação; sem ordenação, usa {@link #getDefaultSort()}
+     * @return a página de DTOs
+     * @throws IllegalStateException se a projeção não estiver configurada
+     */
+    default Page<D> filterProjected(FD filterDTO, Pageable pageable) {
+        DtoProjection<D> projection = getProjection();
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : getDefaultSort();
+        Pageable sortedPageable = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : pageable;
+
+        GenericSpecification<E> specification = getSpecificationsBuilder().buildSpecification(filterDTO, sortedPageable);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(projection.list(getEntityManager(), getEntityClass(), specification.spec(), sort, 0, -1));
+        }
+        Pageable effective = specification.pageable();
+        List<D> content = projection.list(getEntityManager(), getEntityClass(), specification.spec(),
+                effective.getSort(), effective.getOffset(), effective.getPageSize());
+        return PageableExecutionUtils.getPage(content, effective, () -> getRepository().count(specification.spec()));
+    }
 
+    /**
+     * Variante de {@link #findAll()} que retorna os DTOs de {@link #getProjectionClass()}, selecionando apenas as
+     * colunas correspondentes.
+     *
+     * @return todos os registros, na ordem de {@link #getDefaultSort()}
+     * @throws IllegalStateException se a projeção não estiver configurada
+     */
+    default List<D> findAllProjected() {
+        return getProjection().list(getEntityManager(), getEntityClass(), null, getDefaultSort(), 0, -1);
     }
 
-    default Sort getDefaultSort() {
-        List<Field> sortedFields = getAllFields(getEntityClass()).stream()
-                .filter(field -> field.isAnnotationPresent(DefaultSortColumn.class))
-                .sorted(Comparator.comparingInt(field -> field.getAnnotation(DefaultSortColumn.class).priority()))
+    /**
+     * Percorre todos os registros na ordem de {@link #getDefaultSort()} sem materializá-los em uma lista: as linhas
+     * são lidas do banco em blocos de {@code batchSize} (fetch size do JDBC) e o contexto de persistência é limpo a
+     * cada bloco, de modo que o consumo de memória não depende do tamanho da tabela. O plano de carregamento de
+     * {@link FetchPlan.Operation#FIND_ALL} é aplicado, se houver, exceto os caminhos que passam por coleções: um
+     * fetch join de coleção repetiria o registro em várias linhas do cursor, e essas coleções são carregadas sob
+     * demanda.
+     * <p>
+     * Deve ser executado dentro de uma transação, e as entidades recebidas não devem ser retidas pelo consumidor
+     * (ficam desanexadas ao fim de cada bloco).
+     *
+     * @param batchSize quantidade de linhas lidas do banco por vez
+     * @param action    ação executada para cada entidade
+     * @throws IllegalStateException se {@link #getEntityManager()} não estiver disponível
+     */
+    default void forEachEntity(int batchSize, Consumer<? super E> action) {
+        EntityManager entityManager = requireEntityManager();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> criteria = cb.createQuery(getEntityClass());
+        Root<E> root = criteria.from(getEntityClass());
+        Sort sort = getDefaultSort();
+        if (sort.isSorted()) {
+            criteria.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        TypedQuery<E> query = entityManager.createQuery(criteria)
+                .setHint(DtoProjection.HINT_FETCH_SIZE, batchSize)
+                .setHint(HINT_READ_ONLY, true);
+        ManagedType<E> entityType = entityManager.getMetamodel().managedType(getEntityClass());
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FIND_ALL).stream()
+                .filter(path -> isToOnePath(entityType, path))
                 .toList();
+        if (!fetchPlan.isEmpty()) {
+            JpaEntityGraph graph = new JpaEntityGraph(getEntityClass().getSimpleName() + ".fetchPlan",
+                    EntityGraph.EntityGraphType.FETCH, fetchPlan.toArray(String[]::new));
+            Jpa21Utils.getFetchGraphHint(entityManager, graph, getEntityClass()).forEach(query::setHint);
+        }
+        try (Stream<E> stream = query.getResultStream()) {
+            forEachInBatches(stream, batchSize, action, entityManager);
+        }
+    }
 
-        if(sortedFields.isEmpty()) {
-            return Sort.unsorted();
+    /**
+     * Variante de {@link #forEachEntity(int, Consumer)} que percorre os DTOs de {@link #getProjectionClass()},
+     * selecionando apenas as colunas correspondentes.
+     *
+     * @param batchSize quantidade de linhas lidas do banco por vez
+     * @param action    ação executada para cada DTO
+     * @throws IllegalStateException se a projeção não estiver configurada
+     */
+    default void forEachProjected(int batchSize, Consumer<? super D> action) {
+        DtoProjection<D> projection = getProjection();
+        try (Stream<D> stream = projection.stream(getEntityManager(), getEntityClass(), null, getDefaultSort(),
+                batchSize)) {
+            forEachInBatches(stream, batchSize, action, getEntityManager());
         }
+    }
 
-        List<Sort.Order> orders = sortedFields.stream()
-                .map(field -> {
-                    DefaultSortColumn annotation = field.getAnnotation(DefaultSortColumn.class);
-                    return new Sort.Order(
-                            annotation.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC,
-                            field.getName()
-                    );
-                })
-                .toList();
+    private static boolean isToOnePath(ManagedType<?> entityType, String path) {
+        ManagedType<?> type = entityType;
+        for (String segment : path.split("\\.")) {
+            if (type == null) {
+                return true;
+            }
+            Attribute<?, ?> attribute = type.getAttribute(segment);
+            if (attribute.isCollection()) {
+                return false;
+            }
+            type = ((SingularAttribute<?, ?>) attribute).getType() instanceof ManagedType<?> managed ? managed : null;
+        }
+        return true;
+    }
 
-        return Sort.by(orders);
+    private static <T> void forEachInBatches(Stream<T> stream, int batchSize, Consumer<? super T> action,
+                                             EntityManager entityManager) {
+        Iterator<T> iterator = stream.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+            if (++count % batchSize == 0) {
+                entityManager.clear();
+            }
+        }
     }
 
-    default EntityNotFoundException getNotFoundException() {
-        return new EntityNotFoundException("Registro não encontrado");
+    private DtoProjection<D> getProjection() {
+        if (!isProjectionEnabled()) {
+            throw new IllegalStateException("Projeção não configurada para " + getEntityClass().getName());
+        }
+        return DtoProjection.of(getEntityManager().getMetamodel(), getEntityClass(), getProjectionClass());
+    }
+
+    /**
+     * Filtra retornando apenas uma fatia: busca um registro a mais que o tamanho da página para saber se há
+     * próxima página, sem executar a consulta de contagem.
+     *
+     * @param filterDTO DTO de filtro
+     * @param pageable  página e ordenação; sem ordenação, usa {@link #getDefaultSort()}
+     * @return a fatia de registros
+     */
+    default Slice<E> filterSlice(FD filterDTO, Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : getDefaultSort();
+        Pageable sortedPageable = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : pageable;
+
+        GenericSpecification<E> specification = getSpecificationsBuilder().buildSpecification(filterDTO, sortedPageable);
+        Sort effectiveSort = pageable.isPaged() ? specification.pageable().getSort() : sort;
+        if (pageable.isUnpaged()) {
+            List<E> content = getRepository().findBy(specification.spec(), query -> query
+                    .project(getFetchPlan(FetchPlan.Operation.FILTER)).sortBy(effectiveSort).all());
+            return new SliceImpl<>(content, pageable, false);
+        }
+
+        // No Spring Data 3.2, o offset da ScrollPosition é o índice do primeiro registro retornado
+        long offset = sortedPageable.getOffset();
+        ScrollPosition position = offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset);
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FILTER);
+        Window<E> window = getRepository().findBy(specification.spec(), query -> query.project(fetchPlan)
+                .sortBy(effectiveSort).limit(sortedPageable.getPageSize()).scroll(position));
+        return new SliceImpl<>(window.getContent(), specification.pageable(), window.hasNext());
     }
 
-    // Helper method to get all fields from class and its superclasses
-    private List<Field> getAllFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        while (clazz != null && clazz != Object.class) {
-            fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-            clazz = clazz.getSuperclass();
+    /**
+     * Filtra retornando uma fatia e, conforme {@code totalMode}, o total de registros do filtro.
+     *
+     * <p>Com {@link TotalCountMode#PARALLEL}, a contagem é iniciada antes da consulta dos dados e executada no
+     * executor do {@link #getFilterCountCache() cache}; com {@link TotalCountMode#ESTIMATED}, o total vem apenas
+     * do cache. Sem cache configurado, {@code PARALLEL} conta após a consulta dos dados e {@code ESTIMATED} não
+     * retorna total.</p>
+     *
+     * @param filterDTO DTO de filtro
+     * @param pageable  página e ordenação
+     * @param totalMode como obter o total
+     * @return a fatia de registros e o total, quando disponível
+     */
+    default FilterSlice<E> filterSlice(FD filterDTO, Pageable pageable, TotalCountMode totalMode) {
+        if (totalMode == null || totalMode == TotalCountMode.NONE) {
+            return FilterSlice.of(filterSlice(filterDTO, pageable), null);
         }
-        return fields;
+
+        Specification<E> countSpec = getSpecificationsBuilder().buildSpecification(filterDTO, Pageable.unpaged()).spec();
+        Supplier<Long> counter = () -> getRepository().count(countSpec);
+        FilterCountCache cache = getFilterCountCache();
+        if (cache == null) {
+            Slice<E> slice = filterSlice(filterDTO, pageable);
+            return FilterSlice.of(slice, totalMode == TotalCountMode.PARALLEL ? counter.get() : null);
+        }
+
+        FilterKey key = FilterKey.of(getEntityClass(), filterDTO);
+        Long lastKnown = cache.lastKnown(key);
+        CompletableFuture<Long> total = cache.count(key, counter);
+        Slice<E> slice = filterSlice(filterDTO, pageable);
+        if (totalMode == TotalCountMode.PARALLEL) {
+            return FilterSlice.of(slice, total.join());
+        }
+        boolean counted = total.isDone() && !total.isCompletedExceptionally();
+        return FilterSlice.of(slice, counted ? total.join() : lastKnown);
+    }
+
+    /**
+     * Filtra com paginação por chave (keyset): em vez de <code>OFFSET</code>, a consulta continua a partir dos
+     * valores de ordenação do último registro da página anterior, com custo constante em qualquer profundidade.
+     *
+     * <p>A ordenação efetiva é a informada ou, se ausente, a de {@link #getDefaultSort()}, sempre acrescida do
+     * identificador ({@link #getIdAttributeName()}) como desempate. O total de registros não é calculado.</p>
+     *
+     * @param filterDTO DTO de filtro
+     * @param sort      ordenação solicitada (pode ser não ordenada)
+     * @param cursor    token retornado em {@link CursorPage#next()} ou <code>null</code> para a primeira página
+     * @param size      quantidade máxima de registros da página
+     * @return a página e o token da próxima
+     * @throws IllegalArgumentException se o cursor for inválido para a ordenação ou se {@code size} for menor que 1
+     */
+    default CursorPage<E> filterByCursor(FD filterDTO, Sort sort, String cursor, int size) {
+        Sort requestedSort = sort != null && sort.isSorted() ? sort : getDefaultSort();
+        GenericSpecification<E> specification = getSpecificationsBuilder()
+                .buildSpecification(filterDTO, PageRequest.of(0, size, requestedSort));
+        Sort keysetSort = KeysetSpecification.withTieBreaker(specification.pageable().getSort(), getIdAttributeName());
+
+        Specification<E> spec = specification.spec();
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(KeysetSpecification.after(keysetSort, KeysetCursor.decode(cursor, keysetSort)));
+        }
+        List<String> fetchPlan = getFetchPlan(FetchPlan.Operation.FILTER);
+        List<E> rows = getRepository().findBy(spec,
+                query -> query.project(fetchPlan).sortBy(keysetSort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? KeysetCursor.of(content.get(size - 1), keysetSort).encode(keysetSort) : null;
+        return new CursorPage<>(content, next, size, hasNext);
+    }
+
+    /**
+     * Nome do atributo identificador da entidade, usado como desempate na paginação por chave.
+     * <p>
+     * O padrão é o campo anotado com {@link Id} ou {@link EmbeddedId}, ou <code>id</code> se nenhum for encontrado.
+     * Para chaves compostas, sobrescreva retornando um caminho comparável (ex.: <code>id.codigo</code>).
+     */
+    default String getIdAttributeName() {
+        return EntityMetadata.of(getEntityClass()).getIdAttributeName();
+    }
+
+    /**
+     * Ordenação aplicada quando a requisição não informa uma, declarada com {@link DefaultSortColumn} na entidade.
+     * Resolvida uma única vez por entidade (ver {@link EntityMetadata}).
+     */
+    default Sort getDefaultSort() {
+        return EntityMetadata.of(getEntityClass()).getDefaultSort();
+    }
+
+    private Specification<E> anyEntity() {
+        return (root, query, cb) -> null;
+    }
+
+    default EntityNotFoundException getNotFoundException() {
+        return new EntityNotFoundException("Registro não encontrado");
     }
 }
@@ -0,0 +1,32 @@
+package org.praxisplatform.uischema.service.base;
+
+import java.util.function.Function;
+
+/**
+ * Resultado de um item das operações em lote ({@link BaseCrudService#saveAll} e {@link BaseCrudService#updateAll}).
+ *
+ * @param status situação do item
+ * @param id     identificador do registro
+ * @param data   registro gravado (<code>null</code> quando não encontrado)
+ * @param <ID>   tipo do identificador
+ * @param <T>    tipo do registro
+ */
+public record BatchItemResult<ID, T>(Status status, ID id, T data) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        NOT_FOUND
+    }
+
+    /**
+     * Converte o registro mantendo situação e identificador.
+     *
+     * @param mapper conversão aplicada ao registro, quando houver
+     * @param <R>    tipo convertido
+     * @return o resultado convertido
+     */
+    public <R> BatchItemResult<ID, R> map(Function<? super T, ? extends R> mapper) {
+        return new BatchItemResult<>(status, id, data == null ? null : mapper.apply(data));
+    }
+}
@@ -0,0 +1,124 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.CompositeIdentifierMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exclusão em lote (<code>DELETE ... WHERE id IN (...)</code>) usada por {@link BaseCrudService#deleteAllById}.
+ *
+ * <p>A decisão usa o mapeamento efetivo do Hibernate (anotações em campos ou propriedades, <code>orm.xml</code>),
+ * incluindo o das subclasses. A entidade não pode ser excluída em lote quando há:</p>
+ * <ul>
+ *     <li>identificador composto;</li>
+ *     <li>relacionamentos com cascata de remoção ou <code>orphanRemoval</code>;</li>
+ *     <li>coleções mantidas pela entidade (element collections, <code>@ManyToMany</code> ou <code>@OneToMany</code>
+ *     sem <code>mappedBy</code>);</li>
+ *     <li>callbacks <code>@PreRemove</code>/<code>@PostRemove</code>, na entidade ou em listeners;</li>
+ *     <li>exclusão customizada ({@link SQLDelete}, <code>@SoftDelete</code>).</li>
+ * </ul>
+ */
+final class BulkDeleteSupport {
+
+    private static final Map<EntityPersister, Boolean> SUPPORTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BulkDeleteSupport() {
+    }
+
+    /**
+     * @param entityManager gerenciador de entidades do serviço
+     * @param entityClass   entidade
+     * @return se a entidade pode ser excluída em lote sem perder efeitos da exclusão por entidade
+     */
+    static boolean isSupported(EntityManager entityManager, Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        return SUPPORTED.computeIfAbsent(persister, key -> supported(sessionFactory, key));
+    }
+
+    /**
+     * Desanexa do contexto de persistência as instâncias gerenciadas dos registros excluídos em lote, que de outro
+     * modo continuariam acessíveis por {@link EntityManager#find} na mesma transação.
+     */
+    static void detach(EntityManager entityManager, Class<?> entityClass, Collection<?> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        for (Object id : ids) {
+            Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+            if (managed != null) {
+                entityManager.detach(managed);
+            }
+        }
+    }
+
+    private static boolean supported(SessionFactoryImplementor sessionFactory, EntityPersister persister) {
+        if (persister.getIdentifierMapping() instanceof CompositeIdentifierMapping) {
+            return false;
+        }
+        MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+        CallbackRegistry callbacks = sessionFactory.getEventEngine().getCallbackRegistry();
+        List<EntityPersister> persisters = new ArrayList<>();
+        persisters.add(persister);
+        for (String subclass : persister.getEntityMetamodel().getSubclassEntityNames()) {
+            EntityPersister subclassPersister = metamodel.getEntityDescriptor(subclass);
+            if (subclassPersister != persister) {
+                persisters.add(subclassPersister);
+            }
+        }
+        for (EntityPersister current : persisters) {
+            if (current.getSoftDeleteMapping() != null || hasCustomDelete(current)) {
+                return false;
+            }
+            Class<?> mappedClass = current.getMappedClass();
+            if (callbacks.hasRegisteredCallbacks(mappedClass, CallbackType.PRE_REMOVE)
+                    || callbacks.hasRegisteredCallbacks(mappedClass, CallbackType.POST_REMOVE)) {
+                return false;
+            }
+            for (CascadeStyle cascade : current.getPropertyCascadeStyles()) {
+                if (cascade.doCascade(CascadingActions.DELETE) || cascade.hasOrphanDelete()) {
+                    return false;
+                }
+            }
+            for (Type type : current.getPropertyTypes()) {
+                if (type instanceof CollectionType collection
+                        && !metamodel.getCollectionDescriptor(collection.getRole()).isInverse()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasCustomDelete(EntityPersister persister) {
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            return false;
+        }
+        AtomicBoolean custom = new AtomicBoolean();
+        entityPersister.forEachMutableTable(table -> {
+            if (table.getDeleteCustomSql() != null) {
+                custom.set(true);
+            }
+        });
+        return custom.get();
+    }
+}
@@ -0,0 +1,477 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Projeção de uma entidade em um DTO, derivada dos campos do DTO e do metamodelo JPA.
+ *
+ * <p>A consulta seleciona apenas as colunas correspondentes aos campos do DTO (consulta de {@link Tuple}), sem
+ * carregar entidades no contexto de persistência. Cada campo do DTO é associado a um caminho da entidade:</p>
+ * <ul>
+ *     <li>atributo simples de mesmo nome e tipo compatível (ex.: <code>nomeCompleto</code>);</li>
+ *     <li>campo achatado <code>relacaoAtributo</code> para um atributo de relacionamento to-one ou embutido
+ *     (ex.: <code>cargoId</code> &rarr; <code>cargo.id</code>);</li>
+ *     <li>campo cujo tipo é outro DTO, para um atributo embutido ou to-one de mesmo nome (ex.: <code>endereco</code>
+ *     &rarr; <code>endereco.logradouro</code>, <code>endereco.cidade</code>...). O DTO aninhado fica
+ *     <code>null</code> quando todas as suas colunas vierem nulas.</li>
+ * </ul>
+ * <p>Relacionamentos são percorridos com LEFT JOIN, de modo que registros sem o relacionamento não são descartados.
+ * Campos sem correspondência (coleções, valores calculados) permanecem com o valor padrão. O DTO deve ser um
+ * record ou ter um construtor sem argumentos.</p>
+ *
+ * <p>As projeções são compiladas uma única vez por par entidade/DTO (ver {@link #of(Metamodel, Class, Class)}).</p>
+ *
+ * @param <D> tipo do DTO
+ */
+public final class DtoProjection<D> {
+
+    /**
+     * Dica JPA do Hibernate para o tamanho do bloco de linhas lido do JDBC.
+     */
+    static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
+
+    private static final Map<List<Class<?>>, DtoProjection<?>> PROJECTIONS = new ConcurrentHashMap<>();
+
+    private final List<ProjectedPath> paths;
+    private final Node node;
+    private final Map<String, String> propertyPaths;
+
+    private DtoProjection(List<ProjectedPath> paths, Node node) {
+        this.paths = paths;
+        this.node = node;
+        Map<String, String> propertyPaths = new LinkedHashMap<>();
+        collectPropertyPaths(node, "", propertyPaths);
+        this.propertyPaths = Collections.unmodifiableMap(propertyPaths);
+    }
+
+    /**
+     * Retorna a projeção da entidade no DTO informado, compilando-a na primeira chamada.
+     *
+     * @param metamodel   metamodelo JPA
+     * @param entityClass entidade consultada
+     * @param dtoClass    DTO de destino
+     * @param <D>         tipo do DTO
+     * @return a projeção compilada
+     * @throws IllegalArgumentException se nenhum campo do DTO corresponder a um atributo da entidade ou se o DTO
+     *                                  não puder ser instanciado
+     */
+    @SuppressWarnings("unchecked")
+    public static <D> DtoProjection<D> of(Metamodel metamodel, Class<?> entityClass, Class<D> dtoClass) {
+        return (DtoProjection<D>) PROJECTIONS.computeIfAbsent(List.of(entityClass, dtoClass),
+                key -> compile(metamodel.managedType(entityClass), dtoClass));
+    }
+
+    /**
+     * @return caminhos da entidade selecionados, na ordem das colunas da consulta
+     */
+    public List<String> getPaths() {
+        return paths.stream().map(ProjectedPath::path).toList();
+    }
+
+    /**
+     * Caminho da entidade associado a cada campo do DTO. Campos de DTOs aninhados aparecem com o caminho do campo
+     * no DTO separado por "." (ex.: <code>endereco.cidade</code>); campos sem correspondência não aparecem.
+     *
+     * @return caminho da entidade por caminho do campo no DTO (ex.: <code>cargoId</code> &rarr; <code>cargo.id</code>)
+     */
+    public Map<String, String> getPropertyPaths() {
+        return propertyPaths;
+    }
+
+    private void collectPropertyPaths(Node current, String prefix, Map<String, String> target) {
+        for (int i = 0; i < current.slots().size(); i++) {
+            Slot slot = current.slots().get(i);
+            String property = prefix + current.properties().get(i).name();
+            if (slot.column() >= 0) {
+                target.put(property, paths.get(slot.column()).path());
+            } else if (slot.node() != null) {
+                collectPropertyPaths(slot.node(), property + ".", target);
+            }
+        }
+    }
+
+    /**
+     * Executa a consulta projetada.
+     *
+     * @param entityManager gerenciador de entidades
+     * @param entityClass   entidade consultada
+     * @param spec          filtro (pode ser <code>null</code>)
+     * @param sort          ordenação
+     * @param offset        posição do primeiro registro
+     * @param limit         quantidade máxima de registros (<code>-1</code> para todos)
+     * @param <E>           tipo da entidade
+     * @return os DTOs, na ordem da consulta
+     */
+    public <E> List<D> list(EntityManager entityManager, Class<E> entityClass, Specification<E> spec, Sort sort,
+                            long offset, int limit) {
+        TypedQuery<Tuple> typedQuery = createQuery(entityManager, entityClass, spec, sort);
+        if (offset > 0) {
+            typedQuery.setFirstResult(Math.toIntExact(offset));
+        }
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        List<Tuple> rows = typedQuery.getResultList();
+        List<D> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            result.add(read(row));
+        }
+        return result;
+    }
+
+    /**
+     * Executa a consulta projetada como {@link Stream}, lendo as linhas do banco em blocos de {@code fetchSize}.
+     * O stream deve ser fechado e consumido dentro de uma transação.
+     *
+     * @param entityManager gerenciador de entidades
+     * @param entityClass   entidade consultada
+     * @param spec          filtro (pode ser <code>null</code>)
+     * @param sort          ordenação
+     * @param fetchSize     quantidade de linhas lidas do banco por vez
+     * @param <E>           tipo da entidade
+     * @return os DTOs, na ordem da consulta
+     */
+    public <E> Stream<D> stream(EntityManager entityManager, Class<E> entityClass, Specification<E> spec, Sort sort,
+                                int fetchSize) {
+        return createQuery(entityManager, entityClass, spec, sort)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(this::read);
+    }
+
+    private <E> TypedQuery<Tuple> createQuery(EntityManager entityManager, Class<E> entityClass, Specification<E> spec,
+                                              Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(paths.size());
+        for (ProjectedPath path : paths) {
+            selections.add(path.resolve(root, joins));
+        }
+        query.multiselect(selections);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private D read(Tuple row) {
+        return (D) node.read(row);
+    }
+
+    private static <D> DtoProjection<D> compile(ManagedType<?> entityType, Class<D> dtoClass) {
+        List<ProjectedPath> paths = new ArrayList<>();
+        Node node = compileNode(entityType, dtoClass, List.of(), List.of(), true, paths, new ArrayDeque<>());
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum campo de " + dtoClass.getName()
+                    + " corresponde a um atributo de " + entityType.getJavaType().getName());
+        }
+        return new DtoProjection<>(List.copyOf(paths), node);
+    }
+
+    /**
+     * Compila o nó de um DTO sobre o tipo gerenciado informado.
+     *
+     * @param type       tipo gerenciado correspondente ao DTO
+     * @param dtoClass   classe do DTO
+     * @param prefix     segmentos do caminho até {@code type}
+     * @param joinFlags  para cada segmento de {@code prefix}, se ele é um relacionamento (percorrido com join)
+     * @param joinable   se {@code type} é uma entidade alcançada por joins (relacionamentos dentro de atributos
+     *                   embutidos não são percorridos)
+     * @param paths      caminhos selecionados, preenchidos durante a compilação
+     * @param dtoStack   DTOs em compilação, para evitar ciclos
+     */
+    private static Node compileNode(ManagedType<?> type, Class<?> dtoClass, List<String> prefix, List<Boolean> joinFlags,
+                                    boolean joinable, List<ProjectedPath> paths, Deque<Class<?>> dtoStack) {
+        dtoStack.push(dtoClass);
+        try {
+            List<Property> properties = properties(dtoClass);
+            List<Slot> slots = new ArrayList<>(properties.size());
+            for (Property property : properties) {
+                slots.add(compileSlot(type, property, prefix, joinFlags, joinable, paths, dtoStack));
+            }
+            return new Node(dtoClass, instantiator(dtoClass, properties), properties, slots);
+        } finally {
+            dtoStack.pop();
+        }
+    }
+
+    private static Slot compileSlot(ManagedType<?> type, Property property, List<String> prefix, List<Boolean> joinFlags,
+                                    boolean joinable, List<ProjectedPath> paths, Deque<Class<?>> dtoStack) {
+        Attribute<?, ?> attribute = singularAttribute(type, property.name());
+        if (attribute != null) {
+            Slot slot = match(attribute, property.type(), prefix, joinFlags, joinable, paths, dtoStack);
+            if (slot != null) {
+                return slot;
+            }
+        }
+        // Campo achatado: "cargoId" -> "cargo.id"
+        for (Attribute<?, ?> candidate : type.getAttributes()) {
+            String name = candidate.getName();
+            if (!isNavigable(candidate, joinable) || property.name().length() <= name.length()
+                    || !property.name().startsWith(name)
+                    || !Character.isUpperCase(property.name().charAt(name.length()))) {
+                continue;
+            }
+            String rest = Character.toLowerCase(property.name().charAt(name.length()))
+                    + property.name().substring(name.length() + 1);
+            Attribute<?, ?> nested = singularAttribute(managedTypeOf(candidate), rest);
+            if (nested != null && nested.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    && isAssignable(property.type(), nested.getJavaType())) {
+                return column(paths, append(prefix, name, rest), append(joinFlags, candidate.isAssociation(), false));
+            }
+        }
+        return Slot.NONE;
+    }
+
+    private static Slot match(Attribute<?, ?> attribute, Class<?> propertyType, List<String> prefix,
+                              List<Boolean> joinFlags, boolean joinable, List<ProjectedPath> paths,
+                              Deque<Class<?>> dtoStack) {
+        String name = attribute.getName();
+        if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+            return isAssignable(propertyType, attribute.getJavaType())
+                    ? column(paths, append(prefix, name), append(joinFlags, false))
+                    : null;
+        }
+        if (!isNavigable(attribute, joinable) || isSimpleType(propertyType) || dtoStack.contains(propertyType)) {
+            return null;
+        }
+        boolean association = attribute.isAssociation();
+        int firstColumn = paths.size();
+        Node nested = compileNode(managedTypeOf(attribute), propertyType, append(prefix, name),
+                append(joinFlags, association), association, paths, dtoStack);
+        return paths.size() == firstColumn ? null : new Slot(-1, nested, firstColumn, paths.size());
+    }
+
+    private static Slot column(List<ProjectedPath> paths, List<String> segments, List<Boolean> joinFlags) {
+        paths.add(new ProjectedPath(String.join(".", segments), segments, joinFlags));
+        return new Slot(paths.size() - 1, null, 0, 0);
+    }
+
+    private static boolean isNavigable(Attribute<?, ?> attribute, boolean joinable) {
+        if (attribute.isCollection()) {
+            return false;
+        }
+        return switch (attribute.getPersistentAttributeType()) {
+            case EMBEDDED -> true;
+            case MANY_TO_ONE, ONE_TO_ONE -> joinable;
+            default -> false;
+        };
+    }
+
+    private static Attribute<?, ?> singularAttribute(ManagedType<?> type, String name) {
+        try {
+            Attribute<?, ?> attribute = type.getAttribute(name);
+            return attribute instanceof SingularAttribute<?, ?> ? attribute : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ManagedType<?> managedTypeOf(Attribute<?, ?> attribute) {
+        return (ManagedType<?>) ((SingularAttribute<?, ?>) attribute).getType();
+    }
+
+    private static boolean isAssignable(Class<?> target, Class<?> source) {
+        return ClassUtils.resolvePrimitiveIfNecessary(target)
+                .isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(source));
+    }
+
+    private static boolean isSimpleType(Class<?> type) {
+        return ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() || type.isArray()
+                || type.getName().startsWith("java.");
+    }
+
+    @SafeVarargs
+    private static <T> List<T> append(List<T> list, T... values) {
+        List<T> result = new ArrayList<>(list.size() + values.length);
+        result.addAll(list);
+        for (T value : values) {
+            result.add(value);
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<Property> properties(Class<?> dtoClass) {
+        List<Property> properties = new ArrayList<>();
+        if (dtoClass.isRecord()) {
+            for (RecordComponent component : dtoClass.getRecordComponents()) {
+                properties.add(new Property(component.getName(), component.getType(), null));
+            }
+            return properties;
+        }
+        for (Class<?> type = dtoClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+                        || field.isSynthetic()) {
+                    continue;
+                }
+                properties.add(new Property(field.getName(), field.getType(), setter(field)));
+            }
+        }
+        return properties;
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Erro ao acessar o campo: " + field.getName(), e);
+        }
+    }
+
+    private static MethodHandle instantiator(Class<?> dtoClass, List<Property> properties) {
+        try {
+            Constructor<?> constructor = dtoClass.isRecord()
+                    ? dtoClass.getDeclaredConstructor(properties.stream().map(Property::type).toArray(Class<?>[]::new))
+                    : dtoClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("O DTO " + dtoClass.getName()
+                    + " deve ser um record ou ter um construtor sem argumentos", e);
+        }
+    }
+
+    /**
+     * Caminho selecionado da entidade.
+     *
+     * @param path      caminho completo (ex.: "cargo.id")
+     * @param segments  {@code path} dividido por "."
+     * @param joinFlags para cada segmento, se ele é um relacionamento percorrido com LEFT JOIN
+     */
+    private record ProjectedPath(String path, List<String> segments, List<Boolean> joinFlags) {
+
+        Path<?> resolve(Root<?> root, Map<String, From<?, ?>> joins) {
+            Path<?> current = root;
+            for (int i = 0; i < segments.size() - 1; i++) {
+                if (joinFlags.get(i)) {
+                    From<?, ?> parent = (From<?, ?>) current;
+                    String segment = segments.get(i);
+                    current = joins.computeIfAbsent(String.join(".", segments.subList(0, i + 1)),
+                            key -> parent.join(segment, JoinType.LEFT));
+                } else {
+                    current = current.get(segments.get(i));
+                }
+            }
+            return current.get(segments.get(segments.size() - 1));
+        }
+    }
+
+    /**
+     * Campo do DTO.
+     *
+     * @param setter atribuição do campo, com tipo <code>(Object, Object)void</code> (<code>null</code> em records)
+     */
+    private record Property(String name, Class<?> type, MethodHandle setter) {
+    }
+
+    /**
+     * Origem do valor de um campo: uma coluna ({@code column} &ge; 0), um DTO aninhado ({@code node}, que usa as
+     * colunas de {@code from} a {@code to}) ou nenhuma.
+     */
+    private record Slot(int column, Node node, int from, int to) {
+
+        static final Slot NONE = new Slot(-1, null, 0, 0);
+
+        Object read(Tuple row) {
+            if (column >= 0) {
+                return row.get(column);
+            }
+            if (node == null) {
+                return null;
+            }
+            for (int i = from; i < to; i++) {
+                if (row.get(i) != null) {
+                    return node.read(row);
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Node(Class<?> dtoClass, MethodHandle instantiator, List<Property> properties, List<Slot> slots) {
+
+        Object read(Tuple row) {
+            try {
+                if (dtoClass.isRecord()) {
+                    Object[] arguments = new Object[slots.size()];
+                    for (int i = 0; i < slots.size(); i++) {
+                        Object value = slots.get(i).read(row);
+                        Class<?> type = properties.get(i).type();
+                        arguments[i] = value == null && type.isPrimitive() ? defaultValue(type) : value;
+                    }
+                    return instantiator.invokeExact(arguments);
+                }
+                Object dto = instantiator.invokeExact(new Object[0]);
+                for (int i = 0; i < slots.size(); i++) {
+                    Slot slot = slots.get(i);
+                    Object value = slot.read(row);
+                    if (value != null || (slot != Slot.NONE && !properties.get(i).type().isPrimitive())) {
+                        properties.get(i).setter().invokeExact(dto, value);
+                    }
+                }
+                return dto;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Erro ao instanciar " + dtoClass.getName(), e);
+            }
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            return Array.get(Array.newInstance(type, 1), 0);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Metadados de uma entidade derivados por reflexão (identificador, versão e ordenação padrão), calculados uma única
+ * vez por classe e compartilhados por todos os serviços que a utilizam.
+ *
+ * <p>Os campos são lidos da classe e de suas superclasses, nessa ordem. A autoconfiguração resolve os metadados das
+ * entidades de todos os beans {@link BaseCrudService} na inicialização, para que a primeira requisição não pague o
+ * custo da reflexão.</p>
+ */
+public final class EntityMetadata {
+
+    private static final ClassValue<EntityMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected EntityMetadata computeValue(Class<?> entityClass) {
+            return new EntityMetadata(entityClass);
+        }
+    };
+
+    private final Class<?> entityClass;
+    private final String idAttributeName;
+    private final String versionAttributeName;
+    private final Sort defaultSort;
+    private final boolean identityGenerated;
+    private final List<ReferenceAttribute> referenceAttributes;
+
+    private EntityMetadata(Class<?> entityClass) {
+        this.entityClass = entityClass;
+        List<Field> fields = getAllFields(entityClass);
+        this.idAttributeName = fields.stream()
+                .filter(field -> field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class))
+                .map(Field::getName)
+                .findFirst()
+                .orElse("id");
+        this.versionAttributeName = fields.stream()
+                .filter(field -> field.isAnnotationPresent(Version.class))
+                .map(Field::getName)
+                .findFirst()
+                .orElse(null);
+        this.defaultSort = defaultSort(fields);
+        this.identityGenerated = fields.stream()
+                .filter(field -> field.isAnnotationPresent(Id.class))
+                .map(field -> field.getAnnotation(GeneratedValue.class))
+                .anyMatch(generated -> generated != null && generated.strategy() == GenerationType.IDENTITY);
+        this.referenceAttributes = referenceAttributes(fields);
+    }
+
+    /**
+     * @param entityClass classe da entidade
+     * @return os metadados da entidade
+     */
+    public static EntityMetadata of(Class<?> entityClass) {
+        return METADATA.get(entityClass);
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return o campo anotado com {@link Id} ou {@link EmbeddedId}, ou <code>id</code> se nenhum for encontrado
+     */
+    public String getIdAttributeName() {
+        return idAttributeName;
+    }
+
+    /**
+     * @return o campo anotado com {@link Version}, ou <code>null</code> se a entidade não tiver versionamento
+     */
+    public String getVersionAttributeName() {
+        return versionAttributeName;
+    }
+
+    /**
+     * @return a ordenação declarada com {@link DefaultSortColumn} (não ordenada se não houver colunas anotadas)
+     */
+    public Sort getDefaultSort() {
+        return defaultSort;
+    }
+
+    /**
+     * @return se o identificador é gerado por {@link GenerationType#IDENTITY}, o que impede o Hibernate de agrupar
+     * os <code>INSERT</code>s em lotes JDBC
+     */
+    public boolean isIdentityGenerated() {
+        return identityGenerated;
+    }
+
+    /**
+     * @return os relacionamentos {@link ManyToOne} e {@link OneToOne} mantidos pela entidade (sem
+     * <code>mappedBy</code>) e sem cascata de PERSIST/MERGE, que podem ser associados apenas pelo identificador (ver
+     * {@link BaseCrudService#resolveReferences})
+     */
+    public List<ReferenceAttribute> getReferenceAttributes() {
+        return referenceAttributes;
+    }
+
+    /**
+     * Relacionamento to-one associado pelo identificador da entidade relacionada.
+     *
+     * @param name        nome do atributo
+     * @param targetClass entidade relacionada
+     * @param field       campo do atributo (acessível)
+     */
+    public record ReferenceAttribute(String name, Class<?> targetClass, Field field) {
+
+        public Object get(Object entity) {
+            return ReflectionUtils.getField(field, entity);
+        }
+
+        public void set(Object entity, Object value) {
+            ReflectionUtils.setField(field, entity, value);
+        }
+    }
+
+    private static List<ReferenceAttribute> referenceAttributes(List<Field> fields) {
+        List<ReferenceAttribute> references = new ArrayList<>();
+        for (Field field : fields) {
+            CascadeType[] cascade;
+            if (field.isAnnotationPresent(ManyToOne.class)) {
+                cascade = field.getAnnotation(ManyToOne.class).cascade();
+            } else if (field.isAnnotationPresent(OneToOne.class)
+                    && field.getAnnotation(OneToOne.class).mappedBy().isEmpty()) {
+                cascade = field.getAnnotation(OneToOne.class).cascade();
+            } else {
+                continue;
+            }
+            boolean cascadesWrites = Arrays.stream(cascade).anyMatch(type ->
+                    type == CascadeType.ALL || type == CascadeType.PERSIST || type == CascadeType.MERGE);
+            if (!cascadesWrites) {
+                ReflectionUtils.makeAccessible(field);
+                references.add(new ReferenceAttribute(field.getName(), field.getType(), field));
+            }
+        }
+        return List.copyOf(references);
+    }
+
+    private static Sort defaultSort(List<Field> fields) {
+        List<Sort.Order> orders = fields.stream()
+                .filter(field -> field.isAnnotationPresent(DefaultSortColumn.class))
+                .sorted(Comparator.comparingInt(field -> field.getAnnotation(DefaultSortColumn.class).priority()))
+                .map(field -> {
+                    DefaultSortColumn annotation = field.getAnnotation(DefaultSortColumn.class);
+                    return new Sort.Order(
+                            annotation.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC,
+                            field.getName()
+                    );
+                })
+                .toList();
+        return orders.isEmpty() ? Sort.unsorted() : Sort.by(orders);
+    }
+
+    private static List<Field> getAllFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        while (clazz != null && clazz != Object.class) {
+            fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+            clazz = clazz.getSuperclass();
+        }
+        return fields;
+    }
+}
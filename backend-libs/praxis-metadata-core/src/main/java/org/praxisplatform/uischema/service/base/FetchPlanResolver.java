@@ -0,0 +1,48 @@
+package org.praxisplatform.uischema.service.base;
+
+import org.praxisplatform.uischema.service.base.annotation.FetchPlan;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Planos de carregamento ({@link FetchPlan}) declarados nas classes de serviço, resolvidos uma única vez por classe.
+ */
+final class FetchPlanResolver {
+
+    private static final ClassValue<Map<FetchPlan.Operation, List<String>>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<FetchPlan.Operation, List<String>> computeValue(Class<?> serviceClass) {
+            return resolve(serviceClass);
+        }
+    };
+
+    private FetchPlanResolver() {
+    }
+
+    /**
+     * @param serviceClass classe do serviço
+     * @param operation    operação de leitura
+     * @return caminhos do plano da operação (vazio se não houver plano)
+     */
+    static List<String> paths(Class<?> serviceClass, FetchPlan.Operation operation) {
+        return PLANS.get(serviceClass).getOrDefault(operation, List.of());
+    }
+
+    private static Map<FetchPlan.Operation, List<String>> resolve(Class<?> serviceClass) {
+        Map<FetchPlan.Operation, Set<String>> paths = new EnumMap<>(FetchPlan.Operation.class);
+        for (FetchPlan plan : AnnotatedElementUtils.findMergedRepeatableAnnotations(serviceClass, FetchPlan.class)) {
+            for (FetchPlan.Operation operation : plan.operations()) {
+                paths.computeIfAbsent(operation, key -> new LinkedHashSet<>()).addAll(List.of(plan.value()));
+            }
+        }
+        Map<FetchPlan.Operation, List<String>> plans = new EnumMap<>(FetchPlan.Operation.class);
+        paths.forEach((operation, operationPaths) -> plans.put(operation, List.copyOf(operationPaths)));
+        return Collections.unmodifiableMap(plans);
+    }
+}
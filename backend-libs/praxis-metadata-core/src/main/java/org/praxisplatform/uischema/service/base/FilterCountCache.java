@@ -0,0 +1,173 @@
+package org.praxisplatform.uischema.service.base;
+
+import org.praxisplatform.uischema.filter.specification.FilterKey;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos totais de registros das consultas filtradas, por filtro normalizado ({@link FilterKey}).
+ * <p>
+ * As contagens são executadas em um executor próprio, de modo que o total pode ser calculado em paralelo à
+ * consulta dos dados. Chamadas concorrentes para o mesmo filtro compartilham a mesma contagem em andamento.
+ * Cada total expira após o TTL configurado; acima de <code>maxSize</code> filtros, os mais antigos são descartados.
+ * Contagens que falham não são mantidas em cache.
+ */
+public class FilterCountCache implements AutoCloseable {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Map<FilterKey, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Cria o cache com um pool próprio de threads daemon para as contagens.
+     *
+     * @param ttl     tempo de vida de cada total
+     * @param maxSize quantidade máxima de filtros em cache
+     * @param threads quantidade de contagens executadas simultaneamente
+     */
+    public FilterCountCache(Duration ttl, int maxSize, int threads) {
+        this(ttl, maxSize, Executors.newFixedThreadPool(Math.max(1, threads), countThreadFactory()), true);
+    }
+
+    /**
+     * Cria o cache usando o executor informado para as contagens.
+     *
+     * @param ttl      tempo de vida de cada total
+     * @param maxSize  quantidade máxima de filtros em cache
+     * @param executor executor das contagens
+     */
+    public FilterCountCache(Duration ttl, int maxSize, Executor executor) {
+        this(ttl, maxSize, executor, false);
+    }
+
+    private FilterCountCache(Duration ttl, int maxSize, Executor executor, boolean owned) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * Retorna o total do filtro, reutilizando o valor em cache (ou a contagem em andamento) enquanto não expirar.
+     * Caso contrário, agenda a contagem no executor do cache.
+     *
+     * @param key     filtro normalizado
+     * @param counter função que executa a contagem
+     * @return futuro com o total
+     */
+    public CompletableFuture<Long> count(FilterKey key, Supplier<Long> counter) {
+        long now = System.nanoTime();
+        Entry current = entries.get(key);
+        if (current != null && current.isFresh(now, ttlNanos)) {
+            return current.total();
+        }
+
+        Entry created = new Entry(new CompletableFuture<>(), now);
+        Entry winner = entries.compute(key, (k, existing) ->
+                existing != null && existing.isFresh(now, ttlNanos) ? existing : created);
+        if (winner == created) {
+            evictIfNeeded();
+            schedule(key, created, counter);
+        }
+        return winner.total();
+    }
+
+    /**
+     * Último total conhecido do filtro, mesmo que já expirado.
+     *
+     * @param key filtro normalizado
+     * @return o total ou <code>null</code> se nenhuma contagem do filtro tiver terminado
+     */
+    public Long lastKnown(FilterKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.total().isDone() || entry.total().isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.total().join();
+    }
+
+    /**
+     * Descarta os totais dos filtros da entidade informada.
+     *
+     * @param entityClass entidade alterada
+     */
+    public void invalidate(Class<?> entityClass) {
+        entries.keySet().removeIf(key -> key.entityClass() == entityClass);
+    }
+
+    /**
+     * @return quantidade de filtros em cache
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void schedule(FilterKey key, Entry entry, Supplier<Long> counter) {
+        Runnable task = () -> {
+            try {
+                entry.total().complete(counter.get());
+            } catch (RuntimeException e) {
+                entries.remove(key, entry);
+                entry.total().completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            entries.remove(key, entry);
+            entry.total().completeExceptionally(e);
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> !entry.isFresh(now, ttlNanos));
+        int excess = entries.size() - maxSize;
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().createdAt()))
+                    .limit(excess)
+                    .toList()
+                    .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    private static ThreadFactory countThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "praxis-filter-count-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Entry(CompletableFuture<Long> total, long createdAt) {
+
+        boolean isFresh(long now, long ttlNanos) {
+            return now - createdAt < ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.praxisplatform.uischema.service.base;
+
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.FilterKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache opcional dos resultados de {@link BaseCrudService#filter}, por filtro normalizado, ordenação e página.
+ * <p>
+ * O serviço armazena apenas os identificadores e o total da página ({@link PageIds}), nunca as entidades: elas
+ * pertencem ao contexto de persistência de quem as carregou e são buscadas novamente por identificador a cada
+ * consulta atendida pelo cache.
+ * <p>
+ * As entradas expiram após o TTL configurado e, acima de <code>maxSize</code>, as menos usadas recentemente são
+ * descartadas. Escritas pelo serviço da entidade ({@code save}, {@code update}, {@code deleteById},
+ * {@code deleteAllById}) invalidam todas as entradas da entidade; um resultado calculado enquanto uma invalidação
+ * ocorria não é armazenado. Os valores em cache são compartilhados entre requisições e devem ser imutáveis.
+ */
+public class FilterResultCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param ttl     tempo de vida de cada resultado
+     * @param maxSize quantidade máxima de resultados em cache
+     */
+    public FilterResultCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > FilterResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retorna o resultado em cache para a chave ou o calcula com {@code loader}, armazenando-o.
+     *
+     * @param key    chave da consulta
+     * @param loader execução da consulta
+     * @param <T>    tipo do resultado
+     * @return o resultado
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdAt() < ttlNanos) {
+                    hits.increment();
+                    return (T) entry.value();
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+
+        AtomicLong generation = generation(key.filter().entityClass());
+        long expected = generation.get();
+        T value = loader.get();
+        synchronized (entries) {
+            if (generation.get() == expected) {
+                entries.put(key, new Entry(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Descarta os resultados da entidade informada.
+     *
+     * @param entityClass entidade alterada
+     */
+    public void invalidate(Class<?> entityClass) {
+        generation(entityClass).incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.filter().entityClass() == entityClass);
+        }
+    }
+
+    /**
+     * @return estatísticas de uso do cache
+     */
+    public Statistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private AtomicLong generation(Class<?> entityClass) {
+        return generations.computeIfAbsent(entityClass, type -> new AtomicLong());
+    }
+
+    /**
+     * Chave de uma consulta filtrada.
+     *
+     * @param filter filtro normalizado
+     * @param sort   ordenação solicitada
+     * @param offset posição do primeiro registro (<code>-1</code> para consultas não paginadas)
+     * @param size   tamanho da página (<code>-1</code> para consultas não paginadas)
+     */
+    public record Key(FilterKey filter, Sort sort, long offset, int size) {
+
+        /**
+         * Cria a chave da consulta do filtro e da página informados.
+         */
+        public static Key of(Class<?> entityClass, GenericFilterDTO filter, Pageable pageable) {
+            FilterKey filterKey = FilterKey.of(entityClass, filter);
+            if (pageable.isUnpaged()) {
+                return new Key(filterKey, pageable.getSort(), -1, -1);
+            }
+            return new Key(filterKey, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        }
+    }
+
+    /**
+     * Página de uma consulta filtrada guardada no cache.
+     *
+     * @param ids      identificadores dos registros da página, na ordem da consulta
+     * @param pageable página e ordenação efetivas
+     * @param total    total de registros do filtro
+     */
+    public record PageIds(List<?> ids, Pageable pageable, long total) {
+
+        public PageIds {
+            ids = List.copyOf(ids);
+        }
+    }
+
+    /**
+     * Estatísticas do cache.
+     *
+     * @param hits      consultas atendidas pelo cache
+     * @param misses    consultas executadas no banco
+     * @param evictions resultados descartados por tamanho ou expiração
+     * @param size      quantidade de resultados em cache
+     */
+    public record Statistics(long hits, long misses, long evictions, int size) {
+
+        /**
+         * @return proporção de consultas atendidas pelo cache (0 quando não houve consultas)
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(Object value, long createdAt) {
+    }
+}
@@ -0,0 +1,121 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.annotations.SQLUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.CompositeIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decide se uma entidade admite o <code>UPDATE ... SET</code> direcionado de
+ * {@link BaseCrudService#updateAttributes}, que não carrega a entidade e portanto não executa os efeitos da
+ * atualização por entidade.
+ *
+ * <p>A decisão usa o mapeamento efetivo do Hibernate (anotações em campos ou propriedades, <code>orm.xml</code>,
+ * listeners padrão da unidade de persistência), incluindo o das subclasses. A entidade não pode ser alterada dessa
+ * forma quando há:</p>
+ * <ul>
+ *     <li>identificador composto;</li>
+ *     <li>versão não numérica, ou mapeada em atributo diferente de {@link EntityMetadata#getVersionAttributeName()};</li>
+ *     <li>callbacks <code>@PreUpdate</code>/<code>@PostUpdate</code>, na entidade ou em listeners;</li>
+ *     <li>valores gerados na atualização (ex.: {@link UpdateTimestamp});</li>
+ *     <li>atualização customizada ({@link SQLUpdate}).</li>
+ * </ul>
+ */
+final class TargetedUpdateSupport {
+
+    private static final Map<EntityPersister, Boolean> SUPPORTED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private TargetedUpdateSupport() {
+    }
+
+    /**
+     * @param entityManager gerenciador de entidades do serviço
+     * @param entityClass   entidade
+     * @return se a entidade pode ser alterada sem carregá-la, sem perder efeitos da atualização por entidade
+     */
+    static boolean isSupported(EntityManager entityManager, Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        return SUPPORTED.computeIfAbsent(persister, key -> supported(sessionFactory, key));
+    }
+
+    private static boolean supported(SessionFactoryImplementor sessionFactory, EntityPersister persister) {
+        if (persister.getIdentifierMapping() instanceof CompositeIdentifierMapping || !supportedVersion(persister)) {
+            return false;
+        }
+        MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+        CallbackRegistry callbacks = sessionFactory.getEventEngine().getCallbackRegistry();
+        List<EntityPersister> persisters = new ArrayList<>();
+        persisters.add(persister);
+        for (String subclass : persister.getEntityMetamodel().getSubclassEntityNames()) {
+            EntityPersister subclassPersister = metamodel.getEntityDescriptor(subclass);
+            if (subclassPersister != persister) {
+                persisters.add(subclassPersister);
+            }
+        }
+        for (EntityPersister current : persisters) {
+            if (hasCustomUpdate(current) || hasUpdateGenerator(current)) {
+                return false;
+            }
+            Class<?> mappedClass = current.getMappedClass();
+            if (callbacks.hasRegisteredCallbacks(mappedClass, CallbackType.PRE_UPDATE)
+                    || callbacks.hasRegisteredCallbacks(mappedClass, CallbackType.POST_UPDATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean supportedVersion(EntityPersister persister) {
+        EntityVersionMapping version = persister.getVersionMapping();
+        String versionAttribute = EntityMetadata.of(persister.getMappedClass()).getVersionAttributeName();
+        if (version == null) {
+            return versionAttribute == null;
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(version.getJavaType().getJavaTypeClass());
+        return Number.class.isAssignableFrom(type)
+                && Objects.equals(version.getVersionAttribute().getAttributeName(), versionAttribute);
+    }
+
+    private static boolean hasUpdateGenerator(EntityPersister persister) {
+        Generator[] generators = persister.getEntityMetamodel().getGenerators();
+        int versionIndex = persister.getEntityMetamodel().getVersionPropertyIndex();
+        for (int i = 0; i < generators.length; i++) {
+            if (i != versionIndex && generators[i] != null && generators[i].generatesOnUpdate()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCustomUpdate(EntityPersister persister) {
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            return false;
+        }
+        AtomicBoolean custom = new AtomicBoolean();
+        entityPersister.forEachMutableTable(table -> {
+            if (table.getUpdateCustomSql() != null) {
+                custom.set(true);
+            }
+        });
+        return custom.get();
+    }
+}
@@ -0,0 +1,24 @@
+package org.praxisplatform.uischema.service.base;
+
+/**
+ * Como o total de registros é obtido nas consultas filtradas por fatia ({@link BaseCrudService#filterSlice}).
+ */
+public enum TotalCountMode {
+
+    /**
+     * Não calcula o total; a resposta informa apenas se há próxima página.
+     */
+    NONE,
+
+    /**
+     * Calcula o total em paralelo à consulta dos dados e aguarda o resultado. O total fica em cache por filtro
+     * normalizado, de modo que as páginas seguintes do mesmo filtro não repetem a contagem.
+     */
+    PARALLEL,
+
+    /**
+     * Nunca aguarda a contagem: devolve o total em cache para o filtro, se houver, ou dispara a contagem em segundo
+     * plano e responde sem total. O valor pode estar defasado até a expiração do cache.
+     */
+    ESTIMATED
+}
@@ -0,0 +1,56 @@
+package org.praxisplatform.uischema.service.base.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Plano de carregamento aplicado como entity graph (<code>jakarta.persistence.fetchgraph</code>) às consultas de um
+ * serviço CRUD, carregando os relacionamentos informados na mesma consulta em vez de uma consulta por registro (N+1).
+ * Relacionamentos fora do plano passam a ser carregados sob demanda, inclusive os mapeados como EAGER.
+ * <p>
+ *     Declarada na classe do serviço ({@code BaseCrudService}). Pode ser repetida para usar caminhos diferentes em
+ *     cada operação; quando mais de um plano cobre a mesma operação, os caminhos são somados.
+ *     <ul>
+ *          <li><b>value</b>: caminhos dos atributos, no formato "relacao1.relacao2" (ex.: "cargo", "dependentes").</li>
+ *          <li><b>operations</b>: operações em que o plano é aplicado. O padrão é todas.</li>
+ *      </ul>
+ * <p>
+ *     Coleções em planos de operações paginadas ({@link Operation#FIND_ALL} com página e {@link Operation#FILTER})
+ *     obrigam o Hibernate a paginar em memória; prefira-as em {@link Operation#FIND_BY_ID}.
+ *
+ * <pre>{@code
+ * @FetchPlan({"cargo", "departamento"})
+ * @FetchPlan(value = "dependentes", operations = FetchPlan.Operation.FIND_BY_ID)
+ * public class FuncionarioService extends AbstractBaseCrudService<...> { }
+ * }</pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(FetchPlans.class)
+public @interface FetchPlan {
+
+    String[] value();
+
+    Operation[] operations() default {Operation.FIND_ALL, Operation.FIND_BY_ID, Operation.FILTER};
+
+    /**
+     * Operações de leitura do serviço que aceitam um plano de carregamento.
+     */
+    enum Operation {
+        /**
+         * {@code findAll()} e {@code findAll(Pageable)} (<code>GET /all</code>).
+         */
+        FIND_ALL,
+        /**
+         * {@code findById} (<code>GET /{id}</code>).
+         */
+        FIND_BY_ID,
+        /**
+         * {@code filter}, {@code filterSlice} e {@code filterByCursor} (<code>POST /filter...</code>).
+         */
+        FILTER
+    }
+}
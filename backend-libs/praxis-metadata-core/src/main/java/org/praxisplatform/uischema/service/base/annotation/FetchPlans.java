@@ -0,0 +1,15 @@
+package org.praxisplatform.uischema.service.base.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Contêiner de {@link FetchPlan} repetidas.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FetchPlans {
+    FetchPlan[] value();
+}
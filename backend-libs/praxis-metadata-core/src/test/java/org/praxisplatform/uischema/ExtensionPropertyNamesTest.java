@@ -0,0 +1,23 @@
+package org.praxisplatform.uischema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtensionPropertyNamesTest {
+
+    @Test
+    void resolvesConstantAndCamelCaseNamesIgnoringCase() {
+        assertEquals(FieldConfigProperties.CONTROL_TYPE.getValue(), ExtensionPropertyNames.resolve("CONTROL_TYPE"));
+        assertEquals(FieldConfigProperties.CONTROL_TYPE.getValue(), ExtensionPropertyNames.resolve("controlType"));
+        assertEquals(FieldConfigProperties.CONTROL_TYPE.getValue(), ExtensionPropertyNames.resolve("CONTROLTYPE"));
+        assertEquals(ValidationProperties.MAX_FILE_SIZE.getValue(), ExtensionPropertyNames.resolve("maxfilesize"));
+    }
+
+    @Test
+    void unknownNamesAreReturnedUnchanged() {
+        assertEquals("somethingElse", ExtensionPropertyNames.resolve("somethingElse"));
+        assertFalse(ExtensionPropertyNames.isKnown("somethingElse"));
+        assertTrue(ExtensionPropertyNames.find(null).isEmpty());
+    }
+}
@@ -5,20 +5,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AbstractCrudControllerBatchDeleteTest.SimpleController.class)
+@ContextConfiguration(classes = AbstractCrudControllerBatchDeleteTest.SimpleController.class)
 class AbstractCrudControllerBatchDeleteTest {
 
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    SimpleController controller;
+
     @MockBean
     SimpleService service;
 
@@ -42,6 +50,26 @@ class AbstractCrudControllerBatchDeleteTest {
         verify(service, never()).deleteAllById(any());
     }
 
+    @Test
+    void batchEndpointsRejectListsAboveMaxSize() throws Exception {
+        ReflectionTestUtils.setField(controller, "batchMaxSize", 2);
+
+        mockMvc.perform(delete("/simple/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1,2,3]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/simple/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{},{},{}]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/simple/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":1},{\"id\":2},{\"id\":3}]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
     interface SimpleService extends org.praxisplatform.uischema.service.base.BaseCrudService<SimpleEntity, SimpleDto, Long, SimpleFilterDTO> {}
 
     static class SimpleEntity {
@@ -0,0 +1,106 @@
+package org.praxisplatform.uischema.controller.base;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.service.base.BaseCrudService;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbstractCrudControllerItemLinksTest {
+
+    private final ItemController controller = new ItemController();
+
+    @BeforeEach
+    void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/itens/all");
+        request.setContextPath("/app");
+        request.setServerName("api.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void itemLinksMatchMethodOnLinks() {
+        EntityModel<ItemDto> model = controller.toEntityModel(new ItemDto("a b/7"));
+
+        assertEquals(List.of(
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ItemController.class).getById("a b/7")).withSelfRel(),
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ItemController.class).create(null)).withRel("create"),
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ItemController.class).update("a b/7", null))
+                        .withRel("update"),
+                WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ItemController.class).delete("a b/7"))
+                        .withRel("delete")
+        ).toString(), model.getLinks().toList().toString());
+        assertEquals(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(ItemController.class).getAll()).withRel("all")
+                .toString(), controller.linkToAll().toString());
+    }
+
+    @Test
+    void itemLinksModeLimitsPerItemLinks() {
+        ReflectionTestUtils.setField(controller, "itemLinks", ItemLinksMode.SELF);
+        EntityModel<ItemDto> selfOnly = controller.toEntityModel(new ItemDto("1"));
+        assertEquals(List.of(Link.of("http://api.example.com/app/itens/1", IanaLinkRelations.SELF)),
+                selfOnly.getLinks().toList());
+
+        ReflectionTestUtils.setField(controller, "itemLinks", ItemLinksMode.NONE);
+        assertTrue(controller.toEntityModel(new ItemDto("1")).getLinks().isEmpty());
+    }
+
+    record ItemDto(String codigo) {
+    }
+
+    static class ItemFilterDTO implements GenericFilterDTO {
+    }
+
+    @RestController
+    @RequestMapping("/itens")
+    static class ItemController extends AbstractCrudController<ItemDto, ItemDto, String, ItemFilterDTO> {
+        @Override
+        protected BaseCrudService<ItemDto, ItemDto, String, ItemFilterDTO> getService() {
+            return null;
+        }
+
+        @Override
+        protected ItemDto toDto(ItemDto entity) {
+            return entity;
+        }
+
+        @Override
+        protected ItemDto toEntity(ItemDto dto) {
+            return dto;
+        }
+
+        @Override
+        protected String getEntityId(ItemDto entity) {
+            return entity.codigo();
+        }
+
+        @Override
+        protected String getDtoId(ItemDto dto) {
+            return dto.codigo();
+        }
+
+        @Override
+        protected String getBasePath() {
+            return "/itens";
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.praxisplatform.uischema.controller.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.service.base.DtoProjection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class MergePatchTest {
+
+    // @Configuration (e não @SpringBootConfiguration) para não ser adotada pelos demais testes do pacote
+    @Configuration
+    @AutoConfigurationPackage
+    static class TestConfiguration {
+    }
+
+    @Entity
+    static class Marca {
+        @Id
+        Integer codigo;
+        String nome;
+    }
+
+    @Entity
+    static class Veiculo {
+        @Id
+        Long id;
+        String placa;
+        LocalDate licenciamento;
+        @ManyToOne
+        Marca marca;
+        @OneToMany(mappedBy = "veiculo")
+        List<Multa> multas = new ArrayList<>();
+        @Version
+        Integer versao;
+    }
+
+    @Entity
+    static class Multa {
+        @Id
+        Long id;
+        @ManyToOne
+        Veiculo veiculo;
+    }
+
+    record VeiculoDTO(Long id, String placa, LocalDate licenciamento, Integer marcaCodigo, String marcaNome,
+                      Integer versao) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void applyFollowsRfc7386() throws Exception {
+        JsonNode target = objectMapper.readTree("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"},\"l\":[1,2]}");
+        JsonNode patch = objectMapper.readTree("{\"a\":\"z\",\"c\":{\"f\":null},\"l\":[3],\"n\":{\"x\":1}}");
+
+        assertEquals(objectMapper.readTree("{\"a\":\"z\",\"c\":{\"d\":\"e\"},\"l\":[3],\"n\":{\"x\":1}}"),
+                MergePatch.apply(target, patch));
+        assertEquals(objectMapper.readTree("{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"},\"l\":[1,2]}"), target);
+    }
+
+    @Test
+    void planTranslatesDtoFieldsToEntityPaths() throws Exception {
+        MergePatch.Plan plan = plan("{\"id\":1,\"placa\":\"ABC1D23\",\"licenciamento\":\"2025-03-01\","
+                + "\"marcaCodigo\":7,\"versao\":3}", null);
+
+        assertTrue(plan.targeted());
+        assertEquals(Map.of("placa", "ABC1D23", "licenciamento", LocalDate.of(2025, 3, 1), "marca.codigo", 7),
+                plan.changes());
+        assertEquals(3, plan.expectedVersion());
+    }
+
+    @Test
+    void ifMatchTakesPrecedenceOverVersionField() throws Exception {
+        MergePatch.Plan plan = plan("{\"placa\":null,\"versao\":3}", "W/\"5\"");
+
+        assertTrue(plan.targeted());
+        assertEquals(5, plan.expectedVersion());
+        assertNull(plan.changes().get("placa"));
+    }
+
+    @Test
+    void fieldsOutsideEntityColumnsFallBack() throws Exception {
+        assertFalse(plan("{\"marcaNome\":\"Fiat\"}", null).targeted());
+        assertFalse(plan("{\"placa\":\"X\",\"outro\":1}", null).targeted());
+        assertFalse(plan("{\"versao\":3}", null).targeted());
+    }
+
+    private MergePatch.Plan plan(String json, String ifMatch) throws Exception {
+        Map<String, String> propertyPaths = DtoProjection.of(entityManager.getMetamodel(), Veiculo.class,
+                VeiculoDTO.class).getPropertyPaths();
+        return MergePatch.plan((ObjectNode) objectMapper.readTree(json), ifMatch, propertyPaths,
+                entityManager.getMetamodel(), Veiculo.class, objectMapper);
+    }
+}
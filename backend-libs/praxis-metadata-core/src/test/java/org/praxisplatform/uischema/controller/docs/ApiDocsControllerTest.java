@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.client.MockRestServiceServer;
@@ -12,6 +14,9 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -139,6 +144,143 @@ class ApiDocsControllerTest {
         server.verify();
     }
 
+    @Test
+    void getFilteredSchemaUsesDocumentSourceWithoutHttpCall() throws Exception {
+        JsonNode document = mapper.readTree(openApiDoc);
+        OpenApiDocumentSource source = group -> "test".equals(group) ? document : null;
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", source);
+
+        Map<String, Object> requestSchema = controller.getFilteredSchema("/users", "test", "post", true, "request");
+        assertTrue(((Map<?, ?>) requestSchema.get("properties")).containsKey("name"));
+
+        // Nenhuma chamada HTTP deve ter sido feita e o documento compartilhado permanece intacto
+        server.verify();
+        assertEquals(mapper.readTree(openApiDoc), document);
+    }
+
+    @Test
+    void getFilteredSchemaFallsBackToHttpWhenSourceDoesNotKnowGroup() {
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", (OpenApiDocumentSource) group -> null);
+        server.expect(requestTo("http://localhost/v3/api-docs/remote"))
+                .andRespond(withSuccess(openApiDoc, MediaType.APPLICATION_JSON));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        Map<String, Object> responseSchema = controller.getFilteredSchema("/users", "remote", "post", false, "response");
+        assertTrue(((Map<?, ?>) responseSchema.get("properties")).containsKey("email"));
+        server.verify();
+    }
+
+    @Test
+    void getFilteredSchemaServesRepeatedRequestsFromIndex() throws Exception {
+        JsonNode document = mapper.readTree(openApiDoc);
+        FilteredSchemaIndex index = new FilteredSchemaIndex();
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", (OpenApiDocumentSource) group -> document);
+        ReflectionTestUtils.setField(controller, "filteredSchemaIndex", index);
+
+        byte[] first = controller.getFilteredSchemaJson("/users", "test", "post", false, "request", null).getBody();
+        byte[] second = controller.getFilteredSchemaJson("/users", "test", "POST", false, "request", null).getBody();
+
+        assertSame(first, second);
+        assertEquals(1, index.getStatistics().hits());
+        assertEquals(1, index.getStatistics().misses());
+        assertTrue(mapper.readTree(first).path("properties").has("name"));
+    }
+
+    @Test
+    void indexIsRebuiltWhenDocumentIsRegenerated() throws Exception {
+        JsonNode[] current = {mapper.readTree(openApiDoc)};
+        FilteredSchemaIndex index = new FilteredSchemaIndex();
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", (OpenApiDocumentSource) group -> current[0]);
+        ReflectionTestUtils.setField(controller, "filteredSchemaIndex", index);
+
+        controller.getFilteredSchemaJson("/users", "test", "post", false, "response", null);
+        current[0] = mapper.readTree(openApiDoc);
+        controller.getFilteredSchemaJson("/users", "test", "post", false, "response", null);
+
+        assertEquals(0, index.getStatistics().hits());
+        assertEquals(2, index.getStatistics().misses());
+        assertEquals(1, index.getStatistics().rebuilds());
+    }
+
+    @Test
+    void getFilteredSchemaReturnsNotModifiedForMatchingETag() throws Exception {
+        JsonNode document = mapper.readTree(openApiDoc);
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", (OpenApiDocumentSource) group -> document);
+        ReflectionTestUtils.setField(controller, "schemaMaxAge", Duration.ofMinutes(10));
+
+        ResponseEntity<byte[]> first = controller.getFilteredSchemaJson("/users", "test", "post", false, "request", null);
+        String eTag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("\""));
+        assertEquals("max-age=600", first.getHeaders().getCacheControl());
+
+        ResponseEntity<byte[]> second = controller.getFilteredSchemaJson("/users", "test", "post", false, "request", "W/" + eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        assertEquals(eTag, second.getHeaders().getETag());
+
+        ResponseEntity<byte[]> other = controller.getFilteredSchemaJson("/users", "test", "post", false, "response", eTag);
+        assertEquals(HttpStatus.OK, other.getStatusCode());
+        assertNotEquals(eTag, other.getHeaders().getETag());
+    }
+
+    @Test
+    void batchResolvesEachItemAndFetchesDocumentOnce() throws Exception {
+        // Apenas uma chamada HTTP é esperada para todo o lote
+        server.expect(requestTo("http://localhost/v3/api-docs/test"))
+                .andRespond(withSuccess(openApiDoc, MediaType.APPLICATION_JSON));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        ResponseEntity<byte[]> response = controller.getFilteredSchemasBatch(List.of(
+                new FilteredSchemaRequest("/users", "test", "post", "request"),
+                new FilteredSchemaRequest("/users", "test", "post", "response"),
+                new FilteredSchemaRequest("/users", "test", "post", "unknown")), false);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode items = mapper.readTree(response.getBody());
+        assertEquals(3, items.size());
+        assertTrue(items.get(0).path("schema").path("properties").has("name"));
+        assertEquals("request", items.get(0).path("schemaType").asText());
+        assertTrue(items.get(1).path("schema").path("properties").has("email"));
+        assertTrue(items.get(1).path("eTag").asText().startsWith("\""));
+        assertTrue(items.get(2).has("error"));
+        assertFalse(items.get(2).has("schema"));
+        server.verify();
+    }
+
+    @Test
+    void batchReportsNullItemAsErrorAndResolvesTheOthers() throws Exception {
+        server.expect(requestTo("http://localhost/v3/api-docs/test"))
+                .andRespond(withSuccess(openApiDoc, MediaType.APPLICATION_JSON));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        ResponseEntity<byte[]> response = controller.getFilteredSchemasBatch(Arrays.asList(
+                null,
+                new FilteredSchemaRequest("/users", "test", "post", "request")), false);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode items = mapper.readTree(response.getBody());
+        assertEquals(2, items.size());
+        assertTrue(items.get(0).has("error"));
+        assertTrue(items.get(1).path("schema").path("properties").has("name"));
+        server.verify();
+    }
+
+    @Test
+    void batchRejectsEmptyRequest() {
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getFilteredSchemasBatch(List.of(), false).getStatusCode());
+    }
+
+    @Test
+    void batchRejectsRequestAboveMaxSize() {
+        ReflectionTestUtils.setField(controller, "schemaBatchMaxSize", 2);
+        FilteredSchemaRequest item = new FilteredSchemaRequest("/users", "test", "post", "request");
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.getFilteredSchemasBatch(List.of(item, item, item), false).getStatusCode());
+    }
+
     @Test
     void invalidSchemaTypeThrowsException() {
         server.expect(requestTo("http://localhost/v3/api-docs/test"))
@@ -0,0 +1,57 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenApiWarmupTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void warmsUpGroupsAndPrefetchesFilteredSchemas() throws Exception {
+        JsonNode document = mapper.readTree("{\n" +
+                "  \"paths\": {\"/users\": {\n" +
+                "    \"parameters\": [],\n" +
+                "    \"post\": {\n" +
+                "      \"x-ui\": {\"responseSchema\": \"UserResponse\"},\n" +
+                "      \"requestBody\": {\"content\": {\"application/json\": {\"schema\": {\"$ref\": \"#/components/schemas/UserRequest\"}}}}\n" +
+                "    }\n" +
+                "  }},\n" +
+                "  \"components\": {\"schemas\": {\n" +
+                "    \"UserRequest\": {\"type\": \"object\", \"properties\": {\"name\": {\"type\": \"string\"}}},\n" +
+                "    \"UserResponse\": {\"type\": \"object\", \"properties\": {\"email\": {\"type\": \"string\"}}}\n" +
+                "  }}\n" +
+                "}");
+        OpenApiDocumentSource source = group -> "users".equals(group) ? document : null;
+        FilteredSchemaIndex index = new FilteredSchemaIndex();
+        ApiDocsController controller = new ApiDocsController();
+        ReflectionTestUtils.setField(controller, "objectMapper", mapper);
+        ReflectionTestUtils.setField(controller, "openApiDocumentSource", source);
+        ReflectionTestUtils.setField(controller, "filteredSchemaIndex", index);
+
+        OpenApiWarmup warmup = new OpenApiWarmup(source, controller, List.of("users", "missing"), 2);
+        assertFalse(warmup.getStatus().started());
+
+        warmup.start().get(5, TimeUnit.SECONDS);
+
+        OpenApiWarmup.Status status = warmup.getStatus();
+        assertTrue(status.completed());
+        assertEquals(2, status.groups());
+        assertEquals(1, status.warmedGroups());
+        assertEquals(2, status.schemas());
+        assertTrue(status.failures().containsKey("missing"));
+        assertEquals(2, index.getStatistics().size());
+
+        long misses = index.getStatistics().misses();
+        controller.getFilteredSchemaJson("/users", "users", "post", false, "request", null);
+        assertEquals(misses, index.getStatistics().misses());
+        assertEquals(1, index.getStatistics().hits());
+    }
+}
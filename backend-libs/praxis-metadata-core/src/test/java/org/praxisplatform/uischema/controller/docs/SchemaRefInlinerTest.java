@@ -0,0 +1,80 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaRefInlinerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private JsonNode schemas;
+
+    @BeforeEach
+    void setup() throws Exception {
+        schemas = mapper.readTree("{\n" +
+                "  \"FuncionarioDTO\": {\"type\": \"object\", \"properties\": {\n" +
+                "    \"nome\": {\"type\": \"string\"},\n" +
+                "    \"endereco\": {\"$ref\": \"#/components/schemas/EnderecoDTO\"},\n" +
+                "    \"gestor\": {\"$ref\": \"#/components/schemas/FuncionarioDTO\"},\n" +
+                "    \"dependentes\": {\"type\": \"array\", \"items\": {\"type\": \"object\", \"properties\": {\n" +
+                "      \"endereco\": {\"$ref\": \"#/components/schemas/EnderecoDTO\"}}}}\n" +
+                "  }},\n" +
+                "  \"EnderecoDTO\": {\"type\": \"object\", \"properties\": {\n" +
+                "    \"rua\": {\"type\": \"string\"},\n" +
+                "    \"cidade\": {\"$ref\": \"#/components/schemas/CidadeDTO\"}\n" +
+                "  }},\n" +
+                "  \"CidadeDTO\": {\"type\": \"object\", \"properties\": {\"nome\": {\"type\": \"string\"}}}\n" +
+                "}");
+    }
+
+    @Test
+    void inlinesNestedReferencesWithoutChangingDocument() throws Exception {
+        JsonNode original = schemas.deepCopy();
+
+        ObjectNode result = new SchemaRefInliner(schemas, SchemaRefInliner.DEFAULT_MAX_DEPTH).inline("FuncionarioDTO");
+
+        JsonNode endereco = result.path("properties").path("endereco");
+        assertFalse(endereco.has("$ref"));
+        assertTrue(endereco.has("rua"));
+        assertTrue(endereco.path("cidade").has("nome"));
+        assertTrue(result.path("properties").path("dependentes").path("items")
+                .path("properties").path("endereco").has("rua"));
+        assertEquals(original, schemas);
+    }
+
+    @Test
+    void keepsCyclicReferences() {
+        ObjectNode result = new SchemaRefInliner(schemas, SchemaRefInliner.DEFAULT_MAX_DEPTH).inline("FuncionarioDTO");
+
+        assertEquals("#/components/schemas/FuncionarioDTO",
+                result.path("properties").path("gestor").path("$ref").asText());
+    }
+
+    @Test
+    void stopsAtMaxDepthEvenWhenExpansionIsMemoized() {
+        SchemaRefInliner inliner = new SchemaRefInliner(schemas, 2);
+
+        // EnderecoDTO -> CidadeDTO cabe em dois níveis e é memorizado
+        assertTrue(inliner.inline("EnderecoDTO").path("properties").path("cidade").has("nome"));
+
+        // Dentro de FuncionarioDTO, a expansão memorizada não cabe e a referência é mantida
+        JsonNode endereco = inliner.inline("FuncionarioDTO").path("properties").path("endereco");
+        assertTrue(endereco.has("rua"));
+        assertTrue(endereco.path("cidade").has("$ref"));
+    }
+
+    @Test
+    void returnsIndependentCopies() {
+        SchemaRefInliner inliner = new SchemaRefInliner(schemas, SchemaRefInliner.DEFAULT_MAX_DEPTH);
+
+        ObjectNode first = inliner.inline("FuncionarioDTO");
+        ((ObjectNode) first.path("properties").path("endereco")).remove("rua");
+
+        assertTrue(inliner.inline("FuncionarioDTO").path("properties").path("endereco").has("rua"));
+        assertNull(inliner.inline("Unknown"));
+    }
+}
@@ -0,0 +1,55 @@
+package org.praxisplatform.uischema.controller.docs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotOpenApiDocumentSourceTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void servesSnapshotsWrittenAtBuildTimeAndDelegatesOtherGroups(@TempDir Path outputDirectory) throws Exception {
+        JsonNode generated = mapper.readTree("{\"paths\": {\"/users\": {}}, \"components\": {\"schemas\": {}}}");
+        List<Path> files = OpenApiSnapshotGenerator.write(
+                group -> generated, List.of("users"), outputDirectory, mapper);
+        assertEquals(1, files.size());
+        assertTrue(Files.exists(outputDirectory.resolve("META-INF/praxis/schemas/users.json")));
+
+        JsonNode runtime = mapper.readTree("{\"paths\": {}}");
+        AtomicInteger delegated = new AtomicInteger();
+        OpenApiDocumentSource delegate = group -> {
+            delegated.incrementAndGet();
+            return runtime;
+        };
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, null)) {
+            SnapshotOpenApiDocumentSource source = new SnapshotOpenApiDocumentSource(classLoader, mapper, delegate);
+
+            JsonNode first = source.getDocument("users");
+            assertEquals(generated, first);
+            assertSame(first, source.getDocument("users"));
+            assertEquals(0, delegated.get());
+
+            assertSame(runtime, source.getDocument("orders"));
+            assertSame(runtime, source.getDocument("../users"));
+            assertEquals(2, delegated.get());
+        }
+    }
+
+    @Test
+    void writeFailsWhenGroupCannotBeGenerated(@TempDir Path outputDirectory) {
+        assertThrows(IllegalStateException.class,
+                () -> OpenApiSnapshotGenerator.write(group -> null, List.of("users"), outputDirectory, mapper));
+    }
+}
@@ -110,13 +110,19 @@ class FilterableBetweenListDetectionTest {
     }
 
     private Filterable betweenFilterable() {
+        return filterable(Filterable.FilterOperation.BETWEEN);
+    }
+
+    private Filterable filterable(Filterable.FilterOperation operation) {
         return new Filterable() {
             @Override
             public Class<? extends Annotation> annotationType() { return Filterable.class; }
             @Override
-            public FilterOperation operation() { return FilterOperation.BETWEEN; }
+            public FilterOperation operation() { return operation; }
             @Override
             public String relation() { return ""; }
+            @Override
+            public String[] searchFields() { return new String[0]; }
         };
     }
 
@@ -181,4 +187,15 @@ class FilterableBetweenListDetectionTest {
         Map<String, Object> xUi = applyAnnotations(schema, new Annotation[]{defaultUISchema(), betweenFilterable()});
         assertEquals(FieldControlType.DATE_TIME_RANGE.getValue(), xUi.get(FieldConfigProperties.CONTROL_TYPE.getValue()));
     }
+
+    @Test
+    void filterOperationIsAdvertised() {
+        Schema<?> schema = new Schema<>();
+        schema.setName("cpf");
+        schema.setType("string");
+
+        Map<String, Object> xUi = applyAnnotations(schema,
+                new Annotation[]{defaultUISchema(), filterable(Filterable.FilterOperation.STARTS_WITH)});
+        assertEquals("STARTS_WITH", xUi.get(FieldConfigProperties.FILTER_OPERATION.getValue()));
+    }
 }
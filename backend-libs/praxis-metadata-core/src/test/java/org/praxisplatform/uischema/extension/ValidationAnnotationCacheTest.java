@@ -0,0 +1,72 @@
+package org.praxisplatform.uischema.extension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.FieldConfigProperties;
+import org.praxisplatform.uischema.ValidationProperties;
+import org.praxisplatform.uischema.extension.annotation.UISchema;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationAnnotationCacheTest {
+
+    static class DummyDTO {
+        @UISchema
+        @Size(min = 2, max = 50, message = "Nome inválido")
+        private String nome;
+
+        @UISchema
+        @DecimalMin("1.5")
+        @Digits(integer = 5, fraction = 2)
+        private BigDecimal salario;
+    }
+
+    @Test
+    void descriptorKeepsParsedAttributes() throws Exception {
+        Field nome = DummyDTO.class.getDeclaredField("nome");
+        ConstraintDescriptor size = ConstraintDescriptor.of(nome.getAnnotation(Size.class));
+        assertEquals("Size", size.type());
+        assertEquals(2, size.min());
+        assertEquals(50, size.max());
+        assertEquals("Nome inválido", size.message());
+
+        Field salario = DummyDTO.class.getDeclaredField("salario");
+        ConstraintDescriptor decimalMin = ConstraintDescriptor.of(salario.getAnnotation(DecimalMin.class));
+        assertEquals(new BigDecimal("1.5"), decimalMin.value());
+        assertNull(decimalMin.message());
+
+        ConstraintDescriptor digits = ConstraintDescriptor.of(salario.getAnnotation(Digits.class));
+        assertEquals(5, digits.integerDigits());
+        assertEquals(2, digits.fractionDigits());
+    }
+
+    @Test
+    void repeatedPassesProduceSameExtensions() throws Exception {
+        CustomOpenApiResolver resolver = new CustomOpenApiResolver(new ObjectMapper());
+        Field field = DummyDTO.class.getDeclaredField("salario");
+
+        Map<String, Object> first = resolve(resolver, field);
+        Map<String, Object> second = resolve(resolver, field);
+
+        assertEquals(first, second);
+        assertEquals("#,,,,.##", first.get(FieldConfigProperties.NUMERIC_FORMAT.getValue()));
+        assertNotNull(first.get(ValidationProperties.MIN.getValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> resolve(CustomOpenApiResolver resolver, Field field) {
+        Schema<?> schema = new Schema<>();
+        schema.setName(field.getName());
+        schema.setType("number");
+        resolver.applyBeanValidatorAnnotations(schema, field.getAnnotations(), null, false);
+        return (Map<String, Object>) schema.getExtensions().get("x-ui");
+    }
+}
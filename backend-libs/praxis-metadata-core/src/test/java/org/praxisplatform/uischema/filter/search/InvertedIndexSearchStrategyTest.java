@@ -0,0 +1,98 @@
+package org.praxisplatform.uischema.filter.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexSearchStrategyTest {
+
+    record Pessoa(Long id, String nome) {
+    }
+
+    private final InvertedIndexSearchStrategy strategy = new InvertedIndexSearchStrategy();
+
+    @Test
+    void writesUpdateRebuiltIndex() {
+        strategy.register(Pessoa.class, p -> Map.of("nome", p.nome()));
+        strategy.onSaved(Pessoa.class, Map.of(9L, new Pessoa(9L, "Ignorada")));
+        assertFalse(strategy.isIndexed(Pessoa.class));
+
+        strategy.rebuild(Pessoa.class, Map.of(1L, new Pessoa(1L, "Ana Souza"), 2L, new Pessoa(2L, "Bruno Lima")));
+        assertTrue(strategy.isIndexed(Pessoa.class));
+        assertEquals(Set.of(1L), search("souza"));
+
+        strategy.onSaved(Pessoa.class, Map.of(2L, new Pessoa(2L, "Bruno Souza"), 3L, new Pessoa(3L, "Carla Souza")));
+        assertEquals(Set.of(1L, 2L, 3L), search("souza"));
+        assertEquals(Set.of(), search("lima"));
+
+        strategy.onDeleted(Pessoa.class, List.of(1L, 99L));
+        assertEquals(Set.of(2L, 3L), search("souza"));
+    }
+
+    @Test
+    void changesApplyOnlyAfterCommit() {
+        strategy.register(Pessoa.class, p -> Map.of("nome", p.nome()));
+        strategy.rebuild(Pessoa.class, Map.of(1L, new Pessoa(1L, "Ana Souza")));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> strategy.onSaved(Pessoa.class, Map.of(2L, new Pessoa(2L, "Bruno Souza"))));
+        assertEquals(Set.of(1L), search("souza"));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED, () -> {
+            strategy.onDeleted(Pessoa.class, List.of(1L));
+            assertEquals(Set.of(1L), search("souza"));
+        });
+        assertEquals(Set.of(), search("souza"));
+    }
+
+    @Test
+    void writeWithoutRegisteredFieldsDropsIndex() {
+        strategy.index(Pessoa.class, 1L, Map.of("nome", "Ana Souza"));
+
+        strategy.onSaved(Pessoa.class, Map.of(1L, new Pessoa(1L, "Ana Lima")));
+
+        assertFalse(strategy.isIndexed(Pessoa.class));
+        assertThrows(IllegalStateException.class, () -> strategy.rebuild(Pessoa.class, Map.of()));
+    }
+
+    @Test
+    void indexOlderThanMaxAgeFallsBackUntilRebuilt() throws InterruptedException {
+        InvertedIndexSearchStrategy expiring = new InvertedIndexSearchStrategy(new LikeSearchStrategy(),
+                Duration.ofMillis(200));
+        expiring.register(Pessoa.class, p -> Map.of("nome", p.nome()));
+        expiring.rebuild(Pessoa.class, Map.of(1L, new Pessoa(1L, "Ana Souza")));
+
+        Thread.sleep(250);
+
+        assertFalse(expiring.isIndexed(Pessoa.class));
+        assertEquals(Set.of(), expiring.search(Pessoa.class, List.of("nome"), "souza"));
+        expiring.rebuild(Pessoa.class, Map.of(1L, new Pessoa(1L, "Ana Souza")));
+        assertEquals(Set.of(1L), expiring.search(Pessoa.class, List.of("nome"), "souza"));
+    }
+
+    private Set<Object> search(String text) {
+        return strategy.search(Pessoa.class, List.of("nome"), text);
+    }
+
+    private static void complete(int status, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
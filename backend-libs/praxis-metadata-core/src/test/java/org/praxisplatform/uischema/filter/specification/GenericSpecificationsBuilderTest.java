@@ -0,0 +1,297 @@
+package org.praxisplatform.uischema.filter.specification;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.search.InvertedIndexSearchStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class GenericSpecificationsBuilderTest {
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    static class TestConfiguration {
+    }
+
+    @Entity
+    static class Setor {
+        @Id
+        @GeneratedValue
+        Long id;
+        String nome;
+    }
+
+    @Entity
+    static class Colaborador {
+        @Id
+        @GeneratedValue
+        Long id;
+        String nome;
+        Integer nivel;
+        @ManyToOne
+        Setor setor;
+    }
+
+    static class ColaboradorFilterDTO implements GenericFilterDTO {
+        @Filterable(operation = Filterable.FilterOperation.LIKE)
+        private String nome;
+
+        @Filterable(operation = Filterable.FilterOperation.GREATER_THAN)
+        private Integer nivel;
+
+        @Filterable(relation = "setor.nome")
+        private String setorNome;
+
+        private String ignorado;
+    }
+
+    static class ColaboradorSetorFilterDTO implements GenericFilterDTO {
+        @Filterable(relation = "setor.nome")
+        private String setorNome;
+
+        @Filterable(relation = "setor.id")
+        private Long setorId;
+    }
+
+    static class TextFilterDTO implements GenericFilterDTO {
+        @Filterable(operation = Filterable.FilterOperation.STARTS_WITH, relation = "nome")
+        private String prefixo;
+
+        @Filterable(operation = Filterable.FilterOperation.ENDS_WITH, relation = "nome")
+        private String sufixo;
+
+        @Filterable(operation = Filterable.FilterOperation.CONTAINS, relation = "nome")
+        private String trecho;
+
+        @Filterable(operation = Filterable.FilterOperation.EQUAL_IGNORE_CASE, relation = "nome")
+        private String nomeExato;
+    }
+
+    static class BuscaFilterDTO implements GenericFilterDTO {
+        @Filterable(operation = Filterable.FilterOperation.FULL_TEXT, searchFields = {"nome", "setor.nome"})
+        private String busca;
+
+        BuscaFilterDTO(String busca) {
+            this.busca = busca;
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleJpaRepository<Colaborador, Long> repository;
+    private final GenericSpecificationsBuilder<Colaborador> builder = new GenericSpecificationsBuilder<>();
+
+    @BeforeEach
+    void setup() {
+        repository = new SimpleJpaRepository<>(Colaborador.class, entityManager);
+        Setor ti = setor("TI");
+        Setor rh = setor("RH");
+        colaborador("Ana Souza", 3, ti);
+        colaborador("Bruno Souza", 1, ti);
+        colaborador("Carla Lima", 5, rh);
+        entityManager.flush();
+    }
+
+    @Test
+    void compiledPlanKeepsOnlyFilterableFields() {
+        FilterPlan plan = FilterPlan.of(ColaboradorFilterDTO.class);
+
+        assertSame(plan, FilterPlan.of(ColaboradorFilterDTO.class));
+        assertEquals(List.of("nome", "nivel", "setorNome"), plan.fields().stream().map(FilterPlan.FilterField::name).toList());
+        assertEquals(List.of("setor", "nome"), plan.fields().get(2).segments());
+
+        ColaboradorFilterDTO filter = new ColaboradorFilterDTO();
+        filter.setorNome = "TI";
+        assertEquals("TI", plan.fields().get(2).read(filter));
+    }
+
+    @Test
+    void filtersByDirectAndRelatedFields() {
+        ColaboradorFilterDTO filter = new ColaboradorFilterDTO();
+        filter.nome = "souza";
+        filter.setorNome = "TI";
+        filter.nivel = 2;
+
+        GenericSpecification<Colaborador> specification = builder.buildSpecification(filter, PageRequest.of(0, 10));
+        List<Colaborador> result = repository.findAll(specification.spec());
+
+        assertEquals(1, result.size());
+        assertEquals("Ana Souza", result.get(0).nome);
+    }
+
+    @Test
+    void sortOnFilterFieldUsesRelationPath() {
+        GenericSpecification<Colaborador> specification = builder.buildSpecification(
+                new ColaboradorFilterDTO(), PageRequest.of(0, 10, Sort.by("setorNome", "nome")));
+
+        assertEquals(List.of("setor.nome", "nome"),
+                specification.pageable().getSort().stream().map(Sort.Order::getProperty).toList());
+        assertEquals(3, repository.findAll(specification.spec(), specification.pageable()).getTotalElements());
+    }
+
+    @Test
+    void fieldsSharingRelationReuseSingleJoin() {
+        ColaboradorSetorFilterDTO filter = setorFilter();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Colaborador> query = cb.createQuery(Colaborador.class);
+        Root<Colaborador> root = query.from(Colaborador.class);
+
+        builder.buildSpecification(filter, PageRequest.of(0, 10)).spec().toPredicate(root, query, cb);
+
+        assertEquals(1, root.getJoins().size());
+        assertTrue(root.getFetches().isEmpty());
+    }
+
+    @Test
+    void joinsAddedByOtherSpecificationsAreNotReused() {
+        Specification<Colaborador> outroSetor = (root, query, cb) -> {
+            Join<Colaborador, Setor> setor = root.join("setor", JoinType.LEFT);
+            setor.on(cb.equal(setor.get("nome"), "RH"));
+            return null;
+        };
+        ColaboradorFilterDTO filter = new ColaboradorFilterDTO();
+        filter.setorNome = "TI";
+
+        List<Colaborador> result = repository.findAll(
+                outroSetor.and(builder.buildSpecification(filter, PageRequest.of(0, 10)).spec()));
+
+        assertEquals(List.of("Ana Souza", "Bruno Souza"), result.stream().map(c -> c.nome).sorted().toList());
+    }
+
+    @Test
+    void fetchJoinsOnlyOnDataQuery() {
+        GenericSpecificationsBuilder<Colaborador> fetchingBuilder = new GenericSpecificationsBuilder<>(true);
+        GenericSpecification<Colaborador> specification =
+                fetchingBuilder.buildSpecification(setorFilter(), PageRequest.of(0, 10));
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Colaborador> dataQuery = cb.createQuery(Colaborador.class);
+        Root<Colaborador> dataRoot = dataQuery.from(Colaborador.class);
+        specification.spec().toPredicate(dataRoot, dataQuery, cb);
+        assertEquals(1, dataRoot.getFetches().size());
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Colaborador> countRoot = countQuery.from(Colaborador.class);
+        specification.spec().toPredicate(countRoot, countQuery, cb);
+        assertTrue(countRoot.getFetches().isEmpty());
+        assertEquals(1, countRoot.getJoins().size());
+
+        var page = repository.findAll(specification.spec(), specification.pageable());
+        assertEquals(2, page.getTotalElements());
+        assertEquals("TI", page.getContent().get(0).setor.nome);
+    }
+
+    @Test
+    void textOperationsAreCaseSensitiveExceptEqualIgnoreCase() {
+        colaborador("100% Lima_", 1, null);
+        entityManager.flush();
+
+        assertEquals(List.of("Ana Souza"), names(textFilter(f -> f.prefixo = "Ana")));
+        assertEquals(List.of(), names(textFilter(f -> f.prefixo = "ana")));
+        assertEquals(List.of("Ana Souza", "Bruno Souza"), names(textFilter(f -> f.sufixo = "Souza")));
+        assertEquals(List.of("Carla Lima"), names(textFilter(f -> f.trecho = "la Li")));
+        assertEquals(List.of("Bruno Souza"), names(textFilter(f -> f.nomeExato = "BRUNO souza")));
+        assertEquals(List.of("100% Lima_"), names(textFilter(f -> f.prefixo = "100%")));
+        assertEquals(List.of("100% Lima_"), names(textFilter(f -> f.sufixo = "a_")));
+        assertEquals(List.of("100% Lima_"), names(textFilter(f -> f.trecho = "_")));
+    }
+
+    @Test
+    void fullTextRequiresEveryTermInSomeField() {
+        assertEquals(List.of("Ana Souza", "Bruno Souza"), names(new BuscaFilterDTO("souza ti")));
+        assertEquals(List.of("Carla Lima"), names(new BuscaFilterDTO("  LIMA   rh ")));
+        assertEquals(List.of(), names(new BuscaFilterDTO("souza rh")));
+        assertEquals(List.of(), names(new BuscaFilterDTO("%")));
+        assertEquals(3, names(new BuscaFilterDTO(" ")).size());
+    }
+
+    @Test
+    void fullTextUsesInvertedIndexOnceEntityIsIndexed() {
+        InvertedIndexSearchStrategy index = new InvertedIndexSearchStrategy();
+        GenericSpecificationsBuilder<Colaborador> indexedBuilder = new GenericSpecificationsBuilder<>(false, index);
+        entityManager.clear();
+
+        // Sem índice, a busca recorre ao LIKE
+        assertEquals(List.of("Carla Lima"), names(indexedBuilder, new BuscaFilterDTO("lima")));
+
+        for (Colaborador colaborador : repository.findAll()) {
+            index.index(Colaborador.class, colaborador.id,
+                    Map.of("nome", colaborador.nome, "setor.nome", colaborador.setor.nome));
+        }
+        assertEquals(List.of("Ana Souza", "Bruno Souza"), names(indexedBuilder, new BuscaFilterDTO("SOU t")));
+        assertEquals(List.of("Ana Souza"), names(indexedBuilder, new BuscaFilterDTO("ana-souza")));
+        assertEquals(List.of(), names(indexedBuilder, new BuscaFilterDTO("ouza")));
+
+        Colaborador carla = repository.findAll().stream().filter(c -> c.nome.equals("Carla Lima")).findFirst().orElseThrow();
+        index.index(Colaborador.class, carla.id, Map.of("nome", "Carla Lemos", "setor.nome", "RH"));
+        assertEquals(List.of(), names(indexedBuilder, new BuscaFilterDTO("lima")));
+        index.remove(Colaborador.class, carla.id);
+        assertEquals(List.of(), names(indexedBuilder, new BuscaFilterDTO("rh")));
+    }
+
+    private TextFilterDTO textFilter(Consumer<TextFilterDTO> setter) {
+        TextFilterDTO filter = new TextFilterDTO();
+        setter.accept(filter);
+        return filter;
+    }
+
+    private List<String> names(GenericFilterDTO filter) {
+        return names(builder, filter);
+    }
+
+    private List<String> names(GenericSpecificationsBuilder<Colaborador> builder, GenericFilterDTO filter) {
+        return repository.findAll(builder.buildSpecification(filter, PageRequest.of(0, 10)).spec()).stream()
+                .map(c -> c.nome)
+                .sorted()
+                .toList();
+    }
+
+    private ColaboradorSetorFilterDTO setorFilter() {
+        ColaboradorSetorFilterDTO filter = new ColaboradorSetorFilterDTO();
+        filter.setorNome = "TI";
+        filter.setorId = repository.findAll().stream()
+                .filter(c -> c.setor.nome.equals("TI")).findFirst().orElseThrow().setor.id;
+        return filter;
+    }
+
+    private Setor setor(String nome) {
+        Setor setor = new Setor();
+        setor.nome = nome;
+        entityManager.persist(setor);
+        return setor;
+    }
+
+    private void colaborador(String nome, int nivel, Setor setor) {
+        Colaborador colaborador = new Colaborador();
+        colaborador.nome = nome;
+        colaborador.nivel = nivel;
+        colaborador.setor = setor;
+        entityManager.persist(colaborador);
+    }
+}
@@ -0,0 +1,110 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceBatchWriteTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Tarefa {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        Long id;
+        String titulo;
+
+        Tarefa() {
+        }
+
+        Tarefa(String titulo) {
+            this.titulo = titulo;
+        }
+    }
+
+    interface TarefaRepository extends BaseCrudRepository<Tarefa, Long> {
+    }
+
+    static class TarefaFilterDTO implements GenericFilterDTO {
+    }
+
+    static class TarefaService extends AbstractBaseCrudService<Tarefa, Tarefa, Long, TarefaFilterDTO> {
+        TarefaService(TarefaRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Tarefa.class);
+        }
+
+        @Override
+        public int getWriteChunkSize() {
+            return 2;
+        }
+
+        @Override
+        public Tarefa mergeUpdate(Tarefa existing, Tarefa update) {
+            existing.titulo = update.titulo;
+            return existing;
+        }
+    }
+
+    private TarefaService service;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new TarefaService(repository(TarefaRepository.class)));
+    }
+
+    @Test
+    void saveAllWritesInChunksAndMapsBeforeDetaching() {
+        AtomicInteger invalidations = new AtomicInteger();
+        service.setFilterResultCache(new FilterResultCache(Duration.ofMinutes(1), 10) {
+            @Override
+            public void invalidate(Class<?> entityClass) {
+                invalidations.incrementAndGet();
+                super.invalidate(entityClass);
+            }
+        });
+        List<Tarefa> tarefas = IntStream.rangeClosed(1, 5).mapToObj(i -> new Tarefa("T" + i)).toList();
+
+        List<String> titulos = service.saveAll(tarefas, tarefa -> {
+            assertTrue(entityManager.contains(tarefa));
+            return tarefa.titulo;
+        });
+
+        assertEquals(List.of("T1", "T2", "T3", "T4", "T5"), titulos);
+        assertTrue(tarefas.stream().allMatch(tarefa -> tarefa.id != null && !entityManager.contains(tarefa)));
+        assertEquals(5, service.getRepository().count());
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    void updateAllReportsMissingIdsAndKeepsOrder() {
+        List<Tarefa> salvas = service.saveAll(List.of(new Tarefa("A"), new Tarefa("B"), new Tarefa("C")));
+        Map<Long, Tarefa> updates = new LinkedHashMap<>();
+        updates.put(salvas.get(2).id, new Tarefa("C2"));
+        updates.put(-1L, new Tarefa("X"));
+        updates.put(salvas.get(0).id, new Tarefa("A2"));
+
+        List<BatchItemResult<Long, String>> results = service.updateAll(updates, tarefa -> tarefa.titulo);
+
+        assertEquals(List.of(
+                new BatchItemResult<>(BatchItemResult.Status.UPDATED, salvas.get(2).id, "C2"),
+                new BatchItemResult<>(BatchItemResult.Status.NOT_FOUND, -1L, null),
+                new BatchItemResult<>(BatchItemResult.Status.UPDATED, salvas.get(0).id, "A2")
+        ), results);
+        assertEquals("A2", entityManager.find(Tarefa.class, salvas.get(0).id).titulo);
+        assertEquals("B", entityManager.find(Tarefa.class, salvas.get(1).id).titulo);
+    }
+}
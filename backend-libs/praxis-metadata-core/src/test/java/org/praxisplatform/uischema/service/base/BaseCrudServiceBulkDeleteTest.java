@@ -0,0 +1,176 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.hibernate.annotations.SQLDelete;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceBulkDeleteTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Nota {
+        @Id
+        Long id;
+        String texto;
+    }
+
+    @Entity
+    static class Pasta {
+        @Id
+        Long id;
+        @OneToMany(mappedBy = "pasta", cascade = CascadeType.ALL, orphanRemoval = true)
+        List<Arquivo> arquivos = new ArrayList<>();
+    }
+
+    @Entity
+    static class Arquivo {
+        @Id
+        Long id;
+        @ManyToOne
+        Pasta pasta;
+    }
+
+    @Entity
+    static class Livro {
+        private Long id;
+        private List<Pagina> paginas = new ArrayList<>();
+
+        @Id
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        @OneToMany(mappedBy = "livro", cascade = CascadeType.REMOVE)
+        public List<Pagina> getPaginas() {
+            return paginas;
+        }
+
+        public void setPaginas(List<Pagina> paginas) {
+            this.paginas = paginas;
+        }
+    }
+
+    @Entity
+    static class Pagina {
+        @Id
+        Long id;
+        @ManyToOne
+        Livro livro;
+    }
+
+    @Entity
+    @SQLDelete(sql = "update lixeira set excluido = true where id = ?")
+    static class Lixeira {
+        @Id
+        Long id;
+        boolean excluido;
+    }
+
+    interface NotaRepository extends BaseCrudRepository<Nota, Long> {
+    }
+
+    interface PastaRepository extends BaseCrudRepository<Pasta, Long> {
+    }
+
+    static class NotaService extends AbstractBaseCrudService<Nota, Nota, Long, VazioFilterDTO> {
+        NotaService(NotaRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Nota.class);
+        }
+
+        @Override
+        public int getDeleteChunkSize() {
+            return 2;
+        }
+    }
+
+    static class PastaService extends AbstractBaseCrudService<Pasta, Pasta, Long, VazioFilterDTO> {
+        PastaService(PastaRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Pasta.class);
+        }
+    }
+
+    private NotaService notaService;
+    private PastaService pastaService;
+
+    @BeforeEach
+    void setup() {
+        notaService = withEntityManager(new NotaService(repository(NotaRepository.class)));
+        pastaService = withEntityManager(new PastaService(repository(PastaRepository.class)));
+        for (long id = 1; id <= 6; id++) {
+            Nota nota = new Nota();
+            nota.id = id;
+            nota.texto = "N" + id;
+            entityManager.persist(nota);
+        }
+        for (long id = 1; id <= 2; id++) {
+            Pasta pasta = new Pasta();
+            pasta.id = id;
+            entityManager.persist(pasta);
+            Arquivo arquivo = new Arquivo();
+            arquivo.id = id;
+            arquivo.pasta = pasta;
+            entityManager.persist(arquivo);
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void bulkDeleteIsUsedOnlyWithoutCascades() {
+        assertTrue(notaService.isBulkDeleteEnabled());
+        assertFalse(pastaService.isBulkDeleteEnabled());
+        assertFalse(BulkDeleteSupport.isSupported(entityManager, Livro.class));
+        assertFalse(BulkDeleteSupport.isSupported(entityManager, Lixeira.class));
+        assertTrue(BulkDeleteSupport.isSupported(entityManager, Pagina.class));
+    }
+
+    @Test
+    void bulkDeletedInstancesAreDetached() {
+        Nota nota = entityManager.find(Nota.class, 1L);
+
+        notaService.deleteAllById(List.of(1L, 2L));
+
+        assertFalse(entityManager.contains(nota));
+        assertNull(entityManager.find(Nota.class, 1L));
+    }
+
+    @Test
+    void bulkDeleteRemovesInChunksAndReportsAffectedRows() {
+        assertEquals(4, notaService.deleteAllById(List.of(1L, 2L, 3L, 3L, 5L, 99L)));
+
+        assertEquals(List.of(4L, 6L), notaService.findAll().stream().map(n -> n.id).sorted().toList());
+    }
+
+    @Test
+    void deleteByIdUsesSingleStatement() {
+        notaService.deleteById(4L);
+        notaService.deleteById(99L);
+
+        assertNull(entityManager.find(Nota.class, 4L));
+        assertEquals(5, notaService.findAll().size());
+    }
+
+    @Test
+    void cascadingEntitiesFallBackToEntityDeletes() {
+        assertEquals(1, pastaService.deleteAllById(List.of(1L, 99L)));
+        flushAndClear();
+
+        assertNull(entityManager.find(Pasta.class, 1L));
+        assertNull(entityManager.find(Arquivo.class, 1L));
+        assertNotNull(entityManager.find(Arquivo.class, 2L));
+    }
+}
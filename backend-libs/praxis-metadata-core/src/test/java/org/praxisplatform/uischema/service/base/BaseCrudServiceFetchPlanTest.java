@@ -0,0 +1,139 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceUnitUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.praxisplatform.uischema.service.base.annotation.FetchPlan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceFetchPlanTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Cliente {
+        @Id
+        Long id;
+        String nome;
+    }
+
+    @Entity
+    static class Projeto {
+        @Id
+        Long id;
+        @DefaultSortColumn
+        String nome;
+        @ManyToOne(fetch = FetchType.LAZY)
+        Cliente cliente;
+        @OneToMany(mappedBy = "projeto")
+        List<Etapa> etapas = new ArrayList<>();
+    }
+
+    @Entity
+    static class Etapa {
+        @Id
+        Long id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        Projeto projeto;
+    }
+
+    interface ProjetoRepository extends BaseCrudRepository<Projeto, Long> {
+    }
+
+    static class ProjetoFilterDTO implements GenericFilterDTO {
+        @Filterable(operation = Filterable.FilterOperation.LIKE)
+        private String nome;
+    }
+
+    @FetchPlan("cliente")
+    @FetchPlan(value = "etapas", operations = FetchPlan.Operation.FIND_BY_ID)
+    static class ProjetoService extends AbstractBaseCrudService<Projeto, Projeto, Long, ProjetoFilterDTO> {
+        ProjetoService(ProjetoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Projeto.class);
+        }
+    }
+
+    static class PlainProjetoService extends AbstractBaseCrudService<Projeto, Projeto, Long, ProjetoFilterDTO> {
+        PlainProjetoService(ProjetoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Projeto.class);
+        }
+    }
+
+    private ProjetoRepository repository;
+    private PersistenceUnitUtil persistenceUnitUtil;
+
+    @BeforeEach
+    void setup() {
+        repository = repository(ProjetoRepository.class);
+        persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Cliente cliente = new Cliente();
+        cliente.id = 1L;
+        cliente.nome = "ACME";
+        entityManager.persist(cliente);
+        for (long id = 1; id <= 3; id++) {
+            Projeto projeto = new Projeto();
+            projeto.id = id;
+            projeto.nome = "P" + id;
+            projeto.cliente = cliente;
+            entityManager.persist(projeto);
+            Etapa etapa = new Etapa();
+            etapa.id = id;
+            etapa.projeto = projeto;
+            entityManager.persist(etapa);
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void plansAreResolvedPerOperation() {
+        ProjetoService service = new ProjetoService(repository);
+
+        assertEquals(List.of("cliente"), service.getFetchPlan(FetchPlan.Operation.FIND_ALL));
+        assertEquals(List.of("cliente"), service.getFetchPlan(FetchPlan.Operation.FILTER));
+        assertEquals(List.of("cliente", "etapas"), service.getFetchPlan(FetchPlan.Operation.FIND_BY_ID));
+        assertTrue(new PlainProjetoService(repository).getFetchPlan(FetchPlan.Operation.FIND_ALL).isEmpty());
+    }
+
+    @Test
+    void listOperationsLoadPlannedRelations() {
+        ProjetoService service = new ProjetoService(repository);
+
+        List<Projeto> all = service.findAll();
+        assertEquals(List.of("P1", "P2", "P3"), all.stream().map(p -> p.nome).toList());
+        assertTrue(all.stream().allMatch(p -> persistenceUnitUtil.isLoaded(p, "cliente")));
+        assertTrue(all.stream().noneMatch(p -> persistenceUnitUtil.isLoaded(p, "etapas")));
+        entityManager.clear();
+
+        Page<Projeto> page = service.filter(new ProjetoFilterDTO(), PageRequest.of(1, 2));
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("P3"), page.getContent().stream().map(p -> p.nome).toList());
+        assertTrue(persistenceUnitUtil.isLoaded(page.getContent().get(0), "cliente"));
+    }
+
+    @Test
+    void findByIdUsesItsOwnPlan() {
+        Projeto projeto = new ProjetoService(repository).findById(2L);
+
+        assertTrue(persistenceUnitUtil.isLoaded(projeto, "cliente"));
+        assertTrue(persistenceUnitUtil.isLoaded(projeto, "etapas"));
+        assertEquals(1, projeto.etapas.size());
+        entityManager.clear();
+
+        Projeto plain = new PlainProjetoService(repository).findById(2L);
+        assertFalse(persistenceUnitUtil.isLoaded(plain, "cliente"));
+    }
+}
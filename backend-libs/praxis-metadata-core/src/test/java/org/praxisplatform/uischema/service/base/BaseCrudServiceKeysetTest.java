@@ -0,0 +1,129 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.CursorPage;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceKeysetTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Pedido {
+        @Id
+        Long id;
+        @DefaultSortColumn
+        String cliente;
+        LocalDate data;
+    }
+
+    interface PedidoRepository extends BaseCrudRepository<Pedido, Long> {
+    }
+
+    static class PedidoFilterDTO implements GenericFilterDTO {
+        @Filterable(operation = Filterable.FilterOperation.LIKE)
+        private String cliente;
+    }
+
+    static class PedidoService extends AbstractBaseCrudService<Pedido, Pedido, Long, PedidoFilterDTO> {
+        PedidoService(PedidoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Pedido.class);
+        }
+    }
+
+    private PedidoService service;
+
+    @BeforeEach
+    void setup() {
+        service = new PedidoService(repository(PedidoRepository.class));
+        pedido(1L, "Beatriz", LocalDate.of(2024, 1, 3));
+        pedido(2L, "Ana", LocalDate.of(2024, 1, 1));
+        pedido(3L, "Beatriz", LocalDate.of(2024, 1, 2));
+        pedido(4L, "Carlos", LocalDate.of(2024, 1, 2));
+        pedido(5L, "Ana", LocalDate.of(2024, 1, 5));
+        entityManager.flush();
+    }
+
+    @Test
+    void pagesThroughDefaultSortWithIdTieBreaker() {
+        List<Long> ids = collect(new PedidoFilterDTO(), Sort.unsorted(), 2);
+
+        assertEquals(List.of(2L, 5L, 1L, 3L, 4L), ids);
+    }
+
+    @Test
+    void followsRequestedSortAndFilter() {
+        PedidoFilterDTO filter = new PedidoFilterDTO();
+        filter.cliente = "r";
+
+        List<Long> ids = collect(filter, Sort.by(Sort.Order.desc("data")), 2);
+
+        assertEquals(List.of(1L, 3L, 4L), ids);
+    }
+
+    @Test
+    void nullableSortColumnFollowsDatabaseNullOrdering() {
+        pedido(6L, "Diego", null);
+        pedido(7L, "Elisa", null);
+        entityManager.flush();
+
+        for (Sort sort : List.of(Sort.by("data"), Sort.by(Sort.Order.desc("data")))) {
+            List<Long> expected = collect(new PedidoFilterDTO(), sort, 10);
+            assertEquals(7, expected.size());
+            for (int size = 1; size <= 3; size++) {
+                assertEquals(expected, collect(new PedidoFilterDTO(), sort, size), sort + ", página de " + size);
+            }
+        }
+    }
+
+    @Test
+    void lastPageHasNoContinuation() {
+        CursorPage<Pedido> page = service.filterByCursor(new PedidoFilterDTO(), Sort.unsorted(), null, 10);
+
+        assertEquals(5, page.content().size());
+        assertFalse(page.hasNext());
+        assertNull(page.next());
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSort() {
+        CursorPage<Pedido> page = service.filterByCursor(new PedidoFilterDTO(), Sort.unsorted(), null, 2);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                service.filterByCursor(new PedidoFilterDTO(), Sort.by("data"), page.next(), 2));
+        assertThrows(IllegalArgumentException.class, () ->
+                service.filterByCursor(new PedidoFilterDTO(), Sort.unsorted(), "não-é-um-cursor", 2));
+    }
+
+    private List<Long> collect(PedidoFilterDTO filter, Sort sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Pedido> page = service.filterByCursor(filter, sort, cursor, size);
+            assertTrue(page.content().size() <= size);
+            page.content().forEach(pedido -> ids.add(pedido.id));
+            cursor = page.next();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private void pedido(Long id, String cliente, LocalDate data) {
+        Pedido pedido = new Pedido();
+        pedido.id = id;
+        pedido.cliente = cliente;
+        pedido.data = data;
+        entityManager.persist(pedido);
+    }
+}
@@ -0,0 +1,200 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServicePatchTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Unidade {
+        @Id
+        Long id;
+        String nome;
+    }
+
+    @Embeddable
+    static class Vigencia {
+        String inicio;
+        String fim;
+    }
+
+    @Entity
+    static class Contrato {
+        @Id
+        Long id;
+        String numero;
+        String objeto;
+        @Embedded
+        Vigencia vigencia;
+        @ManyToOne
+        Unidade unidade;
+        @Version
+        Long versao;
+    }
+
+    @Entity
+    static class Aditivo {
+        @Id
+        Long id;
+        String descricao;
+
+        @PreUpdate
+        void antesDeAtualizar() {
+        }
+    }
+
+    @Entity
+    static class Parcela {
+        @Id
+        Long id;
+        String valor;
+    }
+
+    // O callback da subclasse também seria ignorado por um UPDATE direcionado a Parcela
+    @Entity
+    static class ParcelaAgendada extends Parcela {
+        @PreUpdate
+        void antesDeAtualizar() {
+        }
+    }
+
+    @Entity
+    static class Medicao {
+        @Id
+        Long id;
+        @UpdateTimestamp
+        Instant alteradaEm;
+    }
+
+    interface ContratoRepository extends BaseCrudRepository<Contrato, Long> {
+    }
+
+    static class ContratoService extends AbstractBaseCrudService<Contrato, Contrato, Long, VazioFilterDTO> {
+        ContratoService(ContratoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Contrato.class);
+        }
+
+        @Override
+        public Contrato mergeUpdate(Contrato existing, Contrato payload) {
+            existing.objeto = payload.objeto;
+            existing.vigencia = payload.vigencia;
+            existing.unidade = payload.unidade;
+            return existing;
+        }
+
+        @Override
+        public Set<String> getTargetedUpdateAttributes() {
+            return Set.of("objeto", "vigencia", "unidade");
+        }
+    }
+
+    private ContratoService service;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new ContratoService(repository(ContratoRepository.class)));
+        for (long id = 1; id <= 2; id++) {
+            Unidade unidade = new Unidade();
+            unidade.id = id;
+            unidade.nome = "U" + id;
+            entityManager.persist(unidade);
+        }
+        Contrato contrato = new Contrato();
+        contrato.id = 1L;
+        contrato.numero = "C-1";
+        contrato.objeto = "Limpeza";
+        contrato.vigencia = new Vigencia();
+        contrato.vigencia.inicio = "2024-01-01";
+        contrato.vigencia.fim = "2024-12-31";
+        contrato.unidade = entityManager.find(Unidade.class, 1L);
+        entityManager.persist(contrato);
+        flushAndClear();
+    }
+
+    @Test
+    void targetedUpdateIsOptInAndLimitedToDeclaredAttributes() {
+        ContratoService padrao = new ContratoService(null) {
+            @Override
+            public Set<String> getTargetedUpdateAttributes() {
+                return Set.of();
+            }
+        };
+        padrao.setEntityManager(entityManager);
+        assertFalse(padrao.isTargetedUpdateEnabled(Set.of("objeto")));
+
+        assertTrue(service.isTargetedUpdateEnabled(Set.of("objeto", "vigencia.fim", "unidade.id")));
+        assertFalse(service.isTargetedUpdateEnabled(Set.of("objeto", "numero")));
+        assertThrows(IllegalArgumentException.class, () -> service.updateAttributes(1L, Map.of("numero", "C-2"), null));
+    }
+
+    @Test
+    void targetedUpdateIsDisabledWithUpdateCallbacks() {
+        assertTrue(TargetedUpdateSupport.isSupported(entityManager, Contrato.class));
+        assertFalse(TargetedUpdateSupport.isSupported(entityManager, Aditivo.class));
+        assertFalse(TargetedUpdateSupport.isSupported(entityManager, Parcela.class));
+        assertFalse(TargetedUpdateSupport.isSupported(entityManager, Medicao.class));
+    }
+
+    @Test
+    void unknownAssociationIdIsReportedWhenValidationIsEnabled() {
+        service.setReferenceValidationEnabled(true);
+
+        assertThrows(EntityNotFoundException.class, () -> service.updateAttributes(1L, Map.of("unidade.id", 99L), null));
+        entityManager.clear();
+        assertEquals(1L, entityManager.find(Contrato.class, 1L).unidade.id);
+    }
+
+    @Test
+    void updatesOnlyGivenAttributesAndIncrementsVersion() {
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("objeto", "Vigilância");
+        changes.put("vigencia.fim", null);
+        changes.put("unidade.id", 2L);
+
+        service.updateAttributes(1L, changes, 0L);
+        entityManager.clear();
+
+        Contrato contrato = entityManager.find(Contrato.class, 1L);
+        assertEquals("C-1", contrato.numero);
+        assertEquals("Vigilância", contrato.objeto);
+        assertEquals("2024-01-01", contrato.vigencia.inicio);
+        assertNull(contrato.vigencia.fim);
+        assertEquals(2L, contrato.unidade.id);
+        assertEquals(1L, contrato.versao);
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        service.updateAttributes(1L, Map.of("objeto", "Vigilância"), null);
+
+        assertThrows(OptimisticLockException.class, () -> service.updateAttributes(1L, Map.of("objeto", "Obras"), 0L));
+        entityManager.clear();
+        assertEquals("Vigilância", entityManager.find(Contrato.class, 1L).objeto);
+    }
+
+    @Test
+    void missingRecordAndInvalidPathsAreReported() {
+        assertThrows(EntityNotFoundException.class, () -> service.updateAttributes(99L, Map.of("objeto", "X"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updateAttributes(1L, Map.of("unidade.nome", "X"), null));
+    }
+}
@@ -0,0 +1,169 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceProjectionTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Funcao {
+        @Id
+        Long id;
+        String nome;
+    }
+
+    @Embeddable
+    static class Local {
+        String cidade;
+        String estado;
+    }
+
+    @Entity
+    static class Pessoa {
+        @Id
+        Long id;
+        @DefaultSortColumn
+        String nome;
+        boolean ativo;
+        @ManyToOne
+        Funcao funcao;
+        @Embedded
+        Local local;
+    }
+
+    static class LocalDTO {
+        String cidade;
+        String estado;
+    }
+
+    static class PessoaDTO {
+        Long id;
+        String nome;
+        boolean ativo = true;
+        Long funcaoId;
+        String funcaoNome;
+        LocalDTO local;
+        List<String> apelidos;
+    }
+
+    record PessoaResumo(Long id, String nome, String funcaoNome) {
+    }
+
+    interface PessoaRepository extends BaseCrudRepository<Pessoa, Long> {
+    }
+
+    static class PessoaFilterDTO implements GenericFilterDTO {
+        @Filterable(relation = "funcao.nome")
+        private String funcao;
+    }
+
+    static class PessoaService extends AbstractBaseCrudService<Pessoa, PessoaDTO, Long, PessoaFilterDTO> {
+        PessoaService(PessoaRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(true), Pessoa.class);
+        }
+
+        @Override
+        public Class<PessoaDTO> getProjectionClass() {
+            return PessoaDTO.class;
+        }
+    }
+
+    private PessoaService service;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new PessoaService(repository(PessoaRepository.class)));
+        Funcao analista = funcao(1L, "Analista");
+        Funcao gerente = funcao(2L, "Gerente");
+        pessoa(1L, "Carla", analista, "Recife", "PE");
+        pessoa(2L, "Ana", gerente, null, null);
+        pessoa(3L, "Bruno", analista, "Natal", "RN");
+        pessoa(4L, "Davi", null, "Olinda", "PE");
+        flushAndClear();
+    }
+
+    @Test
+    void projectionDerivesPathsFromDtoFields() {
+        DtoProjection<PessoaDTO> projection =
+                DtoProjection.of(entityManager.getMetamodel(), Pessoa.class, PessoaDTO.class);
+
+        assertEquals(List.of("id", "nome", "ativo", "funcao.id", "funcao.nome", "local.cidade", "local.estado"),
+                projection.getPaths());
+    }
+
+    @Test
+    void filterSelectsOnlyDtoColumnsWithoutLoadingEntities() {
+        PessoaFilterDTO filter = new PessoaFilterDTO();
+        filter.funcao = "Analista";
+
+        Page<PessoaDTO> page = service.filterProjected(filter, PageRequest.of(0, 1));
+
+        assertEquals(2, page.getTotalElements());
+        PessoaDTO bruno = page.getContent().get(0);
+        assertEquals("Bruno", bruno.nome);
+        assertFalse(bruno.ativo);
+        assertEquals(1L, bruno.funcaoId);
+        assertEquals("Analista", bruno.funcaoNome);
+        assertEquals("Natal", bruno.local.cidade);
+        assertNull(bruno.apelidos);
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findAllKeepsRowsWithoutRelationsAndNullsEmptyEmbeddables() {
+        List<PessoaDTO> all = service.findAllProjected();
+
+        assertEquals(List.of("Ana", "Bruno", "Carla", "Davi"), all.stream().map(dto -> dto.nome).toList());
+        assertNull(all.get(0).local);
+        assertNull(all.get(3).funcaoId);
+        assertNull(all.get(3).funcaoNome);
+        assertEquals("PE", all.get(3).local.estado);
+    }
+
+    @Test
+    void recordDtosUseCanonicalConstructor() {
+        List<PessoaResumo> resumos = DtoProjection.of(entityManager.getMetamodel(), Pessoa.class, PessoaResumo.class)
+                .list(entityManager, Pessoa.class, null, service.getDefaultSort(), 1, 2);
+
+        assertEquals(List.of(new PessoaResumo(3L, "Bruno", "Analista"), new PessoaResumo(1L, "Carla", "Analista")),
+                resumos);
+    }
+
+    private Funcao funcao(Long id, String nome) {
+        Funcao funcao = new Funcao();
+        funcao.id = id;
+        funcao.nome = nome;
+        entityManager.persist(funcao);
+        return funcao;
+    }
+
+    private void pessoa(Long id, String nome, Funcao funcao, String cidade, String estado) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.id = id;
+        pessoa.nome = nome;
+        pessoa.funcao = funcao;
+        if (cidade != null) {
+            pessoa.local = new Local();
+            pessoa.local.cidade = cidade;
+            pessoa.local.estado = estado;
+        }
+        entityManager.persist(pessoa);
+    }
+}
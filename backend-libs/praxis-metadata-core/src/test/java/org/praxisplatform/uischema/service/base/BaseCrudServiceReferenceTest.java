@@ -0,0 +1,128 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceReferenceTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Fornecedor {
+        @Id
+        Long id;
+        String nome;
+    }
+
+    @Entity
+    static class Recibo {
+        @Id
+        Long id;
+    }
+
+    @Entity
+    static class Compra {
+        @Id
+        @GeneratedValue
+        Long id;
+        String descricao;
+        @ManyToOne
+        Fornecedor fornecedor;
+        @OneToOne(cascade = CascadeType.ALL)
+        Recibo recibo;
+    }
+
+    interface CompraRepository extends BaseCrudRepository<Compra, Long> {
+    }
+
+    static class CompraService extends AbstractBaseCrudService<Compra, Compra, Long, VazioFilterDTO> {
+        CompraService(CompraRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Compra.class);
+        }
+
+        @Override
+        public Compra mergeUpdate(Compra existing, Compra payload) {
+            existing.descricao = payload.descricao;
+            existing.fornecedor = payload.fornecedor;
+            return existing;
+        }
+    }
+
+    private CompraService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new CompraService(repository(CompraRepository.class)));
+        for (long id = 1; id <= 3; id++) {
+            Fornecedor fornecedor = new Fornecedor();
+            fornecedor.id = id;
+            fornecedor.nome = "F" + id;
+            entityManager.persist(fornecedor);
+        }
+        flushAndClear();
+        statistics = clearedStatistics();
+    }
+
+    @Test
+    void referenceAttributesComeFromMetadata() {
+        assertEquals(List.of("fornecedor"), EntityMetadata.of(Compra.class).getReferenceAttributes().stream()
+                .map(EntityMetadata.ReferenceAttribute::name).toList());
+    }
+
+    @Test
+    void saveAttachesAssociationsWithoutLoadingThem() {
+        Compra saved = service.save(compra(2L));
+        entityManager.flush();
+
+        assertFalse(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(saved.fornecedor));
+        assertEquals(0, statistics.getEntityLoadCount());
+        entityManager.clear();
+        assertEquals("F2", entityManager.find(Compra.class, saved.id).fornecedor.nome);
+    }
+
+    @Test
+    void updateResolvesAssociationsSetByMergeUpdate() {
+        Long id = service.save(compra(1L)).id;
+        flushAndClear();
+
+        service.update(id, compra(3L));
+        flushAndClear();
+
+        assertEquals(3L, entityManager.find(Compra.class, id).fornecedor.id);
+    }
+
+    @Test
+    void validationChecksAllIdsWithOneQueryPerTarget() {
+        service.setReferenceValidationEnabled(true);
+
+        service.saveAll(List.of(compra(1L), compra(2L), compra(1L), compra(3L)));
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        EntityNotFoundException missing = assertThrows(EntityNotFoundException.class,
+                () -> service.save(compra(99L)));
+        assertTrue(missing.getMessage().contains("99"));
+    }
+
+    private static Compra compra(Long fornecedorId) {
+        Fornecedor fornecedor = new Fornecedor();
+        fornecedor.id = fornecedorId;
+        Compra compra = new Compra();
+        compra.descricao = "Compra de F" + fornecedorId;
+        compra.fornecedor = fornecedor;
+        return compra;
+    }
+}
@@ -0,0 +1,113 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.FilterSlice;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceSliceTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Item {
+        @Id
+        Long id;
+        @DefaultSortColumn
+        String nome;
+        String categoria;
+    }
+
+    interface ItemRepository extends BaseCrudRepository<Item, Long> {
+    }
+
+    static class ItemFilterDTO implements GenericFilterDTO {
+        @Filterable
+        private String categoria;
+    }
+
+    static class ItemService extends AbstractBaseCrudService<Item, Item, Long, ItemFilterDTO> {
+        ItemService(ItemRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Item.class);
+        }
+    }
+
+    private ItemService service;
+
+    @BeforeEach
+    void setup() {
+        service = new ItemService(repository(ItemRepository.class));
+        item(1L, "E", "A");
+        item(2L, "D", "A");
+        item(3L, "C", "B");
+        item(4L, "B", "A");
+        item(5L, "A", "A");
+        entityManager.flush();
+    }
+
+    @Test
+    void sliceReportsNextPageWithoutTotal() {
+        ItemFilterDTO filter = new ItemFilterDTO();
+        filter.categoria = "A";
+
+        Slice<Item> first = service.filterSlice(filter, PageRequest.of(0, 3));
+        Slice<Item> last = service.filterSlice(filter, PageRequest.of(1, 3));
+
+        assertEquals(List.of("A", "B", "D"), first.getContent().stream().map(item -> item.nome).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("E"), last.getContent().stream().map(item -> item.nome).toList());
+        assertFalse(last.hasNext());
+        assertNull(service.filterSlice(filter, PageRequest.of(0, 3), TotalCountMode.NONE).totalElements());
+    }
+
+    @Test
+    void parallelTotalIsCachedPerFilter() {
+        service.setFilterCountCache(new FilterCountCache(Duration.ofMinutes(1), 100, Runnable::run));
+        ItemFilterDTO filter = new ItemFilterDTO();
+        filter.categoria = "A";
+
+        FilterSlice<Item> first = service.filterSlice(filter, PageRequest.of(0, 2), TotalCountMode.PARALLEL);
+        item(6L, "F", "A");
+        entityManager.flush();
+        FilterSlice<Item> second = service.filterSlice(filter, PageRequest.of(1, 2), TotalCountMode.PARALLEL);
+
+        assertEquals(4L, first.totalElements());
+        assertEquals(4L, second.totalElements());
+        assertEquals(1, service.getFilterCountCache().size());
+    }
+
+    @Test
+    void estimatedTotalNeverWaitsForCount() {
+        List<Runnable> pending = new ArrayList<>();
+        service.setFilterCountCache(new FilterCountCache(Duration.ofMinutes(1), 100, pending::add));
+
+        FilterSlice<Item> first = service.filterSlice(new ItemFilterDTO(), PageRequest.of(0, 2), TotalCountMode.ESTIMATED);
+        assertNull(first.totalElements());
+        assertEquals(1, pending.size());
+
+        pending.forEach(Runnable::run);
+        FilterSlice<Item> second = service.filterSlice(new ItemFilterDTO(), PageRequest.of(1, 2), TotalCountMode.ESTIMATED);
+        assertEquals(5L, second.totalElements());
+        assertTrue(second.hasNext());
+    }
+
+    private void item(Long id, String nome, String categoria) {
+        Item item = new Item();
+        item.id = id;
+        item.nome = nome;
+        item.categoria = categoria;
+        entityManager.persist(item);
+    }
+}
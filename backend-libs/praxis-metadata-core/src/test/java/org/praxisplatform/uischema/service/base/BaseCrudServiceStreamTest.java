@@ -0,0 +1,144 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.praxisplatform.uischema.service.base.annotation.FetchPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseCrudServiceStreamTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Conta {
+        @Id
+        Long id;
+        String nome;
+        @OneToMany(mappedBy = "conta")
+        List<Lancamento> lancamentos = new ArrayList<>();
+    }
+
+    @Entity
+    static class Lancamento {
+        @Id
+        Long id;
+        @DefaultSortColumn(ascending = false)
+        Integer numero;
+        @ManyToOne(fetch = FetchType.LAZY)
+        Conta conta;
+    }
+
+    record LancamentoResumo(Long id, Integer numero, String contaNome) {
+    }
+
+    interface LancamentoRepository extends BaseCrudRepository<Lancamento, Long> {
+    }
+
+    interface ContaRepository extends BaseCrudRepository<Conta, Long> {
+    }
+
+    static class LancamentoFilterDTO implements GenericFilterDTO {
+    }
+
+    @FetchPlan("conta")
+    static class LancamentoService
+            extends AbstractBaseCrudService<Lancamento, LancamentoResumo, Long, LancamentoFilterDTO> {
+        LancamentoService(LancamentoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Lancamento.class);
+        }
+
+        @Override
+        public Class<LancamentoResumo> getProjectionClass() {
+            return LancamentoResumo.class;
+        }
+    }
+
+    @FetchPlan("lancamentos")
+    static class ContaService extends AbstractBaseCrudService<Conta, Conta, Long, LancamentoFilterDTO> {
+        ContaService(ContaRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Conta.class);
+        }
+    }
+
+    private LancamentoService service;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new LancamentoService(repository(LancamentoRepository.class)));
+        Conta conta = new Conta();
+        conta.id = 1L;
+        conta.nome = "Caixa";
+        entityManager.persist(conta);
+        for (long id = 1; id <= 7; id++) {
+            Lancamento lancamento = new Lancamento();
+            lancamento.id = id;
+            lancamento.numero = (int) id * 10;
+            lancamento.conta = conta;
+            entityManager.persist(lancamento);
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void entitiesAreVisitedInOrderAndDetachedAfterEachBatch() {
+        List<Lancamento> visited = new ArrayList<>();
+        List<Boolean> managedOnVisit = new ArrayList<>();
+
+        service.forEachEntity(3, lancamento -> {
+            managedOnVisit.add(entityManager.contains(lancamento));
+            visited.add(lancamento);
+        });
+
+        assertEquals(List.of(70, 60, 50, 40, 30, 20, 10), visited.stream().map(l -> l.numero).toList());
+        assertTrue(managedOnVisit.stream().allMatch(Boolean::booleanValue));
+        assertFalse(entityManager.contains(visited.get(0)));
+        assertTrue(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(visited.get(0), "conta"));
+        assertEquals("Caixa", visited.get(0).conta.nome);
+    }
+
+    @Test
+    void collectionPathsOfFetchPlanAreNotFetchedWhenStreaming() {
+        ContaService contaService = withEntityManager(new ContaService(repository(ContaRepository.class)));
+        List<Long> visited = new ArrayList<>();
+        List<Boolean> loadedOnVisit = new ArrayList<>();
+
+        contaService.forEachEntity(3, conta -> {
+            loadedOnVisit.add(entityManager.getEntityManagerFactory().getPersistenceUnitUtil()
+                    .isLoaded(conta, "lancamentos"));
+            visited.add(conta.id);
+        });
+
+        assertEquals(List.of(1L), visited);
+        assertEquals(List.of(false), loadedOnVisit);
+    }
+
+    @Test
+    void projectedStreamReadsDtoColumns() {
+        List<LancamentoResumo> resumos = new ArrayList<>();
+
+        service.forEachProjected(2, resumos::add);
+
+        assertEquals(7, resumos.size());
+        assertEquals(new LancamentoResumo(7L, 70, "Caixa"), resumos.get(0));
+        assertEquals(new LancamentoResumo(1L, 10, "Caixa"), resumos.get(6));
+    }
+
+    @Test
+    void streamingRequiresEntityManager() {
+        service.setEntityManager(null);
+
+        assertThrows(IllegalStateException.class, () -> service.forEachEntity(10, lancamento -> { }));
+        assertThrows(IllegalStateException.class, () -> service.forEachProjected(10, resumo -> { }));
+    }
+}
@@ -0,0 +1,69 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.service.base.annotation.DefaultSortColumn;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityMetadataTest {
+
+    static class Base {
+        @Id
+        Long codigo;
+        @Version
+        Integer revisao;
+        @DefaultSortColumn(priority = 2)
+        String criadoEm;
+    }
+
+    static class Documento extends Base {
+        @DefaultSortColumn(priority = 1, ascending = false)
+        String titulo;
+        String conteudo;
+    }
+
+    static class Rascunho {
+        String texto;
+    }
+
+    static class Evento {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Test
+    void metadataIsResolvedFromClassHierarchy() {
+        EntityMetadata metadata = EntityMetadata.of(Documento.class);
+
+        assertEquals("codigo", metadata.getIdAttributeName());
+        assertEquals("revisao", metadata.getVersionAttributeName());
+        assertEquals(Sort.by(Sort.Order.desc("titulo"), Sort.Order.asc("criadoEm")), metadata.getDefaultSort());
+    }
+
+    @Test
+    void metadataIsComputedOncePerEntity() {
+        assertSame(EntityMetadata.of(Documento.class), EntityMetadata.of(Documento.class));
+        assertSame(EntityMetadata.of(Documento.class).getDefaultSort(), EntityMetadata.of(Documento.class).getDefaultSort());
+    }
+
+    @Test
+    void defaultsApplyWithoutAnnotations() {
+        EntityMetadata metadata = EntityMetadata.of(Rascunho.class);
+
+        assertEquals("id", metadata.getIdAttributeName());
+        assertNull(metadata.getVersionAttributeName());
+        assertTrue(metadata.getDefaultSort().isUnsorted());
+    }
+
+    @Test
+    void identityGenerationIsDetected() {
+        assertTrue(EntityMetadata.of(Evento.class).isIdentityGenerated());
+        assertFalse(EntityMetadata.of(Documento.class).isIdentityGenerated());
+    }
+}
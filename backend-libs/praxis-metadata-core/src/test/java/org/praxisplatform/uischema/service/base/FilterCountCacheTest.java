@@ -0,0 +1,107 @@
+package org.praxisplatform.uischema.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.FilterKey;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterCountCacheTest {
+
+    static class ProdutoFilterDTO implements GenericFilterDTO {
+        @Filterable
+        private String nome;
+
+        @Filterable(operation = Filterable.FilterOperation.IN)
+        private List<Long> ids;
+
+        @Filterable(operation = Filterable.FilterOperation.GREATER_THAN)
+        private BigDecimal preco;
+
+        private String ignorado;
+    }
+
+    @Test
+    void equivalentFiltersShareTheSameKey() {
+        ProdutoFilterDTO a = new ProdutoFilterDTO();
+        a.nome = "x";
+        a.preco = new BigDecimal("10.00");
+        a.ignorado = "a";
+        ProdutoFilterDTO b = new ProdutoFilterDTO();
+        b.nome = "x";
+        b.preco = new BigDecimal("10");
+        b.ignorado = "b";
+
+        assertEquals(FilterKey.of(Object.class, a), FilterKey.of(Object.class, b));
+        assertNotEquals(FilterKey.of(Object.class, a), FilterKey.of(String.class, b));
+        b.ids = List.of(1L);
+        assertNotEquals(FilterKey.of(Object.class, a), FilterKey.of(Object.class, b));
+    }
+
+    @Test
+    void concurrentRequestsShareOneCount() {
+        List<Runnable> pending = new ArrayList<>();
+        FilterCountCache cache = new FilterCountCache(Duration.ofMinutes(1), 10, pending::add);
+        AtomicInteger counts = new AtomicInteger();
+        FilterKey key = FilterKey.of(Object.class, new ProdutoFilterDTO());
+
+        CompletableFuture<Long> first = cache.count(key, () -> (long) counts.incrementAndGet());
+        CompletableFuture<Long> second = cache.count(key, () -> (long) counts.incrementAndGet());
+        pending.forEach(Runnable::run);
+
+        assertSame(first, second);
+        assertEquals(1L, second.join());
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void expiredTotalsAreRecountedButRemainKnown() {
+        FilterCountCache cache = new FilterCountCache(Duration.ZERO, 10, Runnable::run);
+        AtomicInteger counts = new AtomicInteger();
+        FilterKey key = FilterKey.of(Object.class, new ProdutoFilterDTO());
+
+        cache.count(key, () -> (long) counts.incrementAndGet());
+        assertEquals(1L, cache.lastKnown(key));
+        assertEquals(2L, cache.count(key, () -> (long) counts.incrementAndGet()).join());
+    }
+
+    @Test
+    void failuresAreNotCachedAndInvalidationIsPerEntity() {
+        FilterCountCache cache = new FilterCountCache(Duration.ofMinutes(1), 10, Runnable::run);
+        FilterKey key = FilterKey.of(Object.class, new ProdutoFilterDTO());
+        FilterKey other = FilterKey.of(String.class, new ProdutoFilterDTO());
+
+        CompletableFuture<Long> failed = cache.count(key, () -> {
+            throw new IllegalStateException("falha");
+        });
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+
+        cache.count(key, () -> 1L);
+        cache.count(other, () -> 2L);
+        cache.invalidate(Object.class);
+        assertNull(cache.lastKnown(key));
+        assertEquals(2L, cache.lastKnown(other));
+    }
+
+    @Test
+    void evictsOldestEntriesAboveMaxSize() {
+        FilterCountCache cache = new FilterCountCache(Duration.ofMinutes(1), 2, Runnable::run);
+        ProdutoFilterDTO filter = new ProdutoFilterDTO();
+        for (int i = 0; i < 5; i++) {
+            filter.nome = "n" + i;
+            cache.count(FilterKey.of(Object.class, filter), () -> 1L);
+        }
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.lastKnown(FilterKey.of(Object.class, filter)));
+    }
+}
@@ -0,0 +1,163 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.praxisplatform.uischema.filter.annotation.Filterable;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.praxisplatform.uischema.filter.specification.GenericSpecificationsBuilder;
+import org.praxisplatform.uischema.repository.base.BaseCrudRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterResultCacheTest extends ServiceJpaTestSupport {
+
+    @Entity
+    static class Produto {
+        @Id
+        @GeneratedValue
+        Long id;
+        String nome;
+    }
+
+    interface ProdutoRepository extends BaseCrudRepository<Produto, Long> {
+    }
+
+    static class ProdutoFilterDTO implements GenericFilterDTO {
+        @Filterable
+        private String nome;
+    }
+
+    static class ProdutoService extends AbstractBaseCrudService<Produto, Produto, Long, ProdutoFilterDTO> {
+        ProdutoService(ProdutoRepository repository) {
+            super(repository, new GenericSpecificationsBuilder<>(), Produto.class);
+        }
+    }
+
+    private ProdutoService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        service = withEntityManager(new ProdutoService(repository(ProdutoRepository.class)));
+        for (String nome : List.of("caneta", "lapis", "caneta")) {
+            entityManager.persist(produto(nome));
+        }
+        flushAndClear();
+        statistics = clearedStatistics();
+    }
+
+    @Test
+    void repeatedFilterRefetchesCachedIdsUntilWrite() {
+        FilterResultCache cache = new FilterResultCache(Duration.ofMinutes(1), 10);
+        service.setFilterResultCache(cache);
+        ProdutoFilterDTO filter = new ProdutoFilterDTO();
+        filter.nome = "caneta";
+        PageRequest firstPage = PageRequest.of(0, 1, Sort.by("id"));
+
+        Page<Produto> first = service.filter(filter, firstPage);
+        assertEquals(2, statistics.getQueryExecutionCount());
+        entityManager.clear();
+        statistics.clear();
+
+        Page<Produto> second = service.filter(filter, firstPage);
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertNotSame(first.getContent().get(0), second.getContent().get(0));
+        assertTrue(entityManager.contains(second.getContent().get(0)));
+        assertEquals(first.getContent().get(0).id, second.getContent().get(0).id);
+        assertEquals(2, second.getTotalElements());
+        assertEquals(firstPage, second.getPageable());
+
+        service.filter(filter, PageRequest.of(1, 1, Sort.by("id")));
+        service.save(produto("caneta"));
+        assertEquals(3, service.filter(filter, firstPage).getTotalElements());
+        assertEquals(1, cache.getStatistics().hits());
+        assertEquals(3, cache.getStatistics().misses());
+        assertEquals(0.25, cache.getStatistics().hitRatio());
+    }
+
+    @Test
+    void deletedRecordsAreOmittedFromCachedPage() {
+        service.setFilterResultCache(new FilterResultCache(Duration.ofMinutes(1), 10));
+        ProdutoFilterDTO filter = new ProdutoFilterDTO();
+        filter.nome = "caneta";
+        Page<Produto> first = service.filter(filter, PageRequest.of(0, 10, Sort.by("id")));
+        entityManager.createQuery("delete from FilterResultCacheTest$Produto p where p.id = :id")
+                .setParameter("id", first.getContent().get(1).id)
+                .executeUpdate();
+        entityManager.clear();
+
+        Page<Produto> second = service.filter(filter, PageRequest.of(0, 10, Sort.by("id")));
+        assertEquals(List.of(first.getContent().get(0).id), second.getContent().stream().map(p -> p.id).toList());
+    }
+
+    @Test
+    void keyDependsOnValuesSortAndPage() {
+        ProdutoFilterDTO a = new ProdutoFilterDTO();
+        a.nome = "x";
+        ProdutoFilterDTO b = new ProdutoFilterDTO();
+        b.nome = "x";
+
+        assertEquals(FilterResultCache.Key.of(Produto.class, a, PageRequest.of(0, 10)),
+                FilterResultCache.Key.of(Produto.class, b, PageRequest.of(0, 10)));
+        assertNotEquals(FilterResultCache.Key.of(Produto.class, a, PageRequest.of(0, 10)),
+                FilterResultCache.Key.of(Produto.class, b, PageRequest.of(0, 10, Sort.by("nome"))));
+        assertNotEquals(FilterResultCache.Key.of(Produto.class, a, PageRequest.of(0, 10)),
+                FilterResultCache.Key.of(Produto.class, b, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void expiresAndEvictsLeastRecentlyUsed() {
+        FilterResultCache cache = new FilterResultCache(Duration.ofMinutes(1), 2);
+        FilterResultCache.Key first = key("a");
+        cache.get(first, () -> 1);
+        cache.get(key("b"), () -> 2);
+        cache.get(first, () -> 0);
+        cache.get(key("c"), () -> 3);
+
+        assertEquals(1, cache.get(first, () -> 0));
+        assertEquals(0, cache.get(key("b"), () -> 0));
+        assertTrue(cache.getStatistics().evictions() >= 1);
+
+        FilterResultCache expiring = new FilterResultCache(Duration.ZERO, 2);
+        expiring.get(first, () -> 1);
+        assertEquals(2, expiring.get(first, () -> 2));
+    }
+
+    @Test
+    void resultComputedDuringInvalidationIsNotStored() {
+        FilterResultCache cache = new FilterResultCache(Duration.ofMinutes(1), 10);
+        AtomicInteger loads = new AtomicInteger();
+        FilterResultCache.Key key = key("a");
+
+        cache.get(key, () -> {
+            cache.invalidate(Produto.class);
+            return loads.incrementAndGet();
+        });
+        cache.get(key, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    private static Produto produto(String nome) {
+        Produto produto = new Produto();
+        produto.nome = nome;
+        return produto;
+    }
+
+    private static FilterResultCache.Key key(String nome) {
+        ProdutoFilterDTO filter = new ProdutoFilterDTO();
+        filter.nome = nome;
+        return FilterResultCache.Key.of(Produto.class, filter, PageRequest.of(0, 10));
+    }
+}
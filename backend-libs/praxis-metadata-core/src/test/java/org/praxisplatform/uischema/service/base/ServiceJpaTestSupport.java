@@ -0,0 +1,64 @@
+package org.praxisplatform.uischema.service.base;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.praxisplatform.uischema.filter.dto.GenericFilterDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Base dos testes JPA dos serviços: todas as subclasses compartilham o mesmo contexto {@link DataJpaTest}, com as
+ * estatísticas do Hibernate habilitadas. As entidades aninhadas nas subclasses pertencem à mesma unidade de
+ * persistência, portanto seus nomes devem ser únicos no pacote.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = ServiceJpaTestSupport.TestConfiguration.class)
+abstract class ServiceJpaTestSupport {
+
+    // @Configuration (e não @SpringBootConfiguration) para não ser adotada por outros testes do pacote
+    @Configuration
+    @AutoConfigurationPackage
+    static class TestConfiguration {
+    }
+
+    static class VazioFilterDTO implements GenericFilterDTO {
+    }
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    /**
+     * Cria o repositório Spring Data informado sobre o {@link #entityManager} do teste.
+     */
+    protected <R extends Repository<?, ?>> R repository(Class<R> repositoryInterface) {
+        return new JpaRepositoryFactory(entityManager).getRepository(repositoryInterface);
+    }
+
+    /**
+     * Associa o {@link #entityManager} do teste ao serviço.
+     */
+    protected <S extends AbstractBaseCrudService<?, ?, ?, ?>> S withEntityManager(S service) {
+        service.setEntityManager(entityManager);
+        return service;
+    }
+
+    /**
+     * @return as estatísticas do Hibernate, zeradas
+     */
+    protected Statistics clearedStatistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    protected void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
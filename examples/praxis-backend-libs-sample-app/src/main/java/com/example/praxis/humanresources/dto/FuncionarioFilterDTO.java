@@ -11,6 +11,10 @@ import java.util.List;
 
 public class FuncionarioFilterDTO implements GenericFilterDTO {
 
+    @UISchema
+    @Filterable(operation = Filterable.FilterOperation.FULL_TEXT, searchFields = {"nomeCompleto", "email", "cpf"})
+    private String busca;
+
     @UISchema
     @Filterable(operation = Filterable.FilterOperation.LIKE)
     private String nomeCompleto;
@@ -86,6 +90,14 @@ public class FuncionarioFilterDTO implements GenericFilterDTO {
     private Boolean ativo;
 
     // Getters and Setters
+    public String getBusca() {
+        return busca;
+    }
+
+    public void setBusca(String busca) {
+        this.busca = busca;
+    }
+
     public String getNomeCompleto() {
         return nomeCompleto;
     }
@@ -10,8 +10,11 @@ import java.util.List;
 @Table(name = "funcionarios")
 public class Funcionario {
 
+    // Sequência (em vez de IDENTITY) para que as importações via POST /batch agrupem os inserts em lotes JDBC;
+    // começa após os registros de data.sql.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funcionarios_seq")
+    @SequenceGenerator(name = "funcionarios_seq", sequenceName = "funcionarios_seq", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)